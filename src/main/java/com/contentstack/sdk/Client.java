@@ -1,5 +1,8 @@
 package com.contentstack.sdk;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
@@ -9,6 +12,7 @@ import retrofit2.converter.gson.GsonConverterFactory;
  */
 public class Client {
     private static Retrofit retrofit;
+    private static volatile OkHttpClient base;
 
     private Client() {
         // Private constructor to prevent instantiation
@@ -31,12 +35,47 @@ public class Client {
         return retrofit;
     }
 
+    /**
+     * Create a Retrofit instance for the specified host that uses its own OkHttp client.
+     * The instance is not shared, so the caller owns the lifecycle of the client.
+     *
+     * @param host       The host of the API.
+     * @param httpClient The OkHttp client used to execute the calls.
+     * @return Retrofit instance.
+     */
+    public static Retrofit newInstance(String host, OkHttpClient httpClient) {
+        return newBuilder(host).client(httpClient).build();
+    }
+
+    /**
+     * Create a builder of an OkHttp client with its own connection pool and dispatcher, so closing it does not
+     * affect other clients. The clients share the TLS setup, which is costly to build.
+     *
+     * @return the builder
+     */
+    public static OkHttpClient.Builder newHttpClientBuilder() {
+        OkHttpClient shared = base;
+        if (shared == null) {
+            synchronized (Client.class) {
+                shared = base;
+                if (shared == null) {
+                    shared = new OkHttpClient();
+                    base = shared;
+                }
+            }
+        }
+        return shared.newBuilder().connectionPool(new ConnectionPool()).dispatcher(new Dispatcher());
+    }
+
     private static Retrofit createRetrofitInstance(String host) {
+        return newBuilder(host).build();
+    }
+
+    private static Retrofit.Builder newBuilder(String host) {
         String BASE_URL = "https://" + host + "/";
         return new Retrofit.Builder()
                 .baseUrl(BASE_URL)
-                .addConverterFactory(GsonConverterFactory.create())
-                .build();
+                .addConverterFactory(GsonConverterFactory.create());
     }
 }
 
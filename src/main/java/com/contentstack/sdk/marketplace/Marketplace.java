@@ -4,11 +4,18 @@ package com.contentstack.sdk.marketplace;
 import com.contentstack.sdk.Client;
 import com.contentstack.sdk.Region;
 import com.contentstack.sdk.marketplace.apps.App;
+import com.contentstack.sdk.marketplace.apps.oauth.ScopeCatalog;
 import com.contentstack.sdk.marketplace.auths.Auth;
 import com.contentstack.sdk.marketplace.installations.Installation;
+import com.contentstack.sdk.marketplace.installations.InstallationInformer;
 import com.contentstack.sdk.marketplace.login.LoginModel;
 import com.contentstack.sdk.marketplace.login.LoginService;
 import com.contentstack.sdk.marketplace.request.AppRequest;
+import com.contentstack.sdk.marketplace.scheduler.PriorityScheduler;
+import com.contentstack.sdk.marketplace.scheduler.TimerWheel;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
 import org.jetbrains.annotations.NotNull;
 import org.json.simple.JSONObject;
 import retrofit2.Call;
@@ -18,24 +25,62 @@ import retrofit2.converter.gson.GsonConverterFactory;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * The type Marketplace.
+ * <p>
+ * Each marketplace has its own HTTP client, with its own connection pool and dispatcher threads, and holds
+ * the shared {@link TimerWheel} of the background work. {@link #close()} releases them: calls in flight are
+ * given time to finish, then cancelled, the idle connections are closed and the scope catalog and
+ * installation informer of the organisation on this marketplace are stopped; those of other marketplaces
+ * keep running. A service that rebuilds its marketplace on reload closes the previous one.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * try (Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID").build()) {
+ * marketplace.app("appUid").fetchApp().execute();
+ * }
+ * </code>
+ */
+public class Marketplace implements AutoCloseable {
 
-
-public class Marketplace {
+    /**
+     * The default time {@link #close()} waits for the calls in flight, five seconds.
+     */
+    public static final long DEFAULT_CLOSE_TIMEOUT_MILLIS = 5000;
 
     private final Retrofit client;
     protected final String orgId;
     private final String host;
 
     private final String authtoken;
-
-    private Marketplace(String authtoken, String organizationUid, String host, Region region) {
-        this.authtoken = authtoken;
-        this.orgId = organizationUid;
-        if (region != null) {
-            host = region.name().toLowerCase() + "-" + host;
+    private final OkHttpClient httpClient;
+    private final TimerWheel timers;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Marketplace(Builder builder) {
+        this.authtoken = builder.authtoken;
+        this.orgId = builder.orgId;
+        String host = builder.host;
+        if (builder.region != null) {
+            host = builder.region.name().toLowerCase() + "-" + host;
         }
         this.host = host.isEmpty() ? Constants.DEFAULT_HOST : host;
-        this.client = Client.getInstance(this.host);
+        OkHttpClient.Builder httpBuilder = Client.newHttpClientBuilder();
+        if (builder.interceptor != null) {
+            httpBuilder.addInterceptor(builder.interceptor);
+        }
+        if (builder.scheduler != null) {
+            builder.scheduler.install(httpBuilder);
+        }
+        this.httpClient = httpBuilder.build();
+        this.client = Client.newInstance(this.host, httpClient);
+        this.timers = TimerWheel.acquireShared();
     }
 
     public static class Builder {
@@ -43,6 +88,8 @@ public class Marketplace {
         private String host;
         private Region region = null;
         private String authtoken;
+        private PriorityScheduler scheduler;
+        private Interceptor interceptor;
 
 
         public Builder(@NotNull String organizationUid) {
@@ -103,6 +150,36 @@ public class Marketplace {
             return this;
         }
 
+        /**
+         * Sets the priority scheduler that orders interactive calls ahead of bulk calls.
+         * The marketplace gets its own HTTP client when a scheduler is set.
+         *
+         * @param scheduler the priority scheduler
+         * @return the builder
+         * <p>
+         * <b>Example</b>
+         * <p>
+         * <code>
+         * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+         * .host("api.contentstack.io").priorityScheduler(new PriorityScheduler(16)).build();
+         * </code>
+         */
+        public Builder priorityScheduler(PriorityScheduler scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Adds an interceptor to the HTTP client of the marketplace, e.g. a stand-in transport.
+         *
+         * @param interceptor the interceptor
+         * @return the builder
+         */
+        Builder interceptor(Interceptor interceptor) {
+            this.interceptor = interceptor;
+            return this;
+        }
+
         /**
          * Build marketplace.
          *
@@ -116,7 +193,7 @@ public class Marketplace {
          * </code>
          */
         public Marketplace build() {
-            return new Marketplace(this.authtoken, this.orgId, this.host, this.region);
+            return new Marketplace(this);
         }
 
 
@@ -187,6 +264,7 @@ public class Marketplace {
      * </code>
      */
     public App app() {
+        ensureOpen();
         return new App(this.client, this.authtoken, this.orgId);
     }
 
@@ -206,6 +284,7 @@ public class Marketplace {
      * </code>
      */
     public App app(@NotNull String uid) {
+        ensureOpen();
         return new App(this.client, this.authtoken, this.orgId, uid);
     }
 
@@ -224,6 +303,7 @@ public class Marketplace {
      * </code>
      */
     public Auth authorizations() {
+        ensureOpen();
         return new Auth(this.client, this.authtoken, this.orgId);
     }
 
@@ -242,6 +322,7 @@ public class Marketplace {
      * </code>
      */
     public Installation installation() {
+        ensureOpen();
         return new Installation(this.client, this.authtoken, this.orgId);
     }
 
@@ -260,6 +341,7 @@ public class Marketplace {
      * </code>
      */
     public Installation installation(String installationId) {
+        ensureOpen();
         return new Installation(this.client, this.authtoken, this.orgId, installationId);
     }
 
@@ -277,6 +359,137 @@ public class Marketplace {
      * </code>
      */
     public AppRequest request() {
+        ensureOpen();
         return new AppRequest(this.client, this.authtoken, this.orgId);
     }
+
+    /**
+     * Returns the timer wheel that runs the background work of the SDK: scope catalog refreshes, deployment
+     * polls and installation syncs. Use it for your own timers instead of another scheduler thread. The
+     * wheel is shared by the marketplaces of the process and cannot be shut down from here; it stops, and
+     * drops your pending timers, once the last marketplace is closed and nothing else holds it. Acquire it
+     * with {@link TimerWheel#acquireShared()} for timers that must outlive the marketplaces.
+     *
+     * @return the timer wheel
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+     * .host("api.contentstack.io").build();
+     * marketplace.timers().scheduleWithFixedDelay(this::report, 1, 1, TimeUnit.MINUTES);
+     * </code>
+     */
+    public TimerWheel timers() {
+        return this.timers;
+    }
+
+    /**
+     * Returns true once the marketplace was closed.
+     *
+     * @return true when closed
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Returns the HTTP client of the marketplace, whose connection pool and dispatcher close with it.
+     *
+     * @return the HTTP client
+     */
+    OkHttpClient httpClient() {
+        return this.httpClient;
+    }
+
+    /**
+     * Closes the marketplace, waiting up to {@link #DEFAULT_CLOSE_TIMEOUT_MILLIS} for the calls in flight.
+     *
+     * @see #close(long)
+     */
+    @Override
+    public void close() {
+        close(DEFAULT_CLOSE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Closes the marketplace. New apps, installations and requests can no longer be created from it. The
+     * calls in flight are given until the timeout to finish, and those still running then are cancelled.
+     * The dispatcher threads stop, the idle connections are closed, the scope catalog and installation
+     * informer of the organisation on this marketplace stop syncing, and the marketplace releases the shared
+     * {@link TimerWheel}, which stops once nothing holds it anymore. Closing again does nothing.
+     *
+     * @param timeoutMillis the time to wait for the calls in flight
+     * @return true when every call finished in time, false when some were cancelled
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace previous = current;
+     * current = new Marketplace.Builder("ORGANIZATION_UID").build();
+     * previous.close(10_000);
+     * </code>
+     */
+    public boolean close(long timeoutMillis) {
+        if (!closed.compareAndSet(false, true)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutMillis));
+        ScopeCatalog.closeShared(this.client, this.orgId);
+        InstallationInformer.closeShared(this.client, this.orgId);
+        TimerWheel.releaseShared(this.timers);
+        Dispatcher dispatcher = this.httpClient.dispatcher();
+        boolean drained = drain(dispatcher, deadline);
+        if (!drained) {
+            dispatcher.cancelAll();
+        }
+        ExecutorService threads = dispatcher.executorService();
+        threads.shutdown();
+        try {
+            threads.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.httpClient.connectionPool().evictAll();
+        if (this.httpClient.cache() != null) {
+            try {
+                this.httpClient.cache().close();
+            } catch (IOException e) {
+                // the cache files are left as they are, nothing else holds them
+            }
+        }
+        return drained;
+    }
+
+    private static boolean drain(Dispatcher dispatcher, long deadline) {
+        Object idle = new Object();
+        dispatcher.setIdleCallback(() -> {
+            synchronized (idle) {
+                idle.notifyAll();
+            }
+        });
+        try {
+            synchronized (idle) {
+                while (dispatcher.runningCallsCount() + dispatcher.queuedCallsCount() > 0) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(idle, remaining);
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            dispatcher.setIdleCallback(null);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed.get()) {
+            throw new IllegalStateException("Marketplace is closed");
+        }
+    }
 }
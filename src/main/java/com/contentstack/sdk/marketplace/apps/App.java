@@ -4,6 +4,8 @@ import com.contentstack.sdk.BaseImplementation;
 import com.contentstack.sdk.marketplace.Constants;
 import com.contentstack.sdk.marketplace.apps.hosting.Hosting;
 import com.contentstack.sdk.marketplace.apps.oauth.Oauth;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.bulk.RateLimiter;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
 import org.json.simple.JSONObject;
@@ -11,6 +13,7 @@ import retrofit2.Call;
 import retrofit2.Retrofit;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.contentstack.sdk.marketplace.Constants.ERROR_NO_ORGANIZATION_UID;
@@ -263,6 +266,73 @@ public class App implements BaseImplementation<App> {
         return service.deleteAuthorization(this.headers, this.appUid, authorizationUid);
     }
 
+    /**
+     * Streams all the authorizations of the app, {@link PageIterator#DEFAULT_PAGE_SIZE} per page.
+     *
+     * @return the authorizations
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * PageIterator authorizations = marketplace.app("appUid").streamAuthorizations();
+     * while (authorizations.hasNext()) { audit(authorizations.next()); }
+     * </code>
+     */
+    public PageIterator streamAuthorizations() {
+        return streamAuthorizations(PageIterator.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Streams all the authorizations of the app, fetching a page only when the previous one is consumed.
+     * The parameters of the app, such as filters, are sent with every page.
+     *
+     * @param pageSize the number of authorizations per page
+     * @return the authorizations
+     */
+    public PageIterator streamAuthorizations(int pageSize) {
+        return streamAuthorizations(pageSize, null);
+    }
+
+    PageIterator streamAuthorizations(int pageSize, RateLimiter rateLimiter) {
+        Objects.requireNonNull(this.appUid, "Manifest uid is required");
+        Map<String, String> pageHeaders = new HashMap<>(this.headers);
+        String uid = this.appUid;
+        return new PageIterator(query -> service.findAppAuthorizations(pageHeaders, uid, query), this.params,
+                pageSize, rateLimiter);
+    }
+
+    /**
+     * Returns a builder for the revocation of many authorizations, of this app or of any app of the
+     * organization, in parallel and at a capped rate.
+     *
+     * @return the revocation builder
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * AuthorizationRevocation revocation = marketplace.app().revokeAuthorizations()
+     * .parallelism(32).requestsPerSecond(50).build();
+     * BulkReport&lt;Authorization, String&gt; report = revocation.revokeMatching(appUids,
+     * authorization -&gt; compromisedUsers.contains(authorization.get("user_uid")));
+     * </code>
+     */
+    public AuthorizationRevocation.Builder revokeAuthorizations() {
+        return new AuthorizationRevocation.Builder(this);
+    }
+
+    /**
+     * Returns a copy of this app for another app uid, with the same headers and parameters.
+     *
+     * @param uid the app uid of the copy
+     * @return the app
+     */
+    App withUid(String uid) {
+        App app = new App(this.client, null, this.headers.get(Constants.ORGANIZATION_UID), uid);
+        app.addHeaders(this.headers);
+        app.addParams(this.params);
+        return app;
+    }
+
     /**
      * Find app installations call.
      *
@@ -281,6 +351,37 @@ public class App implements BaseImplementation<App> {
         return service.listAppInstallations(this.headers, this.appUid, this.params);
     }
 
+    /**
+     * Streams all the installations of the app, {@link PageIterator#DEFAULT_PAGE_SIZE} per page.
+     *
+     * @return the installations
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * PageIterator installations = marketplace.app("appUid").streamInstallations();
+     * while (installations.hasNext()) { upgrade(installations.next()); }
+     * </code>
+     */
+    public PageIterator streamInstallations() {
+        return streamInstallations(PageIterator.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Streams all the installations of the app, fetching a page only when the previous one is consumed.
+     * The parameters of the app, such as filters, are sent with every page.
+     *
+     * @param pageSize the number of installations per page
+     * @return the installations
+     */
+    public PageIterator streamInstallations(int pageSize) {
+        Objects.requireNonNull(this.appUid, "Manifest uid is required");
+        Map<String, String> pageHeaders = new HashMap<>(this.headers);
+        String uid = this.appUid;
+        return new PageIterator(query -> service.listAppInstallations(pageHeaders, uid, query), this.params,
+                pageSize, null);
+    }
+
     /**
      * Find apps call.
      *
@@ -299,6 +400,33 @@ public class App implements BaseImplementation<App> {
         return service.listApps(this.headers, this.params);
     }
 
+    /**
+     * Streams all the apps of the organization, {@link PageIterator#DEFAULT_PAGE_SIZE} per page.
+     *
+     * @return the apps
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * List&lt;String&gt; appIds = OauthAudit.appIdsOf(marketplace.app().streamApps());
+     * </code>
+     */
+    public PageIterator streamApps() {
+        return streamApps(PageIterator.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Streams all the apps of the organization, fetching a page only when the previous one is consumed.
+     * The parameters of the app, such as filters, are sent with every page.
+     *
+     * @param pageSize the number of apps per page
+     * @return the apps
+     */
+    public PageIterator streamApps(int pageSize) {
+        Map<String, String> pageHeaders = new HashMap<>(this.headers);
+        return new PageIterator(query -> service.listApps(pageHeaders, query), this.params, pageSize, null);
+    }
+
     /**
      * Create app call.
      *
@@ -395,6 +523,35 @@ public class App implements BaseImplementation<App> {
         return service.listAppRequests(this.headers, this.appUid, this.params);
     }
 
+    /**
+     * Returns a builder for a staged rollout of {@link #updateVersion(JSONObject)} across the installations
+     * of this app.
+     *
+     * @return the rollout builder
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+     * .host("api.contentstack.io").build();
+     * RolloutReport report = marketplace.app("appUid").rollout()
+     * .installations(installations).parallelism(32).abortErrorRate(0.05).build().run();
+     * </code>
+     */
+    public Rollout.Builder rollout() {
+        Objects.requireNonNull(this.appUid, "Manifest uid is required");
+        return new Rollout.Builder(copy());
+    }
+
+    /**
+     * Returns a copy of this app with the same headers and parameters.
+     *
+     * @return the app
+     */
+    App copy() {
+        return withUid(this.appUid);
+    }
+
     /**
      * Returns Instance of oauth
      *
@@ -60,16 +60,16 @@ public interface AppService {
     /**
      * Delete authorization call.
      *
-     * @param headers the headers
-     * @param uid     the uid
-     * @param orgId   the org id
+     * @param headers          the headers
+     * @param uid              the uid
+     * @param authorizationUid the authorization uid
      * @return the call
      */
-    @DELETE("manifests/{uid}/authorizations/{uid}")
+    @DELETE("manifests/{uid}/authorizations/{authorization_uid}")
     Call<ResponseBody> deleteAuthorization(
             @HeaderMap Map<String, String> headers,
             @Path("uid") String uid,
-            @Path("uid") String orgId);
+            @Path("authorization_uid") String authorizationUid);
 
     /**
      * List app installations call.
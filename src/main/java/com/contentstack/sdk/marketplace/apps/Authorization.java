@@ -0,0 +1,102 @@
+package com.contentstack.sdk.marketplace.apps;
+
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.util.Objects;
+
+/**
+ * The type Authorization.
+ * <p>
+ * An authorization to revoke, identified by its app uid and authorization uid. Two authorizations are equal
+ * when both match, whatever details they carry, and their {@code toString()} is {@code app/authorization},
+ * which is also their key in a {@link com.contentstack.sdk.marketplace.bulk.BulkCheckpoint}.
+ */
+public final class Authorization {
+
+    private final String appUid;
+    private final String authorizationUid;
+    private final JSONObject authorization;
+
+    private Authorization(String appUid, String authorizationUid, JSONObject authorization) {
+        this.appUid = Objects.requireNonNull(appUid, "appUid is required");
+        this.authorizationUid = Objects.requireNonNull(authorizationUid, "authorizationUid is required");
+        this.authorization = authorization;
+    }
+
+    /**
+     * Returns the authorization with the given uids.
+     *
+     * @param appUid           the app uid
+     * @param authorizationUid the authorization uid
+     * @return the authorization
+     */
+    public static Authorization of(@NotNull String appUid, @NotNull String authorizationUid) {
+        return new Authorization(appUid, authorizationUid, null);
+    }
+
+    /**
+     * Returns the authorization as listed by {@link App#streamAuthorizations()}, identified by its
+     * {@code authorization_uid}, or its {@code uid} when it has none.
+     *
+     * @param appUid        the app uid
+     * @param authorization the listed authorization
+     * @return the authorization, or null when it has no uid
+     */
+    public static Authorization of(@NotNull String appUid, @NotNull JSONObject authorization) {
+        Object uid = authorization.get("authorization_uid");
+        if (uid == null) {
+            uid = authorization.get("uid");
+        }
+        return uid != null ? new Authorization(appUid, uid.toString(), authorization) : null;
+    }
+
+    /**
+     * Returns the app uid.
+     *
+     * @return the app uid
+     */
+    public String getAppUid() {
+        return appUid;
+    }
+
+    /**
+     * Returns the authorization uid.
+     *
+     * @return the authorization uid
+     */
+    public String getAuthorizationUid() {
+        return authorizationUid;
+    }
+
+    /**
+     * Returns the authorization as listed by {@link App#streamAuthorizations()}.
+     *
+     * @return the authorization, or null when it was not listed
+     */
+    public JSONObject getAuthorization() {
+        return authorization;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Authorization)) {
+            return false;
+        }
+        Authorization that = (Authorization) other;
+        return appUid.equals(that.appUid) && authorizationUid.equals(that.authorizationUid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(appUid, authorizationUid);
+    }
+
+    @Override
+    public String toString() {
+        return appUid + "/" + authorizationUid;
+    }
+}
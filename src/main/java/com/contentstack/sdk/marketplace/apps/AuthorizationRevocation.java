@@ -0,0 +1,269 @@
+package com.contentstack.sdk.marketplace.apps;
+
+import com.contentstack.sdk.marketplace.bulk.BulkCheckpoint;
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkListener;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.bulk.RateLimiter;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * The type Authorization revocation.
+ * <p>
+ * Revokes many authorizations with {@link App#deleteAuthorization(String)}, up to {@code parallelism} at a
+ * time. Every call, listing pages and retry attempts included, takes a token from one {@link RateLimiter},
+ * so containing an incident does not trip the rate limits of the API. An authorization that is already gone
+ * counts as revoked.
+ * <p>
+ * {@link #revokeMatching(Collection, Predicate)} streams the authorizations of each app and revokes the ones
+ * that match. The matches are collected before the first revocation, because revoking while the listing is
+ * paged shifts the authorizations not yet listed out of the next page.
+ * <p>
+ * Every call is tagged {@link Priority#BULK}.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * AuthorizationRevocation revocation = marketplace.app().revokeAuthorizations()
+ * .parallelism(32).requestsPerSecond(50, 10).build();
+ * BulkReport&lt;Authorization, String&gt; report = revocation.revokeMatching(appUids,
+ * authorization -&gt; compromisedUsers.contains(authorization.get("user_uid")));
+ * </code>
+ */
+public class AuthorizationRevocation {
+
+    /**
+     * The default number of revocations running at a time.
+     */
+    public static final int DEFAULT_PARALLELISM = 16;
+
+    private final App app;
+    private final BulkExecutor executor;
+    private final RateLimiter rateLimiter;
+    private final int pageSize;
+    private final BulkCheckpoint checkpoint;
+    private final BulkListener<Authorization, String> listener;
+    private final Map<String, App> apps = new ConcurrentHashMap<>();
+
+    private AuthorizationRevocation(Builder builder) {
+        this.app = builder.app;
+        this.rateLimiter = new RateLimiter(builder.requestsPerSecond, builder.burst);
+        this.executor = new BulkExecutor.Builder().parallelism(builder.parallelism).retry(builder.retryPolicy)
+                .rateLimit(rateLimiter).build();
+        this.pageSize = builder.pageSize;
+        this.checkpoint = builder.checkpoint;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Streams the authorizations of the apps and returns the ones that match.
+     *
+     * @param appUids the app uids
+     * @param matches the filter
+     * @return the matching authorizations
+     * @throws IOException when a listing page cannot be fetched
+     */
+    public List<Authorization> findMatching(@NotNull Collection<String> appUids,
+                                            @NotNull Predicate<JSONObject> matches) throws IOException {
+        Objects.requireNonNull(appUids, "appUids are required");
+        Objects.requireNonNull(matches, "matches is required");
+        Set<Authorization> found = new LinkedHashSet<>();
+        for (String appUid : new LinkedHashSet<>(appUids)) {
+            PageIterator authorizations = app(appUid).streamAuthorizations(pageSize, rateLimiter);
+            try {
+                while (authorizations.hasNext()) {
+                    JSONObject authorization = authorizations.next();
+                    if (matches.test(authorization) && Authorization.of(appUid, authorization) != null) {
+                        found.add(Authorization.of(appUid, authorization));
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Finds the authorizations of the apps that match and revokes them.
+     *
+     * @param appUids the app uids
+     * @param matches the filter
+     * @return the outcome of each revocation
+     * @throws IOException when a listing page cannot be fetched or the checkpoint cannot be written
+     */
+    public BulkReport<Authorization, String> revokeMatching(@NotNull Collection<String> appUids,
+                                                            @NotNull Predicate<JSONObject> matches)
+            throws IOException {
+        return revoke(findMatching(appUids, matches));
+    }
+
+    /**
+     * Revokes the authorizations, each once however many times it is given.
+     *
+     * @param authorizations the authorizations
+     * @return the outcome of each revocation, with the body of the response on success
+     * @throws IOException when the checkpoint cannot be written
+     */
+    public BulkReport<Authorization, String> revoke(@NotNull Collection<Authorization> authorizations)
+            throws IOException {
+        Objects.requireNonNull(authorizations, "authorizations are required");
+        return executor.run(new LinkedHashSet<>(authorizations), this::revokeOne, checkpoint, listener);
+    }
+
+    private String revokeOne(Authorization authorization) throws IOException {
+        try {
+            return Responses.execute(app(authorization.getAppUid())
+                    .deleteAuthorization(authorization.getAuthorizationUid()));
+        } catch (HttpStatusException e) {
+            if (e.getCode() == 404) {
+                return "";
+            }
+            throw e;
+        }
+    }
+
+    private App app(String appUid) {
+        return apps.computeIfAbsent(appUid, uid -> Priority.BULK.tag(app.withUid(uid)));
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private final App app;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private double requestsPerSecond = 20;
+        private int burst = 1;
+        private RetryPolicy retryPolicy = new RetryPolicy(3, 500, 10_000);
+        private int pageSize = PageIterator.DEFAULT_PAGE_SIZE;
+        private BulkCheckpoint checkpoint;
+        private BulkListener<Authorization, String> listener;
+
+        Builder(App app) {
+            this.app = app;
+        }
+
+        /**
+         * Sets the maximum number of revocations running at a time. Defaults to
+         * {@link AuthorizationRevocation#DEFAULT_PARALLELISM}.
+         *
+         * @param parallelism the parallelism
+         * @return the builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the pace of the calls, listing pages and revocations together. Defaults to 20 per second with
+         * no burst.
+         *
+         * @param requestsPerSecond the calls per second
+         * @param burst             the calls allowed at once after an idle period
+         * @return the builder
+         */
+        public Builder requestsPerSecond(double requestsPerSecond, int burst) {
+            if (!(requestsPerSecond > 0)) {
+                throw new IllegalArgumentException("requestsPerSecond must be positive");
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be at least 1");
+            }
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Sets the pace of the calls, listing pages and revocations together, with no burst.
+         *
+         * @param requestsPerSecond the calls per second
+         * @return the builder
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            return requestsPerSecond(requestsPerSecond, 1);
+        }
+
+        /**
+         * Sets how many times a revocation is attempted when it fails with a timeout, 429 or 5xx. Defaults
+         * to 3 attempts.
+         *
+         * @param retryPolicy the retry policy
+         * @return the builder
+         */
+        public Builder retry(@NotNull RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy is required");
+            return this;
+        }
+
+        /**
+         * Sets the number of authorizations per listing page. Defaults to
+         * {@link PageIterator#DEFAULT_PAGE_SIZE}.
+         *
+         * @param pageSize the page size
+         * @return the builder
+         */
+        public Builder pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("pageSize must be at least 1");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the checkpoint of revoked authorizations, so a revocation that stopped part way can be run
+         * again without revoking the same authorizations twice.
+         *
+         * @param checkpoint the checkpoint, or null
+         * @return the builder
+         */
+        public Builder checkpoint(BulkCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        /**
+         * Sets the listener notified as each revocation completes.
+         *
+         * @param listener the listener, or null
+         * @return the builder
+         */
+        public Builder listener(BulkListener<Authorization, String> listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Build authorization revocation.
+         *
+         * @return the authorization revocation
+         */
+        public AuthorizationRevocation build() {
+            return new AuthorizationRevocation(this);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.contentstack.sdk.marketplace.apps;
+
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The type Rollout.
+ * <p>
+ * Upgrades the installations of an app with {@link App#updateVersion(JSONObject)} in waves instead of all at
+ * once. The first wave is a canary of a few installations, then the rollout grows to the cumulative
+ * fractions of the fleet given to the builder, 1% and 10% by default, and finally to the rest. Each wave runs
+ * in parallel up to the parallelism limit. After each wave the error rate of the wave decides what happens
+ * next: above the abort threshold the rollout stops, above the pause threshold the {@link Gate} decides
+ * whether to resume, otherwise the next wave starts. The last wave has no next wave to gate: above either
+ * threshold the rollout ends {@link RolloutReport.Status#FAILED}.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * List&lt;JSONObject&gt; installations = Rollout.installationsOf(app.streamInstallations());
+ * RolloutReport report = app.rollout().installations(installations)
+ * .pauseErrorRate(0.01).abortErrorRate(0.05)
+ * .gate(wave -&gt; operator.approve(wave))
+ * .build().run();
+ * </code>
+ */
+public class Rollout {
+
+    /**
+     * The interface Gate.
+     * <p>
+     * Decides whether a paused rollout resumes. It is called on the thread running the rollout, which waits
+     * for the answer, so a gate can block until an operator decides.
+     */
+    @FunctionalInterface
+    public interface Gate {
+
+        /**
+         * Called when the error rate of a wave is above the pause threshold.
+         *
+         * @param wave the wave that caused the pause
+         * @return true to resume with the next wave, false to abort
+         */
+        boolean resume(RolloutWave wave);
+    }
+
+    private final App app;
+    private final List<JSONObject> installations;
+    private final int canarySize;
+    private final double[] waveFractions;
+    private final double pauseErrorRate;
+    private final double abortErrorRate;
+    private final Gate gate;
+    private final BulkExecutor executor;
+    private final Function<JSONObject, JSONObject> body;
+
+    private Rollout(Builder builder) {
+        this.app = Priority.BULK.tag(builder.app);
+        this.installations = new ArrayList<>(builder.installations);
+        this.canarySize = builder.canarySize;
+        this.waveFractions = builder.waveFractions;
+        this.pauseErrorRate = builder.pauseErrorRate;
+        this.abortErrorRate = builder.abortErrorRate;
+        this.gate = builder.gate;
+        this.executor = new BulkExecutor.Builder()
+                .parallelism(builder.parallelism)
+                .retry(builder.retryPolicy)
+                .build();
+        this.body = builder.body;
+    }
+
+    /**
+     * Reads every page of {@link App#streamInstallations()} and returns the installations it lists.
+     *
+     * @param installations the installations
+     * @return the installations
+     * @throws IOException when a page cannot be fetched
+     */
+    public static List<JSONObject> installationsOf(@NotNull PageIterator installations) throws IOException {
+        Objects.requireNonNull(installations, "installations are required");
+        List<JSONObject> all = new ArrayList<>();
+        try {
+            installations.forEachRemaining(all::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return all;
+    }
+
+    /**
+     * Splits the installations into waves. Every wave holds at least one installation, and waves whose
+     * cumulative size does not grow are dropped.
+     *
+     * @return the installations of each wave
+     */
+    List<List<JSONObject>> waves() {
+        List<List<JSONObject>> waves = new ArrayList<>();
+        int total = installations.size();
+        int start = 0;
+        List<Integer> ends = new ArrayList<>();
+        ends.add(Math.min(canarySize, total));
+        for (double fraction : waveFractions) {
+            ends.add((int) Math.min(total, Math.ceil(fraction * total)));
+        }
+        ends.add(total);
+        for (int end : ends) {
+            if (end > start) {
+                waves.add(installations.subList(start, end));
+                start = end;
+            }
+        }
+        return waves;
+    }
+
+    /**
+     * Runs the rollout wave by wave.
+     *
+     * @return the report
+     */
+    public RolloutReport run() {
+        List<RolloutWave> completed = new ArrayList<>();
+        List<List<JSONObject>> waves = waves();
+        for (int i = 0; i < waves.size(); i++) {
+            RolloutWave wave = new RolloutWave(i, waves.size(), runWave(waves.get(i)));
+            completed.add(wave);
+            boolean last = i == waves.size() - 1;
+            if (last && wave.getErrorRate() > Math.min(pauseErrorRate, abortErrorRate)) {
+                return new RolloutReport(RolloutReport.Status.FAILED, completed, 0);
+            }
+            if (wave.getErrorRate() > abortErrorRate) {
+                return new RolloutReport(RolloutReport.Status.ABORTED, completed, remaining(waves, i));
+            }
+            if (wave.getErrorRate() > pauseErrorRate && (gate == null || !gate.resume(wave))) {
+                return new RolloutReport(RolloutReport.Status.ABORTED, completed, remaining(waves, i));
+            }
+        }
+        return new RolloutReport(RolloutReport.Status.COMPLETED, completed, 0);
+    }
+
+    private BulkReport<String, String> runWave(List<JSONObject> wave) {
+        Map<String, JSONObject> byUid = new LinkedHashMap<>();
+        for (JSONObject installation : wave) {
+            byUid.put(String.valueOf(installation.get("uid")), installation);
+        }
+        try {
+            return executor.run(byUid.keySet(),
+                    uid -> Responses.execute(app.updateVersion(body.apply(byUid.get(uid)))), null, null);
+        } catch (IOException e) {
+            // only the checkpoint writes throw and the rollout runs without one
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int remaining(List<List<JSONObject>> waves, int last) {
+        int remaining = 0;
+        for (int i = last + 1; i < waves.size(); i++) {
+            remaining += waves.get(i).size();
+        }
+        return remaining;
+    }
+
+    /**
+     * Returns the default body of the update for one installation: its target type and target uid.
+     *
+     * @param installation the installation
+     * @return the body
+     */
+    @SuppressWarnings("unchecked")
+    static JSONObject targetOf(JSONObject installation) {
+        JSONObject body = new JSONObject();
+        Object target = installation.get("target");
+        if (target instanceof JSONObject) {
+            body.put("target_type", ((JSONObject) target).get("type"));
+            body.put("target_uid", ((JSONObject) target).get("uid"));
+        }
+        return body;
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private final App app;
+        private List<JSONObject> installations = Collections.emptyList();
+        private int canarySize = 1;
+        private double[] waveFractions = {0.01, 0.10};
+        private int parallelism = BulkExecutor.DEFAULT_PARALLELISM;
+        private RetryPolicy retryPolicy = RetryPolicy.NONE;
+        private double pauseErrorRate = 0;
+        private double abortErrorRate = 0.1;
+        private Gate gate;
+        private Function<JSONObject, JSONObject> body = Rollout::targetOf;
+
+        Builder(App app) {
+            this.app = app;
+        }
+
+        /**
+         * Sets the installations to upgrade, as listed by {@link App#streamInstallations()}.
+         *
+         * @param installations the installations
+         * @return the builder
+         */
+        public Builder installations(@NotNull List<JSONObject> installations) {
+            this.installations = Objects.requireNonNull(installations, "installations are required");
+            return this;
+        }
+
+        /**
+         * Sets the number of installations in the canary wave. Defaults to 1.
+         *
+         * @param canarySize the canary size
+         * @return the builder
+         */
+        public Builder canarySize(int canarySize) {
+            if (canarySize < 1) {
+                throw new IllegalArgumentException("canarySize must be at least 1");
+            }
+            this.canarySize = canarySize;
+            return this;
+        }
+
+        /**
+         * Sets the cumulative fractions of the fleet upgraded by the waves after the canary. The last wave
+         * always upgrades the rest. Defaults to 0.01 and 0.10.
+         *
+         * @param fractions the increasing fractions, each between 0 and 1
+         * @return the builder
+         */
+        public Builder waves(double... fractions) {
+            double previous = 0;
+            for (double fraction : fractions) {
+                if (fraction <= previous || fraction > 1) {
+                    throw new IllegalArgumentException("wave fractions must increase and be at most 1");
+                }
+                previous = fraction;
+            }
+            this.waveFractions = Arrays.copyOf(fractions, fractions.length);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of installations upgraded at a time within a wave.
+         *
+         * @param parallelism the parallelism
+         * @return the builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the retry policy for failed installations. A failure counts towards the error rate only after
+         * all its attempts.
+         *
+         * @param retryPolicy the retry policy
+         * @return the builder
+         */
+        public Builder retry(@NotNull RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy is required");
+            return this;
+        }
+
+        /**
+         * Sets the error rate of a wave above which the rollout pauses and asks the gate. Defaults to 0,
+         * so any failure pauses the rollout.
+         *
+         * @param pauseErrorRate the error rate, between 0 and 1
+         * @return the builder
+         */
+        public Builder pauseErrorRate(double pauseErrorRate) {
+            this.pauseErrorRate = pauseErrorRate;
+            return this;
+        }
+
+        /**
+         * Sets the error rate of a wave above which the rollout aborts without asking the gate. Defaults
+         * to 0.1.
+         *
+         * @param abortErrorRate the error rate, between 0 and 1
+         * @return the builder
+         */
+        public Builder abortErrorRate(double abortErrorRate) {
+            this.abortErrorRate = abortErrorRate;
+            return this;
+        }
+
+        /**
+         * Sets the gate asked when the rollout pauses. Without a gate a paused rollout aborts.
+         *
+         * @param gate the gate
+         * @return the builder
+         */
+        public Builder gate(Gate gate) {
+            this.gate = gate;
+            return this;
+        }
+
+        /**
+         * Sets how the body of {@link App#updateVersion(JSONObject)} is built for an installation.
+         * Defaults to the {@code target_type} and {@code target_uid} of the installation.
+         *
+         * @param body the body function
+         * @return the builder
+         */
+        public Builder body(@NotNull Function<JSONObject, JSONObject> body) {
+            this.body = Objects.requireNonNull(body, "body is required");
+            return this;
+        }
+
+        /**
+         * Build rollout.
+         *
+         * @return the rollout
+         */
+        public Rollout build() {
+            if (pauseErrorRate > abortErrorRate) {
+                throw new IllegalArgumentException("pauseErrorRate cannot be above abortErrorRate");
+            }
+            return new Rollout(this);
+        }
+    }
+}
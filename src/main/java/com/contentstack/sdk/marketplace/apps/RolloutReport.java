@@ -0,0 +1,72 @@
+package com.contentstack.sdk.marketplace.apps;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The type Rollout report.
+ * <p>
+ * The outcome of a {@link Rollout}: the waves that ran and whether the rollout completed.
+ */
+public class RolloutReport {
+
+    /**
+     * The enum Status.
+     */
+    public enum Status {
+        /**
+         * Every wave ran.
+         */
+        COMPLETED,
+        /**
+         * The rollout stopped after a wave because of its error rate.
+         */
+        ABORTED,
+        /**
+         * Every wave ran, but the error rate of the last wave is above the pause or abort threshold.
+         */
+        FAILED
+    }
+
+    private final Status status;
+    private final List<RolloutWave> waves;
+    private final int notAttempted;
+
+    RolloutReport(Status status, List<RolloutWave> waves, int notAttempted) {
+        this.status = status;
+        this.waves = Collections.unmodifiableList(waves);
+        this.notAttempted = notAttempted;
+    }
+
+    /**
+     * Returns the status of the rollout.
+     *
+     * @return the status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the waves that ran, in order.
+     *
+     * @return the waves
+     */
+    public List<RolloutWave> getWaves() {
+        return waves;
+    }
+
+    /**
+     * Returns the number of installations left untouched because the rollout aborted.
+     *
+     * @return the not attempted count
+     */
+    public int getNotAttempted() {
+        return notAttempted;
+    }
+
+    @Override
+    public String toString() {
+        return "RolloutReport{" + status + ", waves=" + waves + ", notAttempted=" + notAttempted + "}";
+    }
+}
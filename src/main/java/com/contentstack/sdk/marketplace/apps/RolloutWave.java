@@ -0,0 +1,63 @@
+package com.contentstack.sdk.marketplace.apps;
+
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+
+/**
+ * The type Rollout wave.
+ * <p>
+ * The outcome of one wave of a {@link Rollout}.
+ */
+public class RolloutWave {
+
+    private final int index;
+    private final int waveCount;
+    private final BulkReport<String, String> report;
+
+    RolloutWave(int index, int waveCount, BulkReport<String, String> report) {
+        this.index = index;
+        this.waveCount = waveCount;
+        this.report = report;
+    }
+
+    /**
+     * Returns the position of the wave, 0 for the canary.
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the number of waves of the rollout.
+     *
+     * @return the wave count
+     */
+    public int getWaveCount() {
+        return waveCount;
+    }
+
+    /**
+     * Returns the outcome of each installation of the wave, keyed by installation uid.
+     *
+     * @return the report
+     */
+    public BulkReport<String, String> getReport() {
+        return report;
+    }
+
+    /**
+     * Returns the share of installations of the wave that failed.
+     *
+     * @return the error rate, between 0 and 1
+     */
+    public double getErrorRate() {
+        int size = report.getSucceeded().size() + report.getFailed().size();
+        return size == 0 ? 0 : (double) report.getFailed().size() / size;
+    }
+
+    @Override
+    public String toString() {
+        return "RolloutWave{" + (index + 1) + "/" + waveCount + ", " + report + "}";
+    }
+}
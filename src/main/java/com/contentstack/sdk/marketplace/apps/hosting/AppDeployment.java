@@ -0,0 +1,74 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import org.json.simple.JSONObject;
+
+/**
+ * The type App deployment.
+ * <p>
+ * The outcome of one app in a {@link DeploymentPipeline}.
+ */
+public class AppDeployment {
+
+    private final String appUid;
+    private final String deploymentUid;
+    private final BundleDeployment bundle;
+    private final JSONObject deployment;
+
+    AppDeployment(String appUid, String deploymentUid, BundleDeployment bundle, JSONObject deployment) {
+        this.appUid = appUid;
+        this.deploymentUid = deploymentUid;
+        this.bundle = bundle;
+        this.deployment = deployment;
+    }
+
+    /**
+     * Returns the uid of the app.
+     *
+     * @return the app uid
+     */
+    public String getAppUid() {
+        return appUid;
+    }
+
+    /**
+     * Returns the uid of the deployment.
+     *
+     * @return the deployment uid
+     */
+    public String getDeploymentUid() {
+        return deploymentUid;
+    }
+
+    /**
+     * Returns how the bundle was uploaded and deployed.
+     *
+     * @return the bundle deployment
+     */
+    public BundleDeployment getBundle() {
+        return bundle;
+    }
+
+    /**
+     * Returns the deployment as last fetched, in a terminal status.
+     *
+     * @return the deployment
+     */
+    public JSONObject getDeployment() {
+        return deployment;
+    }
+
+    /**
+     * Returns the terminal status of the deployment.
+     *
+     * @return the status
+     */
+    public String getStatus() {
+        Object status = deployment.get("status");
+        return status != null ? status.toString() : null;
+    }
+
+    @Override
+    public String toString() {
+        return "AppDeployment{" + appUid + ", " + deploymentUid + ", " + getStatus() + "}";
+    }
+}
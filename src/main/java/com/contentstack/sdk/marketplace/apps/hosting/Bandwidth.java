@@ -0,0 +1,244 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import okio.Buffer;
+import okio.ForwardingSink;
+import okio.ForwardingSource;
+import okio.Sink;
+import okio.Source;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The type Bandwidth.
+ * <p>
+ * A bytes-per-second limit shared by every transfer it is given to. It is a token bucket refilled at the
+ * limit, taken from in slices of at most {@link #getSliceSize()} bytes through throttled okio sources and
+ * sinks. Transfers waiting for the bucket are served one slice each in arrival order, so concurrent transfers
+ * split the limit evenly instead of the fastest one taking it all.
+ * <p>
+ * Use one instance for a global limit, for example across all the uploads of a host, and a new instance per
+ * transfer for a per-transfer limit. A transfer given both is held to the lower of the two. API calls are
+ * never throttled, so keeping bulk transfers below the capacity of the link leaves room for them.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * Bandwidth egress = Bandwidth.bytesPerSecond(20 * 1024 * 1024);
+ * hosting.bandwidth(egress);
+ * hosting.download(downloadUrl, Paths.get("build.zip")).throttle(Bandwidth.bytesPerSecond(5 * 1024 * 1024)).execute();
+ * </code>
+ */
+public final class Bandwidth {
+
+    private static final int MIN_SLICE = 1024;
+    private static final int MAX_SLICE = StreamingBody.BUFFER_SIZE;
+
+    private final long bytesPerSecond;
+    private final int sliceSize;
+    private final double maxTokens;
+    // a fair lock hands the bucket to waiting transfers in turn
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private double tokens;
+    private long refilledAt;
+
+    private Bandwidth(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+        this.sliceSize = (int) Math.max(MIN_SLICE, Math.min(MAX_SLICE, bytesPerSecond / 50));
+        // at most a tenth of a second of idle time is saved up as a burst
+        this.maxTokens = Math.max(sliceSize, bytesPerSecond / 10d);
+        this.tokens = sliceSize;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Returns a limit of the given number of bytes per second.
+     *
+     * @param bytesPerSecond the limit
+     * @return the bandwidth
+     */
+    public static Bandwidth bytesPerSecond(long bytesPerSecond) {
+        if (bytesPerSecond < 1) {
+            throw new IllegalArgumentException("bytesPerSecond must be at least 1");
+        }
+        return new Bandwidth(bytesPerSecond);
+    }
+
+    /**
+     * Returns the limit.
+     *
+     * @return the bytes per second
+     */
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Returns the largest number of bytes a transfer moves per turn.
+     *
+     * @return the slice size
+     */
+    public int getSliceSize() {
+        return sliceSize;
+    }
+
+    /**
+     * Returns a source that reads from the given source no faster than the limits.
+     *
+     * @param source the source
+     * @param limits the limits, all applied
+     * @return the throttled source, or the source itself without limits
+     */
+    public static Source source(@NotNull Source source, Bandwidth... limits) {
+        Objects.requireNonNull(source, "source is required");
+        Bandwidth[] applied = nonNull(limits);
+        if (applied.length == 0) {
+            return source;
+        }
+        return new ForwardingSource(source) {
+            @Override
+            public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+                long granted = acquire(applied, byteCount);
+                long read = super.read(sink, granted);
+                if (read < granted) {
+                    release(applied, granted - Math.max(read, 0));
+                }
+                return read;
+            }
+        };
+    }
+
+    /**
+     * Returns a sink that writes to the given sink no faster than the limits.
+     *
+     * @param sink   the sink
+     * @param limits the limits, all applied
+     * @return the throttled sink, or the sink itself without limits
+     */
+    public static Sink sink(@NotNull Sink sink, Bandwidth... limits) {
+        Objects.requireNonNull(sink, "sink is required");
+        Bandwidth[] applied = nonNull(limits);
+        if (applied.length == 0) {
+            return sink;
+        }
+        return new ForwardingSink(sink) {
+            @Override
+            public void write(@NotNull Buffer source, long byteCount) throws IOException {
+                while (byteCount > 0) {
+                    long granted = acquire(applied, byteCount);
+                    super.write(source, granted);
+                    byteCount -= granted;
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the limits that are set, dropping nulls.
+     */
+    static Bandwidth[] nonNull(Bandwidth... limits) {
+        if (limits == null) {
+            return new Bandwidth[0];
+        }
+        int count = 0;
+        for (Bandwidth limit : limits) {
+            if (limit != null) {
+                count++;
+            }
+        }
+        if (count == limits.length) {
+            return limits;
+        }
+        Bandwidth[] applied = new Bandwidth[count];
+        int i = 0;
+        for (Bandwidth limit : limits) {
+            if (limit != null) {
+                applied[i++] = limit;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Returns the limits followed by the extra limits, dropping nulls.
+     */
+    static Bandwidth[] concat(Bandwidth[] limits, Bandwidth... extra) {
+        Bandwidth[] first = nonNull(limits);
+        Bandwidth[] second = nonNull(extra);
+        Bandwidth[] all = new Bandwidth[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+
+    private static long acquire(Bandwidth[] limits, long wanted) throws InterruptedIOException {
+        long granted = wanted;
+        for (Bandwidth limit : limits) {
+            granted = Math.min(granted, limit.sliceSize);
+        }
+        for (int i = 0; i < limits.length; i++) {
+            try {
+                limits[i].take(granted);
+            } catch (InterruptedIOException e) {
+                for (int j = 0; j < i; j++) {
+                    limits[j].give(granted);
+                }
+                throw e;
+            }
+        }
+        return granted;
+    }
+
+    private static void release(Bandwidth[] limits, long unused) {
+        for (Bandwidth limit : limits) {
+            limit.give(unused);
+        }
+    }
+
+    /**
+     * Waits until the bucket holds the bytes and takes them. The waiting transfer keeps the lock while it
+     * sleeps, so the others queue behind it and are served in turn.
+     */
+    private void take(long bytes) throws InterruptedIOException {
+        try {
+            lock.lockInterruptibly();
+            try {
+                refill();
+                if (tokens < bytes) {
+                    TimeUnit.NANOSECONDS.sleep((long) Math.ceil((bytes - tokens) * 1e9 / bytesPerSecond));
+                    refill();
+                }
+                tokens -= bytes;
+            } finally {
+                lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for bandwidth");
+        }
+    }
+
+    private void give(long bytes) {
+        lock.lock();
+        try {
+            tokens = Math.min(maxTokens, tokens + bytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(maxTokens, tokens + (now - refilledAt) * bytesPerSecond / 1e9);
+        refilledAt = now;
+    }
+
+    @Override
+    public String toString() {
+        return bytesPerSecond + " B/s";
+    }
+}
@@ -0,0 +1,131 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+/**
+ * The type Bundle deployer.
+ * <p>
+ * Deploys a bundle without uploading it again when the same bytes were already uploaded for the app. The
+ * bundle is hashed with SHA-256 by streaming it from disk, and the hash is looked up in the
+ * {@link UploadManifest}. A known bundle is deployed straight from its previous {@code upload_uid}; only a
+ * new bundle costs {@link Hosting#createSignedUploadUrl()} and the upload. When the server answers 404 or
+ * 410 for a remembered upload, the entry is dropped and the bundle is uploaded again; any other error of
+ * the deployment is thrown and the entry kept.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * JSONObject body = new JSONObject();
+ * body.put("file_type", "zip");
+ * BundleDeployment deployment = hosting.deployer(manifest).deploy(Paths.get("build.zip"), body);
+ * </code>
+ */
+public class BundleDeployer {
+
+    private final Hosting hosting;
+    private final UploadManifest manifest;
+    private final TransferLimits limits;
+    private TransferListener listener;
+
+    BundleDeployer(@NotNull Hosting hosting, @NotNull UploadManifest manifest) {
+        this(hosting, Objects.requireNonNull(manifest, "manifest is required"), TransferLimits.NONE);
+    }
+
+    /**
+     * Instantiates a new Bundle deployer that waits for the limits before each request and upload, and
+     * uploads every bundle when there is no manifest.
+     */
+    BundleDeployer(@NotNull Hosting hosting, UploadManifest manifest, @NotNull TransferLimits limits) {
+        this.hosting = hosting;
+        this.manifest = manifest;
+        this.limits = limits;
+    }
+
+    /**
+     * Sets the progress listener of the uploads.
+     *
+     * @param listener the listener, or null
+     * @return the deployer
+     */
+    public BundleDeployer listener(TransferListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Deploys the bundle, uploading it only when its content was not uploaded for the app before.
+     *
+     * @param bundle the bundle
+     * @param body   the body of {@link Hosting#createDeployment(JSONObject)}; its {@code upload_uid} is set
+     *               by the deployer
+     * @return the deployment
+     * @throws IOException when hashing, uploading or deploying fails
+     */
+    public BundleDeployment deploy(@NotNull Path bundle, @NotNull JSONObject body) throws IOException {
+        Objects.requireNonNull(bundle, "bundle is required");
+        Objects.requireNonNull(body, "body is required");
+        String checksum = sha256(bundle);
+        String uploadUid = manifest != null ? manifest.get(hosting.appId, checksum) : null;
+        if (uploadUid != null) {
+            try {
+                return new BundleDeployment(checksum, uploadUid, false, createDeployment(body, uploadUid));
+            } catch (HttpStatusException e) {
+                if (e.getCode() != 404 && e.getCode() != 410) {
+                    throw e;
+                }
+                // the upload expired or was removed on the server
+                manifest.remove(hosting.appId, checksum);
+            }
+        }
+        SignedUpload signed = SignedUpload.of(Responses.parse(
+                limits.request(() -> Responses.execute(hosting.createSignedUploadUrl()))));
+        String newUploadUid = signed.getUploadUid();
+        if (newUploadUid == null) {
+            throw new IOException("The signed upload url response has no upload_uid");
+        }
+        StreamingBody upload = StreamingBody.of(bundle, listener)
+                .throttle(hosting.getBandwidth()).throttle(limits.uploadBandwidth());
+        limits.upload(() -> Responses.execute(hosting.uploadFile(signed, upload)));
+        if (manifest != null) {
+            manifest.put(hosting.appId, checksum, newUploadUid);
+        }
+        return new BundleDeployment(checksum, newUploadUid, true, createDeployment(body, newUploadUid));
+    }
+
+    @SuppressWarnings("unchecked")
+    private String createDeployment(JSONObject body, String uploadUid) throws IOException {
+        JSONObject deployment = new JSONObject(body);
+        deployment.put("upload_uid", uploadUid);
+        return limits.request(() -> Responses.execute(hosting.createDeployment(deployment)));
+    }
+
+    static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(StreamingBody.BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return FileDownload.hex(digest.digest());
+    }
+}
@@ -0,0 +1,62 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+/**
+ * The type Bundle deployment.
+ * <p>
+ * The outcome of {@link BundleDeployer#deploy}.
+ */
+public class BundleDeployment {
+
+    private final String checksum;
+    private final String uploadUid;
+    private final boolean uploaded;
+    private final String response;
+
+    BundleDeployment(String checksum, String uploadUid, boolean uploaded, String response) {
+        this.checksum = checksum;
+        this.uploadUid = uploadUid;
+        this.uploaded = uploaded;
+        this.response = response;
+    }
+
+    /**
+     * Returns the sha-256 of the bundle as hex.
+     *
+     * @return the checksum
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Returns the upload the deployment was created from.
+     *
+     * @return the upload uid
+     */
+    public String getUploadUid() {
+        return uploadUid;
+    }
+
+    /**
+     * Returns true when the bundle was uploaded, false when a previous upload was reused.
+     *
+     * @return true when uploaded
+     */
+    public boolean isUploaded() {
+        return uploaded;
+    }
+
+    /**
+     * Returns the body of the create deployment response.
+     *
+     * @return the response
+     */
+    public String getResponse() {
+        return response;
+    }
+
+    @Override
+    public String toString() {
+        return "BundleDeployment{" + uploadUid + (uploaded ? ", uploaded" : ", reused") + ", sha256=" + checksum + "}";
+    }
+}
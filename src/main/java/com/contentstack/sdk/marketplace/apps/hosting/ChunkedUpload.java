@@ -0,0 +1,263 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.BulkResult;
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntFunction;
+
+/**
+ * The type Chunked upload.
+ * <p>
+ * Uploads a large file as ranges sent in parallel, each with its own {@code Content-Range}, and then runs a
+ * commit step that lists the parts. Parallel parts share one connection when the server speaks HTTP/2 and
+ * use one connection each otherwise, so the upload is no longer bound by the throughput of a single
+ * connection. A part that fails is attempted again on its own according to the {@link RetryPolicy}; the
+ * other parts are not sent again.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * String committed = hosting.chunkedUpload(uploadUrl, Paths.get("build.zip"))
+ * .chunkSize(16 * 1024 * 1024).parallelism(4)
+ * .commit(commitUrl)
+ * .execute();
+ * </code>
+ */
+public class ChunkedUpload {
+
+    /**
+     * The default size of a part, 8 MiB.
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    /**
+     * The interface Commit.
+     * <p>
+     * Builds the call that completes the upload once every part is uploaded.
+     */
+    @FunctionalInterface
+    public interface Commit {
+
+        /**
+         * Returns the commit call for the uploaded parts.
+         *
+         * @param parts the parts, ordered by index
+         * @param size  the size of the file
+         * @return the call
+         */
+        Call<ResponseBody> commit(List<UploadPart> parts, long size);
+    }
+
+    private final HostingService service;
+    private final String url;
+    private final Path file;
+    private long chunkSize = DEFAULT_CHUNK_SIZE;
+    private int parallelism = 4;
+    private RetryPolicy retryPolicy = new RetryPolicy(3, 500, 5000);
+    private IntFunction<String> partUrls;
+    private Commit commit;
+    private TransferListener listener;
+    private Bandwidth[] limits = new Bandwidth[0];
+
+    ChunkedUpload(@NotNull HostingService service, @NotNull String url, @NotNull Path file) {
+        this.service = service;
+        this.url = Objects.requireNonNull(url, "Url is required to upload the file");
+        this.file = Objects.requireNonNull(file, "file is required to upload");
+        this.partUrls = index -> this.url;
+    }
+
+    /**
+     * Sets the size of each part. Defaults to 8 MiB.
+     *
+     * @param chunkSize the chunk size in bytes
+     * @return the upload
+     */
+    public ChunkedUpload chunkSize(long chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of parts uploaded at a time. Defaults to 4.
+     *
+     * @param parallelism the parallelism
+     * @return the upload
+     */
+    public ChunkedUpload parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets how many times a part is attempted. Since every part is put at a fixed offset, dropped connections
+     * are retried as well, as with {@link RetryPolicy#retryingIoErrors()}. Defaults to 3 attempts.
+     *
+     * @param retryPolicy the retry policy
+     * @return the upload
+     */
+    public ChunkedUpload retry(@NotNull RetryPolicy retryPolicy) {
+        this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy is required");
+        return this;
+    }
+
+    /**
+     * Sets the url each part is sent to, for servers that sign one url per part. By default every part is
+     * sent to the upload url.
+     *
+     * @param partUrls the url of the part at each index
+     * @return the upload
+     */
+    public ChunkedUpload partUrls(@NotNull IntFunction<String> partUrls) {
+        this.partUrls = Objects.requireNonNull(partUrls, "partUrls is required");
+        return this;
+    }
+
+    /**
+     * Completes the upload by posting the parts to the commit url, as
+     * {@code {"size": ..., "parts": [{"part_number": 1, "offset": ..., "length": ..., "etag": ...}]}}.
+     *
+     * @param commitUrl the commit url
+     * @return the upload
+     */
+    public ChunkedUpload commit(@NotNull String commitUrl) {
+        Objects.requireNonNull(commitUrl, "commitUrl is required");
+        return commit((parts, size) -> service.commitUpload(commitUrl, commitBody(parts, size)));
+    }
+
+    /**
+     * Sets the call that completes the upload.
+     *
+     * @param commit the commit step, or null to end after the last part
+     * @return the upload
+     */
+    public ChunkedUpload commit(Commit commit) {
+        this.commit = commit;
+        return this;
+    }
+
+    /**
+     * Sets the progress listener, called with the bytes of all parts. The bytes of a part sent again are
+     * taken back before they are counted again.
+     *
+     * @param listener the listener, or null
+     * @return the upload
+     */
+    public ChunkedUpload listener(TransferListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Limits the rate the parts are sent at. The limits are shared by the parts, so a new {@link Bandwidth}
+     * limits this upload as a whole and a shared one limits it together with other transfers.
+     *
+     * @param limits the limits, added to those already set
+     * @return the upload
+     */
+    public ChunkedUpload throttle(Bandwidth... limits) {
+        this.limits = Bandwidth.concat(this.limits, limits);
+        return this;
+    }
+
+    /**
+     * Uploads the parts and commits the upload.
+     *
+     * @return the body of the commit response, empty without a commit step
+     * @throws IOException when a part fails after all its attempts, or the commit fails
+     */
+    public String execute() throws IOException {
+        long size = Files.size(file);
+        List<UploadPart> ranges = split(size);
+        List<UploadPart> uploaded = new ArrayList<>(ranges);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            AtomicLongArray partSent = new AtomicLongArray(ranges.size());
+            AtomicLong sent = new AtomicLong();
+            List<Integer> indexes = new ArrayList<>();
+            for (UploadPart range : ranges) {
+                indexes.add(range.getIndex());
+            }
+            // each part is put at a fixed offset, so sending it again is idempotent
+            BulkExecutor executor = new BulkExecutor.Builder().parallelism(parallelism)
+                    .retry(retryPolicy.retryingIoErrors()).build();
+            BulkReport<Integer, String> report = executor.run(indexes, index -> {
+                UploadPart range = ranges.get(index);
+                TransferListener progress = listener == null ? null : (partBytes, partLength) ->
+                        listener.onProgress(sent.addAndGet(partBytes - partSent.getAndSet(index, partBytes)), size);
+                return send(partUrls.apply(index), range.contentRange(size),
+                        StreamingBody.of(channel, range.getOffset(), range.getLength(), progress).throttle(limits));
+            }, null, null);
+            if (!report.isSuccess()) {
+                BulkResult<Integer, String> first = report.getFailed().get(0);
+                throw new IOException(report.getFailed().size() + " of " + ranges.size() + " parts of "
+                        + file.getFileName() + " failed, first part " + first.getKey(), first.getError());
+            }
+            for (BulkResult<Integer, String> result : report.getSucceeded()) {
+                UploadPart range = ranges.get(result.getKey());
+                uploaded.set(range.getIndex(),
+                        new UploadPart(range.getIndex(), range.getOffset(), range.getLength(), result.getValue()));
+            }
+        }
+        return commit == null ? "" : Responses.execute(commit.commit(uploaded, size));
+    }
+
+    private String send(String partUrl, String contentRange, StreamingBody body) throws IOException {
+        Response<ResponseBody> response = service.uploadPart(partUrl, contentRange, body).execute();
+        try (ResponseBody responseBody = response.isSuccessful() ? response.body() : response.errorBody()) {
+            if (!response.isSuccessful()) {
+                throw new HttpStatusException(response.code(), responseBody != null ? responseBody.string() : null);
+            }
+            return response.headers().get("ETag");
+        }
+    }
+
+    List<UploadPart> split(long size) {
+        List<UploadPart> parts = new ArrayList<>();
+        for (long offset = 0; offset < size; offset += chunkSize) {
+            parts.add(new UploadPart(parts.size(), offset, Math.min(chunkSize, size - offset), null));
+        }
+        return parts;
+    }
+
+    @SuppressWarnings("unchecked")
+    static JSONObject commitBody(List<UploadPart> parts, long size) {
+        JSONArray list = new JSONArray();
+        for (UploadPart part : parts) {
+            JSONObject item = new JSONObject();
+            item.put("part_number", part.getIndex() + 1);
+            item.put("offset", part.getOffset());
+            item.put("length", part.getLength());
+            item.put("etag", part.getEtag());
+            list.add(item);
+        }
+        JSONObject body = new JSONObject();
+        body.put("size", size);
+        body.put("parts", list);
+        return body;
+    }
+}
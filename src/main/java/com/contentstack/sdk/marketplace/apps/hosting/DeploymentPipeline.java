@@ -0,0 +1,255 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import com.contentstack.sdk.marketplace.scheduler.SdkExecutors;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The type Deployment pipeline.
+ * <p>
+ * Deploys the bundles of many apps at once. Each app goes through the same stages: signed upload url,
+ * upload, create deployment, then waiting for a terminal status. The first three stages run on worker
+ * threads, bounded by a global limit of API requests in flight and a global limit of uploads at a time; the
+ * wait runs on the {@link DeploymentPoller} without holding a thread, its polls taking the same request
+ * slots. The uploads can also be held to a total {@link Bandwidth}, which they share evenly, and to a rate
+ * per upload. While some apps wait for their deployment, others upload, so the wall time of a batch follows
+ * its slowest app rather than the sum of all apps.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * try (DeploymentPipeline pipeline = new DeploymentPipeline.Builder()
+ * .maxInFlightRequests(16).maxConcurrentUploads(4).manifest(manifest).build()) {
+ * List&lt;CompletableFuture&lt;AppDeployment&gt;&gt; deployments = new ArrayList&lt;&gt;();
+ * for (String appUid : bundles.keySet()) {
+ * deployments.add(pipeline.submit(app.hosting(appUid), bundles.get(appUid), body));
+ * }
+ * CompletableFuture.allOf(deployments.toArray(new CompletableFuture[0])).join();
+ * }
+ * </code>
+ */
+public class DeploymentPipeline implements AutoCloseable {
+
+    private final TransferLimits limits;
+    private final UploadManifest manifest;
+    private final PollingPolicy pollingPolicy;
+    private final DeploymentPoller poller;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    private DeploymentPipeline(Builder builder) {
+        this.limits = new TransferLimits(builder.maxInFlightRequests, builder.maxConcurrentUploads,
+                builder.bandwidth, builder.uploadBytesPerSecond);
+        this.manifest = builder.manifest;
+        this.pollingPolicy = builder.pollingPolicy;
+        this.poller = builder.poller;
+        this.ownsExecutor = builder.executor == null;
+        this.executor = builder.executor != null ? builder.executor : SdkExecutors.newPerTaskExecutor();
+    }
+
+    /**
+     * Starts the deployment of a bundle for the app of the hosting.
+     *
+     * @param hosting the hosting of the app, e.g. from {@code App.hosting(appUid)}
+     * @param bundle  the bundle
+     * @param body    the body of {@link Hosting#createDeployment(JSONObject)}; its {@code upload_uid} is set
+     *                by the pipeline
+     * @return the future completed once the deployment reaches a terminal status
+     */
+    public CompletableFuture<AppDeployment> submit(@NotNull Hosting hosting, @NotNull Path bundle,
+                                                   @NotNull JSONObject body) {
+        Objects.requireNonNull(hosting, "hosting is required");
+        BundleDeployer deployer = new BundleDeployer(hosting, manifest, limits);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return deployer.deploy(bundle, body);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor).thenCompose(deployed -> {
+            String deploymentUid;
+            try {
+                deploymentUid = deploymentUid(deployed.getResponse());
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+            // the shared poller is looked up per deployment, it is not tied to this pipeline
+            DeploymentPoller waiting = poller != null ? poller : DeploymentPoller.shared();
+            return waiting.await(hosting, deploymentUid, pollingPolicy, limits)
+                    .thenApply(deployment -> new AppDeployment(hosting.appId, deploymentUid, deployed, deployment));
+        });
+    }
+
+    /**
+     * Returns the number of API requests that can start right now.
+     *
+     * @return the available request slots
+     */
+    public int availableRequests() {
+        return limits.availableRequests();
+    }
+
+    /**
+     * Returns the number of uploads that can start right now.
+     *
+     * @return the available upload slots
+     */
+    public int availableUploads() {
+        return limits.availableUploads();
+    }
+
+    /**
+     * Stops the worker threads when the pipeline owns them. Deployments already waiting on the poller
+     * keep going.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private static String deploymentUid(String response) throws IOException {
+        JSONObject deployment = Responses.parse(response);
+        Object data = deployment.get("data");
+        if (data instanceof JSONObject) {
+            deployment = (JSONObject) data;
+        }
+        Object uid = deployment.get("uid");
+        if (uid == null) {
+            throw new IOException("The create deployment response has no uid");
+        }
+        return uid.toString();
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private int maxInFlightRequests = 16;
+        private int maxConcurrentUploads = 4;
+        private Bandwidth bandwidth;
+        private long uploadBytesPerSecond;
+        private UploadManifest manifest;
+        private PollingPolicy pollingPolicy = PollingPolicy.DEFAULT;
+        private DeploymentPoller poller;
+        private ExecutorService executor;
+
+        /**
+         * Sets the maximum number of signed url and create deployment requests in flight across all apps.
+         * Defaults to 16.
+         *
+         * @param maxInFlightRequests the limit
+         * @return the builder
+         */
+        public Builder maxInFlightRequests(int maxInFlightRequests) {
+            if (maxInFlightRequests < 1) {
+                throw new IllegalArgumentException("maxInFlightRequests must be at least 1");
+            }
+            this.maxInFlightRequests = maxInFlightRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of uploads at a time across all apps. Defaults to 4.
+         *
+         * @param maxConcurrentUploads the limit
+         * @return the builder
+         */
+        public Builder maxConcurrentUploads(int maxConcurrentUploads) {
+            if (maxConcurrentUploads < 1) {
+                throw new IllegalArgumentException("maxConcurrentUploads must be at least 1");
+            }
+            this.maxConcurrentUploads = maxConcurrentUploads;
+            return this;
+        }
+
+        /**
+         * Sets the bandwidth shared by all the uploads of the pipeline, and by any other transfer given the
+         * same instance.
+         *
+         * @param bandwidth the limit, or null for none
+         * @return the builder
+         */
+        public Builder bandwidth(Bandwidth bandwidth) {
+            this.bandwidth = bandwidth;
+            return this;
+        }
+
+        /**
+         * Sets the rate each upload is held to, whatever the bandwidth left.
+         *
+         * @param uploadBytesPerSecond the limit, or 0 for none
+         * @return the builder
+         */
+        public Builder uploadBytesPerSecond(long uploadBytesPerSecond) {
+            if (uploadBytesPerSecond < 0) {
+                throw new IllegalArgumentException("uploadBytesPerSecond cannot be negative");
+            }
+            this.uploadBytesPerSecond = uploadBytesPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the manifest of previous uploads, so unchanged bundles are deployed without an upload.
+         *
+         * @param manifest the manifest, or null to upload every bundle
+         * @return the builder
+         */
+        public Builder manifest(UploadManifest manifest) {
+            this.manifest = manifest;
+            return this;
+        }
+
+        /**
+         * Sets the polling policy of the wait stage.
+         *
+         * @param pollingPolicy the polling policy
+         * @return the builder
+         */
+        public Builder pollingPolicy(@NotNull PollingPolicy pollingPolicy) {
+            this.pollingPolicy = Objects.requireNonNull(pollingPolicy, "pollingPolicy is required");
+            return this;
+        }
+
+        /**
+         * Sets the poller of the wait stage. Defaults to {@link DeploymentPoller#shared()}.
+         *
+         * @param poller the poller
+         * @return the builder
+         */
+        public Builder poller(DeploymentPoller poller) {
+            this.poller = poller;
+            return this;
+        }
+
+        /**
+         * Sets the executor of the upload stages. When no executor is set the pipeline uses one from
+         * {@link SdkExecutors#newPerTaskExecutor()} and shuts it down on {@link #close()}.
+         *
+         * @param executor the executor, owned by the caller
+         * @return the builder
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Build deployment pipeline.
+         *
+         * @return the deployment pipeline
+         */
+        public DeploymentPipeline build() {
+            return new DeploymentPipeline(this);
+        }
+    }
+}
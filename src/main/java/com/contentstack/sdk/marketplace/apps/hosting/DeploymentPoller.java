@@ -0,0 +1,240 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import com.contentstack.sdk.marketplace.scheduler.TimerWheel;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The type Deployment poller.
+ * <p>
+ * Waits for many deployments at once without a thread per deployment. Each pending deployment is a timer on
+ * one scheduler, by default the shared {@link TimerWheel}, which every deployment holds while it is waited for;
+ * when it fires,
+ * {@link Hosting#fetchDeployment(String)} is enqueued on the OkHttp dispatcher and its callback either
+ * completes the future on a terminal status or schedules the next poll with the delay of the
+ * {@link PollingPolicy}. Failed polls that are worth retrying, such as timeouts, 429
+ * and 5xx, are polled again after the default delay; other errors complete the future exceptionally.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * CompletableFuture&lt;JSONObject&gt; live = hosting.awaitDeployment("deploymentId");
+ * live.thenAccept(deployment -&gt; System.out.println(deployment.get("status")));
+ * </code>
+ */
+public class DeploymentPoller {
+
+    private static final RetryPolicy TRANSIENT = new RetryPolicy(Integer.MAX_VALUE, 0, 0).retryingIoErrors();
+    private static final long REQUEST_SLOT_RETRY_MILLIS = 20;
+    private static final DeploymentPoller SHARED = new DeploymentPoller();
+
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Instantiates a new Deployment poller on the given scheduler. The scheduler only fires the timers, the
+     * polls run on the OkHttp dispatcher, so one thread is enough.
+     *
+     * @param scheduler the scheduler, owned by the caller
+     */
+    public DeploymentPoller(@NotNull ScheduledExecutorService scheduler) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler is required");
+    }
+
+    private DeploymentPoller() {
+        this.scheduler = null;
+    }
+
+    /**
+     * Returns the poller shared by {@link Hosting#awaitDeployment(String)}, running on the
+     * {@link TimerWheel#shared() shared} timer wheel of the SDK. Each deployment acquires the wheel when its
+     * wait starts and releases it once done, so closing every marketplace does not stop the waits in
+     * progress.
+     *
+     * @return the shared poller
+     */
+    public static DeploymentPoller shared() {
+        return SHARED;
+    }
+
+    /**
+     * Polls the deployment until it reaches a terminal status. The first poll is made right away.
+     * Cancelling the future stops the polling.
+     *
+     * @param hosting      the hosting of the app
+     * @param deploymentId the deployment id
+     * @param policy       the polling policy
+     * @return the future completed with the deployment once terminal, or exceptionally with a
+     * {@link TimeoutException} or the error of the last poll
+     */
+    public CompletableFuture<JSONObject> await(@NotNull Hosting hosting, @NotNull String deploymentId,
+                                               @NotNull PollingPolicy policy) {
+        return await(hosting, deploymentId, policy, null);
+    }
+
+    /**
+     * Polls the deployment as {@link #await(Hosting, String, PollingPolicy)} does, each poll holding a
+     * request slot of the limits while in flight. A poll that finds no free slot is tried again shortly
+     * instead of blocking the timer thread.
+     */
+    CompletableFuture<JSONObject> await(@NotNull Hosting hosting, @NotNull String deploymentId,
+                                        @NotNull PollingPolicy policy, TransferLimits limits) {
+        Objects.requireNonNull(hosting, "hosting is required");
+        Objects.requireNonNull(deploymentId, "deploymentId is required to await deployment");
+        Objects.requireNonNull(policy, "policy is required");
+        TimerWheel acquired = scheduler == null ? TimerWheel.acquireShared() : null;
+        Watch watch = new Watch(acquired != null ? acquired : scheduler, hosting, deploymentId, policy, limits);
+        pending.incrementAndGet();
+        watch.future.whenComplete((deployment, error) -> {
+            pending.decrementAndGet();
+            watch.cancelCall();
+            if (acquired != null) {
+                TimerWheel.releaseShared(acquired);
+            }
+        });
+        watch.poll();
+        return watch.future;
+    }
+
+    /**
+     * Returns the number of deployments being waited for.
+     *
+     * @return the pending count
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    private final class Watch implements Callback<ResponseBody> {
+        private final ScheduledExecutorService timers;
+        private final Hosting hosting;
+        private final String deploymentId;
+        private final PollingPolicy policy;
+        private final TransferLimits limits;
+        private final long deadline;
+        private final CompletableFuture<JSONObject> future = new CompletableFuture<>();
+        private final AtomicBoolean holdsSlot = new AtomicBoolean();
+        private volatile Call<ResponseBody> call;
+        private String status;
+        private int pollsInPhase;
+
+        private Watch(ScheduledExecutorService timers, Hosting hosting, String deploymentId, PollingPolicy policy,
+                      TransferLimits limits) {
+            this.timers = timers;
+            this.hosting = hosting;
+            this.deploymentId = deploymentId;
+            this.policy = policy;
+            this.limits = limits;
+            this.deadline = System.currentTimeMillis() + policy.getTimeoutMillis();
+        }
+
+        private void poll() {
+            if (future.isDone()) {
+                return;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                future.completeExceptionally(new TimeoutException("Deployment " + deploymentId
+                        + " did not finish within " + policy.getTimeoutMillis() + " ms, last status " + status));
+                return;
+            }
+            if (limits != null) {
+                if (!limits.tryRequest()) {
+                    schedule(REQUEST_SLOT_RETRY_MILLIS);
+                    return;
+                }
+                holdsSlot.set(true);
+            }
+            call = hosting.fetchDeployment(deploymentId);
+            call.enqueue(this);
+        }
+
+        private void releaseSlot() {
+            if (holdsSlot.compareAndSet(true, false)) {
+                limits.releaseRequest();
+            }
+        }
+
+        private void cancelCall() {
+            Call<ResponseBody> current = call;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public void onResponse(@NotNull Call<ResponseBody> call, @NotNull Response<ResponseBody> response) {
+            releaseSlot();
+            try (ResponseBody body = response.isSuccessful() ? response.body() : response.errorBody()) {
+                if (!response.isSuccessful()) {
+                    failed(new HttpStatusException(response.code(), body != null ? body.string() : null));
+                    return;
+                }
+                JSONObject deployment = Responses.parse(body != null ? body.string() : "{}");
+                Object data = deployment.get("data");
+                if (data instanceof JSONObject) {
+                    deployment = (JSONObject) data;
+                }
+                Object next = deployment.get("status");
+                String nextStatus = next != null ? next.toString() : null;
+                if (policy.isTerminal(nextStatus)) {
+                    future.complete(deployment);
+                    return;
+                }
+                pollsInPhase = nextStatus != null && nextStatus.equals(status) ? pollsInPhase + 1 : 1;
+                status = nextStatus;
+                schedule(policy.nextDelay(status, pollsInPhase));
+            } catch (IOException e) {
+                failed(e);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onFailure(@NotNull Call<ResponseBody> call, @NotNull Throwable error) {
+            releaseSlot();
+            if (error instanceof Exception && !call.isCanceled()) {
+                failed((Exception) error);
+            } else {
+                future.completeExceptionally(error);
+            }
+        }
+
+        private void failed(Exception error) {
+            if (future.isDone()) {
+                return;
+            }
+            if (TRANSIENT.isRetryable(error)) {
+                schedule(policy.nextDelay(null, 1));
+            } else {
+                future.completeExceptionally(error);
+            }
+        }
+
+        private void schedule(long delayMillis) {
+            long wait = Math.min(delayMillis, Math.max(0, deadline - System.currentTimeMillis()));
+            try {
+                timers.schedule(this::poll, wait, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
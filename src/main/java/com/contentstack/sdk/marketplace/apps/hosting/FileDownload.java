@@ -0,0 +1,326 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.Okio;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The type File download.
+ * <p>
+ * Downloads a signed download url into a file. The body is streamed from the socket into a {@link FileChannel}
+ * through a buffer of {@link StreamingBody#BUFFER_SIZE} bytes and digested on the way, so large artifacts
+ * download with the same memory. Bytes are written to a {@code .part} file next to the target, which is
+ * moved into place only once complete and verified. When the transfer breaks, the download resumes from the
+ * end of the {@code .part} file with a {@code Range} request, including across runs. The {@code ETag} or
+ * {@code Last-Modified} of the file is kept in a {@code .part.validator} file and sent as {@code If-Range},
+ * so the server sends the whole file again when it changed; a {@code .part} file without a validator cannot
+ * be checked and is downloaded again from the start.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * String sha256 = hosting.download(downloadUrl, Paths.get("build.zip"))
+ * .checksum("SHA-256", expectedSha256)
+ * .retry(new RetryPolicy(5, 500, 10_000))
+ * .execute();
+ * </code>
+ */
+public class FileDownload {
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+|\\*)");
+    private static final Pattern UNSATISFIED_RANGE = Pattern.compile("bytes \\*/(\\d+)");
+
+    private final HostingService service;
+    private final String url;
+    private final Path target;
+    private final Path part;
+    private final Path validatorFile;
+    private String algorithm = "SHA-256";
+    private String expectedChecksum;
+    private RetryPolicy retryPolicy = new RetryPolicy(3, 500, 5000);
+    private TransferListener listener;
+    private Bandwidth[] limits = new Bandwidth[0];
+
+    FileDownload(@NotNull HostingService service, @NotNull String url, @NotNull Path target) {
+        this.service = service;
+        this.url = Objects.requireNonNull(url, "Url is required to download the file");
+        this.target = Objects.requireNonNull(target, "target is required to download the file");
+        this.part = target.resolveSibling(target.getFileName() + ".part");
+        this.validatorFile = target.resolveSibling(target.getFileName() + ".part.validator");
+    }
+
+    /**
+     * Sets the digest computed while downloading and the value it must have. Defaults to SHA-256 without
+     * an expected value.
+     *
+     * @param algorithm the {@link MessageDigest} algorithm
+     * @param expected  the expected digest as hex, or null to only compute it
+     * @return the download
+     */
+    public FileDownload checksum(@NotNull String algorithm, String expected) {
+        this.algorithm = Objects.requireNonNull(algorithm, "algorithm is required");
+        this.expectedChecksum = expected;
+        return this;
+    }
+
+    /**
+     * Sets how many times the transfer is attempted and how long to wait between attempts. Every attempt
+     * after the first resumes where the previous one stopped. Since the download is a ranged GET, dropped
+     * connections are retried as well, as with {@link RetryPolicy#retryingIoErrors()}. Defaults to 3 attempts.
+     *
+     * @param retryPolicy the retry policy
+     * @return the download
+     */
+    public FileDownload retry(@NotNull RetryPolicy retryPolicy) {
+        this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy is required");
+        return this;
+    }
+
+    /**
+     * Sets the progress listener.
+     *
+     * @param listener the listener, or null
+     * @return the download
+     */
+    public FileDownload listener(TransferListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Limits the rate the body is read at. Pass a shared {@link Bandwidth} for a limit across transfers and a
+     * new one for a limit of this download only.
+     *
+     * @param limits the limits, added to those already set
+     * @return the download
+     */
+    public FileDownload throttle(Bandwidth... limits) {
+        this.limits = Bandwidth.concat(this.limits, limits);
+        return this;
+    }
+
+    /**
+     * Returns the file the bytes are written to until the download completes.
+     *
+     * @return the part file
+     */
+    public Path getPartFile() {
+        return part;
+    }
+
+    /**
+     * Returns the file that keeps the validator of the part file between runs.
+     *
+     * @return the validator file
+     */
+    Path getValidatorFile() {
+        return validatorFile;
+    }
+
+    /**
+     * Downloads the file, resuming a previous partial download when its part file exists.
+     *
+     * @return the digest of the file as hex
+     * @throws IOException when the download fails after all attempts, or the checksum does not match
+     */
+    public String execute() throws IOException {
+        MessageDigest digest = newDigest();
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.READ)) {
+            String validator = readValidator();
+            if (validator == null) {
+                channel.truncate(0);
+            }
+            // the bytes of a previous run are digested again from disk instead of downloaded again
+            Transfer transfer = new Transfer(digestExisting(channel, digest), validator);
+            // a ranged GET is idempotent, so a connection dropped mid-body is worth another attempt
+            RetryPolicy retryPolicy = this.retryPolicy.retryingIoErrors();
+            int attempt = 1;
+            while (true) {
+                try {
+                    if (transfer(channel, digest, transfer)) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    if (attempt >= retryPolicy.getMaxAttempts() || !retryPolicy.isRetryable(e)) {
+                        throw e;
+                    }
+                    attempt++;
+                    sleep(retryPolicy.delayBefore(attempt));
+                }
+            }
+            channel.force(false);
+        }
+        String checksum = hex(digest.digest());
+        Files.deleteIfExists(validatorFile);
+        if (expectedChecksum != null && !expectedChecksum.equalsIgnoreCase(checksum)) {
+            Files.deleteIfExists(part);
+            throw new IOException(algorithm + " checksum mismatch for " + target.getFileName()
+                    + ": expected " + expectedChecksum + " but was " + checksum);
+        }
+        Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+        return checksum;
+    }
+
+    /**
+     * Requests the bytes after the current position and writes them to the channel.
+     *
+     * @return true when the file is complete, false when the part file was discarded and the download
+     * must start over
+     */
+    private boolean transfer(FileChannel channel, MessageDigest digest, Transfer transfer) throws IOException {
+        long position = transfer.position;
+        Response<ResponseBody> response = service.downloadFile(url,
+                position > 0 ? "bytes=" + position + "-" : null,
+                position > 0 ? transfer.validator : null).execute();
+        try (ResponseBody body = response.isSuccessful() ? response.body() : response.errorBody()) {
+            if (response.code() == 416 && position > 0) {
+                Matcher range = UNSATISFIED_RANGE.matcher(String.valueOf(response.headers().get("Content-Range")));
+                if (range.matches() && Long.parseLong(range.group(1)) == position) {
+                    // nothing left to send: the part file already holds the whole file
+                    return true;
+                }
+                // the part file is longer than the file, it belongs to another version
+                transfer.restart(channel, digest);
+                return false;
+            }
+            if (!response.isSuccessful()) {
+                throw new HttpStatusException(response.code(), body != null ? body.string() : null);
+            }
+            long total = body.contentLength();
+            if (response.code() == 206) {
+                Matcher range = CONTENT_RANGE.matcher(String.valueOf(response.headers().get("Content-Range")));
+                if (!range.matches() || Long.parseLong(range.group(1)) != position) {
+                    throw new IOException("Unexpected Content-Range " + response.headers().get("Content-Range"));
+                }
+                total = "*".equals(range.group(3)) ? -1 : Long.parseLong(range.group(3));
+            } else if (position > 0) {
+                // the server ignored the range, or the file changed since the validator was taken
+                transfer.restart(channel, digest);
+            }
+            String etag = response.headers().get("ETag");
+            String validator = etag != null ? etag : response.headers().get("Last-Modified");
+            if (!Objects.equals(validator, transfer.validator)) {
+                saveValidator(validator);
+                transfer.validator = validator;
+            }
+            BufferedSource source = limits.length == 0 ? body.source()
+                    : Okio.buffer(Bandwidth.source(body.source(), limits));
+            write(source, channel, digest, transfer, total);
+            if (total >= 0 && transfer.position != total) {
+                throw new IOException("Download ended after " + transfer.position + " of " + total + " bytes");
+            }
+            return true;
+        }
+    }
+
+    private void write(BufferedSource source, FileChannel channel, MessageDigest digest, Transfer transfer,
+                       long total) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(StreamingBody.BUFFER_SIZE);
+        while (source.read(buffer) != -1) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                ByteBuffer written = buffer.duplicate();
+                transfer.position += channel.write(buffer, transfer.position);
+                // only the bytes on disk are digested, so a failed write leaves both in step
+                written.limit(buffer.position());
+                digest.update(written);
+            }
+            buffer.clear();
+            if (listener != null) {
+                listener.onProgress(transfer.position, total);
+            }
+        }
+    }
+
+    private String readValidator() throws IOException {
+        if (!Files.exists(validatorFile)) {
+            return null;
+        }
+        String validator = new String(Files.readAllBytes(validatorFile), StandardCharsets.UTF_8).trim();
+        return validator.isEmpty() ? null : validator;
+    }
+
+    private void saveValidator(String validator) throws IOException {
+        if (validator == null) {
+            Files.deleteIfExists(validatorFile);
+        } else {
+            Files.write(validatorFile, validator.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static long digestExisting(FileChannel channel, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(StreamingBody.BUFFER_SIZE);
+        long position = 0;
+        int read;
+        while ((read = channel.read(buffer, position)) > 0) {
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+            position += read;
+        }
+        return position;
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Unknown checksum algorithm " + algorithm, e);
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to resume the download");
+        }
+    }
+
+    static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format(Locale.ROOT, "%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static final class Transfer {
+        private long position;
+        private String validator;
+
+        private Transfer(long position, String validator) {
+            this.position = position;
+            this.validator = validator;
+        }
+
+        private void restart(FileChannel channel, MessageDigest digest) throws IOException {
+            channel.truncate(0);
+            digest.reset();
+            position = 0;
+            validator = null;
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.contentstack.sdk.marketplace.apps.hosting;
 
 import com.contentstack.sdk.BaseImplementation;
+import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
 import org.json.simple.JSONObject;
 import retrofit2.Call;
 import retrofit2.Retrofit;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The type Hosting.
@@ -27,6 +33,7 @@ public class Hosting implements BaseImplementation<Hosting> {
      * The App id.
      */
     protected final String appId;
+    private Bandwidth bandwidth;
 
     /**
      * Instantiates a new Hosting.
@@ -107,6 +114,186 @@ public class Hosting implements BaseImplementation<Hosting> {
         return this.service.uploadFile(url, this.headers, this.params);
     }
 
+    /**
+     * Streams a file to a signed upload url bound to PUT. The file is read through a buffer of
+     * {@link StreamingBody#BUFFER_SIZE} bytes, so bundles of any size upload with the same memory. The
+     * signed url carries its own authorization, so the headers of this hosting, such as the authtoken, are
+     * not sent to it. When the response of {@link #createSignedUploadUrl()} names a method or form fields,
+     * use {@link #uploadFile(SignedUpload, Path, TransferListener)}, which sends what it asks for.
+     *
+     * @param url      the signed upload url
+     * @param file     the file to upload
+     * @param listener the progress listener, or null
+     * @return the call
+     * @throws IOException when the size of the file cannot be read
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("organisationId")
+     * .host("api.contentstack.io").build();
+     * Hosting hosting = marketplace.app().hosting();
+     * Call response = hosting.uploadFile(uploadUrl, Paths.get("build.zip"), (sent, total) -&gt; {}).execute();
+     * </code>
+     */
+    public Call<ResponseBody> uploadFile(@NotNull String url, @NotNull Path file, TransferListener listener)
+            throws IOException {
+        return uploadFile(url, StreamingBody.of(file, listener).throttle(bandwidth));
+    }
+
+    /**
+     * Streams a file channel, from its current position to its end, to a signed upload url bound to PUT.
+     * The channel is neither moved nor closed.
+     *
+     * @param url      the signed upload url
+     * @param channel  the channel to upload
+     * @param listener the progress listener, or null
+     * @return the call
+     * @throws IOException when the position or size of the channel cannot be read
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("organisationId")
+     * .host("api.contentstack.io").build();
+     * Hosting hosting = marketplace.app().hosting();
+     * Call response = hosting.uploadFile(uploadUrl, channel, null).execute();
+     * </code>
+     */
+    public Call<ResponseBody> uploadFile(@NotNull String url, @NotNull FileChannel channel, TransferListener listener)
+            throws IOException {
+        return uploadFile(url, StreamingBody.of(channel, listener).throttle(bandwidth));
+    }
+
+    /**
+     * Streams an input stream to a signed upload url bound to PUT. The stream is closed once sent, so the
+     * body is one-shot: OkHttp does not replay it, and writing it a second time fails instead of sending
+     * an empty body.
+     *
+     * @param url           the signed upload url
+     * @param in            the input stream to upload
+     * @param contentLength the number of bytes of the stream, or -1 to send it chunked
+     * @param listener      the progress listener, or null
+     * @return the call
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("organisationId")
+     * .host("api.contentstack.io").build();
+     * Hosting hosting = marketplace.app().hosting();
+     * Call response = hosting.uploadFile(uploadUrl, in, length, null).execute();
+     * </code>
+     */
+    public Call<ResponseBody> uploadFile(@NotNull String url, @NotNull InputStream in, long contentLength,
+                                         TransferListener listener) {
+        return uploadFile(url, StreamingBody.of(in, contentLength, listener).throttle(bandwidth));
+    }
+
+    /**
+     * Sends a request body to a signed upload url bound to PUT.
+     *
+     * @param url  the signed upload url
+     * @param body the body, usually a {@link StreamingBody}
+     * @return the call
+     */
+    public Call<ResponseBody> uploadFile(@NotNull String url, @NotNull RequestBody body) {
+        Objects.requireNonNull(url, "Url is required to upload the file");
+        Objects.requireNonNull(body, "body is required to upload the file");
+        return this.service.uploadFile(url, body);
+    }
+
+    /**
+     * Streams a file to a signed upload with the method, form fields and headers of the response of
+     * {@link #createSignedUploadUrl()}: PUT sends the file as the body, POST sends a multipart form with the
+     * fields followed by the file.
+     *
+     * @param upload   the signed upload
+     * @param file     the file to upload
+     * @param listener the progress listener, or null
+     * @return the call
+     * @throws IOException when the size of the file cannot be read
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * SignedUpload upload = SignedUpload.of(Responses.parse(Responses.execute(hosting.createSignedUploadUrl())));
+     * Call response = hosting.uploadFile(upload, Paths.get("build.zip"), null).execute();
+     * </code>
+     */
+    public Call<ResponseBody> uploadFile(@NotNull SignedUpload upload, @NotNull Path file, TransferListener listener)
+            throws IOException {
+        return uploadFile(upload, StreamingBody.of(file, listener).throttle(bandwidth));
+    }
+
+    /**
+     * Sends the body of a file to a signed upload with the method, form fields and headers of the response
+     * of {@link #createSignedUploadUrl()}.
+     *
+     * @param upload the signed upload
+     * @param body   the body of the file, usually a {@link StreamingBody}
+     * @return the call
+     */
+    public Call<ResponseBody> uploadFile(@NotNull SignedUpload upload, @NotNull RequestBody body) {
+        Objects.requireNonNull(upload, "upload is required to upload the file");
+        Objects.requireNonNull(body, "body is required to upload the file");
+        RequestBody request = upload.body(body);
+        return "PUT".equals(upload.getMethod())
+                ? this.service.putFile(upload.getUrl(), upload.getHeaders(), request)
+                : this.service.postFile(upload.getUrl(), upload.getHeaders(), request);
+    }
+
+    /**
+     * Returns an upload of a large file to the signed upload url returned by {@link #createSignedUploadUrl()}
+     * as ranges sent in parallel, followed by a commit step. Use it when a single stream of
+     * {@link #uploadFile(String, Path, TransferListener)} is limited by the throughput of one connection.
+     *
+     * @param url  the signed upload url
+     * @param file the file to upload
+     * @return the upload, started by {@link ChunkedUpload#execute()}
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("organisationId")
+     * .host("api.contentstack.io").build();
+     * Hosting hosting = marketplace.app().hosting();
+     * hosting.chunkedUpload(uploadUrl, Paths.get("build.zip")).parallelism(4).commit(commitUrl).execute();
+     * </code>
+     */
+    public ChunkedUpload chunkedUpload(@NotNull String url, @NotNull Path file) {
+        return new ChunkedUpload(this.service, url, file).throttle(bandwidth);
+    }
+
+    /**
+     * Limits the rate of the file transfers of this hosting: the streamed uploads, chunked uploads and
+     * downloads. Give the same {@link Bandwidth} to the hostings of several apps to share one limit between
+     * them. API calls are not throttled.
+     *
+     * @param bandwidth the limit, or null for none
+     * @return the hosting
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Bandwidth egress = Bandwidth.bytesPerSecond(20 * 1024 * 1024);
+     * Hosting hosting = marketplace.app().hosting().bandwidth(egress);
+     * </code>
+     */
+    public Hosting bandwidth(Bandwidth bandwidth) {
+        this.bandwidth = bandwidth;
+        return this;
+    }
+
+    /**
+     * Returns the limit of the file transfers of this hosting.
+     *
+     * @return the bandwidth, or null
+     */
+    public Bandwidth getBandwidth() {
+        return bandwidth;
+    }
+
     /**
      * The function creates a deployment using the provided JSON body.
      *
@@ -128,6 +315,27 @@ public class Hosting implements BaseImplementation<Hosting> {
         return this.service.createDeployments(this.headers, this.appId, body, this.params);
     }
 
+    /**
+     * Returns a deployer that skips the upload of bundles whose content was already uploaded for this app,
+     * as recorded in the manifest, and deploys them from their previous upload.
+     *
+     * @param manifest the manifest of previous uploads, which can be shared between apps
+     * @return the deployer
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("organisationId")
+     * .host("api.contentstack.io").build();
+     * Hosting hosting = marketplace.app().hosting();
+     * UploadManifest manifest = new UploadManifest(Paths.get(".hosting-uploads"));
+     * BundleDeployment deployment = hosting.deployer(manifest).deploy(Paths.get("build.zip"), body);
+     * </code>
+     */
+    public BundleDeployer deployer(@NotNull UploadManifest manifest) {
+        return new BundleDeployer(this, manifest);
+    }
+
     /**
      * The function `findDeployments()` returns a `Call` object that makes a request
      * to find deployments
@@ -171,6 +379,38 @@ public class Hosting implements BaseImplementation<Hosting> {
         return this.service.fetchDeployment(this.headers, this.appId, deploymentId, this.params);
     }
 
+    /**
+     * Waits for a deployment to reach a terminal status, polling {@link #fetchDeployment(String)} with the
+     * adaptive delays of {@link PollingPolicy#DEFAULT} on the {@link DeploymentPoller#shared() shared}
+     * poller. No thread is held while waiting.
+     *
+     * @param deploymentId the deployment id
+     * @return the future completed with the deployment once terminal
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("organisationId")
+     * .host("api.contentstack.io").build();
+     * Hosting hosting = marketplace.app().hosting();
+     * JSONObject deployment = hosting.awaitDeployment("deploymentId").get();
+     * </code>
+     */
+    public CompletableFuture<JSONObject> awaitDeployment(@NotNull String deploymentId) {
+        return awaitDeployment(deploymentId, PollingPolicy.DEFAULT);
+    }
+
+    /**
+     * Waits for a deployment to reach a terminal status with the given polling policy.
+     *
+     * @param deploymentId the deployment id
+     * @param policy       the polling policy
+     * @return the future completed with the deployment once terminal
+     */
+    public CompletableFuture<JSONObject> awaitDeployment(@NotNull String deploymentId, @NotNull PollingPolicy policy) {
+        return DeploymentPoller.shared().await(this, deploymentId, policy);
+    }
+
     /**
      * The function returns the latest live deployment by making an API call.
      *
@@ -215,6 +455,28 @@ public class Hosting implements BaseImplementation<Hosting> {
         return this.service.findDeploymentLogs(this.headers, this.appId, deploymentId, this.params);
     }
 
+    /**
+     * Returns a tail of the logs of a deployment, which reads the logs as a stream on each poll and hands
+     * only the entries it has not handed before to the consumer.
+     *
+     * @param deploymentId the deployment id
+     * @return the log tail
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("organisationId")
+     * .host("api.contentstack.io").build();
+     * Hosting hosting = marketplace.app().hosting();
+     * LogTail tail = hosting.tailDeploymentLogs("deploymentId");
+     * tail.poll(line -&gt; { System.out.println(line); return true; });
+     * </code>
+     */
+    public LogTail tailDeploymentLogs(@NotNull String deploymentId) {
+        Objects.requireNonNull(deploymentId, "deploymentId is required to tail deployment logs");
+        return new LogTail(() -> this.service.streamDeploymentLogs(this.headers, this.appId, deploymentId, this.params));
+    }
+
     /**
      * The function creates a signed download URL using the provided headers, app
      * ID, and parameters.
@@ -260,6 +522,29 @@ public class Hosting implements BaseImplementation<Hosting> {
         return this.service.downloadFile(url, this.headers, this.params);
     }
 
+    /**
+     * Returns a download of the signed download url returned by {@link #createSignedDownloadUrl()} into a
+     * file. The body is streamed to disk with constant memory, verified against a checksum while it streams,
+     * and resumed with range requests when the transfer breaks. As with uploads, the headers of this hosting
+     * are not sent to the signed url.
+     *
+     * @param url    the signed download url
+     * @param target the file to write
+     * @return the download, started by {@link FileDownload#execute()}
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("organisationId")
+     * .host("api.contentstack.io").build();
+     * Hosting hosting = marketplace.app().hosting();
+     * String sha256 = hosting.download(downloadUrl, Paths.get("build.zip")).execute();
+     * </code>
+     */
+    public FileDownload download(@NotNull String url, @NotNull Path target) {
+        return new FileDownload(this.service, url, target).throttle(bandwidth);
+    }
+
     /**
      * The function enables or disables hosting for a specific application.
      * It is used to enable or disable the hosting of an app.
@@ -1,5 +1,6 @@
 package com.contentstack.sdk.marketplace.apps.hosting;
 
+import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import org.json.simple.JSONObject;
 import retrofit2.Call;
@@ -62,6 +63,72 @@ public interface HostingService {
             @HeaderMap Map<String, String> headers,
             @QueryMap Map<String, Object> param);
 
+    /**
+     * Upload file call. Streams the body to a signed upload url.
+     *
+     * @param url  the signed upload url, absolute or relative to the host
+     * @param body the body
+     * @return the call
+     */
+    @PUT
+    Call<ResponseBody> uploadFile(
+            @Url String url,
+            @Body RequestBody body);
+
+    /**
+     * Put file call. Streams the body to a signed upload url bound to PUT.
+     *
+     * @param url     the signed upload url
+     * @param headers the headers of the signed upload
+     * @param body    the body
+     * @return the call
+     */
+    @PUT
+    Call<ResponseBody> putFile(
+            @Url String url,
+            @HeaderMap Map<String, String> headers,
+            @Body RequestBody body);
+
+    /**
+     * Post file call. Streams the body, usually a form, to a signed upload url bound to POST.
+     *
+     * @param url     the signed upload url
+     * @param headers the headers of the signed upload
+     * @param body    the body
+     * @return the call
+     */
+    @POST
+    Call<ResponseBody> postFile(
+            @Url String url,
+            @HeaderMap Map<String, String> headers,
+            @Body RequestBody body);
+
+    /**
+     * Upload part call. Streams one range of a file to a signed upload url.
+     *
+     * @param url          the signed upload url of the part
+     * @param contentRange the content range header of the part
+     * @param body         the body of the part
+     * @return the call
+     */
+    @PUT
+    Call<ResponseBody> uploadPart(
+            @Url String url,
+            @Header("Content-Range") String contentRange,
+            @Body RequestBody body);
+
+    /**
+     * Commit upload call. Completes a chunked upload.
+     *
+     * @param url  the commit url
+     * @param body the body listing the parts
+     * @return the call
+     */
+    @POST
+    Call<ResponseBody> commitUpload(
+            @Url String url,
+            @Body JSONObject body);
+
     /**
      * Create deployments call.
      *
@@ -166,6 +233,23 @@ public interface HostingService {
             @Path("deploymentId") String deploymentId,
             @QueryMap Map<String, Object> queryParams);
 
+    /**
+     * Stream deployment logs call. Same as {@link #findDeploymentLogs}, without buffering the body.
+     *
+     * @param headers      the headers
+     * @param appId        the app id
+     * @param deploymentId the deployment id
+     * @param queryParams  the query params
+     * @return the call
+     */
+    @Streaming
+    @GET("manifests/{appId}/hosting/deployments/{deploymentId}/logs")
+    Call<ResponseBody> streamDeploymentLogs(
+            @HeaderMap Map<String, String> headers,
+            @Path("appId") String appId,
+            @Path("deploymentId") String deploymentId,
+            @QueryMap Map<String, Object> queryParams);
+
     /**
      * Download file call.
      *
@@ -180,4 +264,19 @@ public interface HostingService {
             @HeaderMap Map<String, String> headers,
             @QueryMap Map<String, Object> queryParams);
 
+    /**
+     * Download file call. Streams the body of a signed download url instead of buffering it.
+     *
+     * @param url     the signed download url, absolute or relative to the host
+     * @param range   the range header, or null for the whole file
+     * @param ifRange the if-range header, or null
+     * @return the call
+     */
+    @Streaming
+    @GET
+    Call<ResponseBody> downloadFile(
+            @Url String url,
+            @Header("Range") String range,
+            @Header("If-Range") String ifRange);
+
 }
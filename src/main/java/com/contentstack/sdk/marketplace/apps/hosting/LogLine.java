@@ -0,0 +1,51 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+/**
+ * The type Log line.
+ * <p>
+ * One entry of the logs of a deployment, as emitted by {@link LogTail}.
+ */
+public class LogLine {
+
+    private final long index;
+    private final String timestamp;
+    private final String message;
+
+    LogLine(long index, String timestamp, String message) {
+        this.index = index;
+        this.timestamp = timestamp;
+        this.message = message;
+    }
+
+    /**
+     * Returns the position of the entry in the log, starting at 0.
+     *
+     * @return the index
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the timestamp of the entry as sent by the server.
+     *
+     * @return the timestamp, or null when the entry has none
+     */
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the message of the entry.
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return timestamp != null ? timestamp + " " + message : message;
+    }
+}
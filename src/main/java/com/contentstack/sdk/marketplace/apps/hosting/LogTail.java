@@ -0,0 +1,232 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.Timestamps;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The type Log tail.
+ * <p>
+ * Follows the logs of a running deployment. Each {@link #poll(Consumer)} streams
+ * {@link Hosting#findDeploymentLogs(String)} through a Gson {@link JsonReader}, one entry at a time, and hands
+ * the consumer only the entries after the last one it accepted. Entries are matched by timestamp, counting
+ * entries that share the last timestamp, and by position when they have no timestamp. The whole log is
+ * never held in memory.
+ * <p>
+ * The consumer runs on the reading thread, so the log is read no faster than the consumer takes it, and a
+ * consumer that returns false stops the read: the next poll starts again from the entry it refused.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * LogTail tail = hosting.tailDeploymentLogs("deploymentId");
+ * CompletableFuture&lt;JSONObject&gt; done = hosting.awaitDeployment("deploymentId");
+ * while (!done.isDone()) { tail.poll(line -&gt; { System.out.println(line); return true; }); Thread.sleep(2000); }
+ * tail.poll(line -&gt; { System.out.println(line); return true; });
+ * </code>
+ */
+public class LogTail {
+
+    /**
+     * The interface Consumer.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+
+        /**
+         * Called for each new entry, in log order.
+         *
+         * @param line the entry
+         * @return true to take the entry and keep reading, false to stop without taking it; the next poll
+         * hands it again
+         */
+        boolean accept(LogLine line);
+    }
+
+    private final Supplier<Call<ResponseBody>> logs;
+    private String lastTimestamp;
+    private int seenAtLastTimestamp;
+    private long offset;
+
+    LogTail(@NotNull Supplier<Call<ResponseBody>> logs) {
+        this.logs = Objects.requireNonNull(logs, "logs are required");
+    }
+
+    /**
+     * Fetches the log and hands the new entries to the consumer.
+     *
+     * @param consumer the consumer
+     * @return the number of entries accepted
+     * @throws IOException when the log cannot be fetched or read
+     */
+    public synchronized int poll(@NotNull Consumer consumer) throws IOException {
+        Objects.requireNonNull(consumer, "consumer is required");
+        Response<ResponseBody> response = logs.get().execute();
+        try (ResponseBody body = response.isSuccessful() ? response.body() : response.errorBody()) {
+            if (!response.isSuccessful()) {
+                throw new HttpStatusException(response.code(), body != null ? body.string() : null);
+            }
+            if (body == null) {
+                return 0;
+            }
+            try (JsonReader reader = new JsonReader(body.charStream())) {
+                Read read = new Read(consumer);
+                findEntries(reader, read);
+                return read.accepted;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries seen so far.
+     *
+     * @return the offset
+     */
+    public synchronized long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the timestamp of the last entry accepted.
+     *
+     * @return the timestamp, or null
+     */
+    public synchronized String getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    /**
+     * Looks for the array of entries: the body itself, or the {@code data} or {@code logs} member of the body
+     * or of its {@code data} object.
+     *
+     * @return false when the consumer stopped the read
+     */
+    private boolean findEntries(JsonReader reader, Read read) throws IOException {
+        if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+            return readEntries(reader, read);
+        }
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return true;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (("data".equals(name) || "logs".equals(name)) && reader.peek() != JsonToken.NULL) {
+                if (!findEntries(reader, read)) {
+                    return false;
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return true;
+    }
+
+    private boolean readEntries(JsonReader reader, Read read) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            LogLine line = readEntry(reader, read.index++);
+            if (isNew(line, read) && !accept(line, read)) {
+                return false;
+            }
+        }
+        reader.endArray();
+        return true;
+    }
+
+    private static LogLine readEntry(JsonReader reader, long index) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return new LogLine(index, null, scalar(reader));
+        }
+        String timestamp = null;
+        String message = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "timestamp":
+                case "time":
+                case "created_at":
+                    timestamp = scalar(reader);
+                    break;
+                case "message":
+                case "msg":
+                case "log":
+                    message = scalar(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new LogLine(index, timestamp, message);
+    }
+
+    private static String scalar(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return String.valueOf(reader.nextBoolean());
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    private boolean isNew(LogLine line, Read read) {
+        if (line.getTimestamp() == null || read.since == null) {
+            return line.getIndex() >= read.sinceOffset;
+        }
+        int order = Timestamps.compare(line.getTimestamp(), read.since);
+        if (order == 0) {
+            return ++read.sameAsSince > read.seenAtSince;
+        }
+        return order > 0;
+    }
+
+    private boolean accept(LogLine line, Read read) {
+        if (!read.consumer.accept(line)) {
+            return false;
+        }
+        read.accepted++;
+        offset = line.getIndex() + 1;
+        if (line.getTimestamp() != null) {
+            if (Timestamps.compare(line.getTimestamp(), lastTimestamp) == 0) {
+                seenAtLastTimestamp++;
+            } else {
+                lastTimestamp = line.getTimestamp();
+                seenAtLastTimestamp = 1;
+            }
+        }
+        return true;
+    }
+
+    private final class Read {
+        private final Consumer consumer;
+        private final String since = lastTimestamp;
+        private final int seenAtSince = seenAtLastTimestamp;
+        private final long sinceOffset = offset;
+        private int sameAsSince;
+        private long index;
+        private int accepted;
+
+        private Read(Consumer consumer) {
+            this.consumer = consumer;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The type Polling policy.
+ * <p>
+ * Decides how long {@link DeploymentPoller} waits before fetching a deployment again. Each status has a base
+ * delay close to how long that phase usually lasts: short while a deployment is queued or going live, longer
+ * while it builds. While the status stays the same the delay grows by {@code multiplier} up to
+ * {@code maxDelayMillis}, and a new status starts again from its own base delay, so a phase change is seen
+ * quickly without polling a long build every few seconds. A jitter of 10% keeps many deployments from
+ * polling in step.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * PollingPolicy policy = new PollingPolicy.Builder().phaseDelay("building", 10_000).timeout(900_000).build();
+ * </code>
+ */
+public class PollingPolicy {
+
+    /**
+     * The default policy.
+     */
+    public static final PollingPolicy DEFAULT = new Builder().build();
+
+    private final Map<String, Long> phaseDelays;
+    private final long defaultDelayMillis;
+    private final double multiplier;
+    private final long maxDelayMillis;
+    private final long timeoutMillis;
+    private final Set<String> terminalStatuses;
+    private final boolean jitter;
+
+    private PollingPolicy(Builder builder) {
+        this.phaseDelays = Collections.unmodifiableMap(new HashMap<>(builder.phaseDelays));
+        this.defaultDelayMillis = builder.defaultDelayMillis;
+        this.multiplier = builder.multiplier;
+        this.maxDelayMillis = builder.maxDelayMillis;
+        this.timeoutMillis = builder.timeoutMillis;
+        this.terminalStatuses = Collections.unmodifiableSet(new HashSet<>(builder.terminalStatuses));
+        this.jitter = builder.jitter;
+    }
+
+    /**
+     * Returns true when the status ends the deployment.
+     *
+     * @param status the status of the deployment
+     * @return true when terminal
+     */
+    public boolean isTerminal(String status) {
+        return status != null && terminalStatuses.contains(status.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the delay before the next poll.
+     *
+     * @param status       the status of the last poll, or null when it failed
+     * @param pollsInPhase the number of polls that returned this status in a row, at least 1
+     * @return the delay in milliseconds
+     */
+    public long nextDelay(String status, int pollsInPhase) {
+        Long base = status == null ? null : phaseDelays.get(status.toLowerCase(Locale.ROOT));
+        double delay = (base != null ? base : defaultDelayMillis) * Math.pow(multiplier, pollsInPhase - 1);
+        long capped = (long) Math.min(maxDelayMillis, delay);
+        if (!jitter || capped < 10) {
+            return capped;
+        }
+        return capped - capped / 10 + ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+    }
+
+    /**
+     * Returns how long to wait for a terminal status before giving up.
+     *
+     * @return the timeout in milliseconds
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private final Map<String, Long> phaseDelays = new HashMap<>();
+        private long defaultDelayMillis = 3000;
+        private double multiplier = 1.5;
+        private long maxDelayMillis = 30_000;
+        private long timeoutMillis = 30 * 60 * 1000L;
+        private final Set<String> terminalStatuses = new HashSet<>(Arrays.asList(
+                "live", "deployed", "success", "failed", "error", "cancelled", "canceled", "skipped"));
+        private boolean jitter = true;
+
+        /**
+         * Instantiates a new Builder with the usual phases: queued and deploying polled after 2 seconds,
+         * building after 5 seconds.
+         */
+        public Builder() {
+            phaseDelays.put("queued", 2000L);
+            phaseDelays.put("pending", 2000L);
+            phaseDelays.put("building", 5000L);
+            phaseDelays.put("in_progress", 5000L);
+            phaseDelays.put("deploying", 2000L);
+        }
+
+        /**
+         * Sets the base delay of a phase.
+         *
+         * @param status      the status of the phase
+         * @param delayMillis the base delay in milliseconds
+         * @return the builder
+         */
+        public Builder phaseDelay(@NotNull String status, long delayMillis) {
+            Objects.requireNonNull(status, "status is required");
+            phaseDelays.put(status.toLowerCase(Locale.ROOT), delayMillis);
+            return this;
+        }
+
+        /**
+         * Sets the base delay of the statuses without a phase delay, and after a failed poll.
+         * Defaults to 3 seconds.
+         *
+         * @param delayMillis the delay in milliseconds
+         * @return the builder
+         */
+        public Builder defaultDelay(long delayMillis) {
+            this.defaultDelayMillis = delayMillis;
+            return this;
+        }
+
+        /**
+         * Sets how much the delay grows while the status stays the same. Defaults to 1.5.
+         *
+         * @param multiplier the multiplier, at least 1
+         * @return the builder
+         */
+        public Builder multiplier(double multiplier) {
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("multiplier must be at least 1");
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the longest delay between polls. Defaults to 30 seconds.
+         *
+         * @param maxDelayMillis the delay in milliseconds
+         * @return the builder
+         */
+        public Builder maxDelay(long maxDelayMillis) {
+            this.maxDelayMillis = maxDelayMillis;
+            return this;
+        }
+
+        /**
+         * Sets how long to wait for a terminal status. Defaults to 30 minutes.
+         *
+         * @param timeoutMillis the timeout in milliseconds
+         * @return the builder
+         */
+        public Builder timeout(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+            return this;
+        }
+
+        /**
+         * Adds a status that ends the deployment.
+         *
+         * @param status the status
+         * @return the builder
+         */
+        public Builder terminalStatus(@NotNull String status) {
+            Objects.requireNonNull(status, "status is required");
+            terminalStatuses.add(status.toLowerCase(Locale.ROOT));
+            return this;
+        }
+
+        /**
+         * Turns the 10% jitter on or off. Defaults to on.
+         *
+         * @param jitter true to add jitter
+         * @return the builder
+         */
+        public Builder jitter(boolean jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Build polling policy.
+         *
+         * @return the polling policy
+         */
+        public PollingPolicy build() {
+            return new PollingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The type Signed upload.
+ * <p>
+ * The target of an upload as returned by {@link Hosting#createSignedUploadUrl()}: the url, the HTTP method,
+ * the form fields the storage expects before the file, and the headers to send with it. A signed url is
+ * bound to its method, so the upload sends exactly what the response asks for. When the response names no
+ * method, a response with form fields is posted as a form, as a presigned POST expects, and any other is
+ * sent with PUT.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * SignedUpload upload = SignedUpload.of(Responses.parse(Responses.execute(hosting.createSignedUploadUrl())));
+ * Call response = hosting.uploadFile(upload, Paths.get("build.zip"), null);
+ * </code>
+ */
+public class SignedUpload {
+
+    /**
+     * The name of the form field that carries the file of a POST upload.
+     */
+    public static final String FILE_FIELD = "file";
+
+    private final String url;
+    private final String method;
+    private final Map<String, String> fields;
+    private final Map<String, String> headers;
+    private final String uploadUid;
+
+    /**
+     * Instantiates a new Signed upload.
+     *
+     * @param url       the signed upload url
+     * @param method    the HTTP method, PUT or POST
+     * @param fields    the form fields of a POST upload, sent in order before the file
+     * @param headers   the headers to send with the upload
+     * @param uploadUid the upload uid, or null
+     */
+    public SignedUpload(@NotNull String url, @NotNull String method, @NotNull Map<String, String> fields,
+                        @NotNull Map<String, String> headers, String uploadUid) {
+        this.url = Objects.requireNonNull(url, "url is required");
+        this.method = Objects.requireNonNull(method, "method is required").toUpperCase(Locale.ROOT);
+        if (!"PUT".equals(this.method) && !"POST".equals(this.method)) {
+            throw new IllegalArgumentException("Unsupported upload method " + method);
+        }
+        this.fields = Collections.unmodifiableMap(new LinkedHashMap<>(
+                Objects.requireNonNull(fields, "fields are required")));
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(
+                Objects.requireNonNull(headers, "headers are required")));
+        this.uploadUid = uploadUid;
+    }
+
+    /**
+     * Reads the response of {@link Hosting#createSignedUploadUrl()}, with or without its {@code data}
+     * envelope. The fields and headers are read either as an object or as a list of key and value pairs.
+     *
+     * @param response the parsed response
+     * @return the signed upload
+     * @throws IOException when the response has no upload url or asks for an unsupported method
+     */
+    public static SignedUpload of(@NotNull JSONObject response) throws IOException {
+        Objects.requireNonNull(response, "response is required");
+        Object data = response.get("data");
+        JSONObject signed = data instanceof JSONObject ? (JSONObject) data : response;
+        Object url = signed.get("upload_url");
+        if (url == null) {
+            throw new IOException("The signed upload url response has no upload_url");
+        }
+        Map<String, String> fields = pairs(signed.get("fields"));
+        Object method = signed.get("method");
+        Object uploadUid = signed.get("upload_uid");
+        try {
+            return new SignedUpload(url.toString(),
+                    method != null ? method.toString() : fields.isEmpty() ? "PUT" : "POST",
+                    fields, pairs(signed.get("headers")), uploadUid != null ? uploadUid.toString() : null);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the body sent for the file: the file itself for PUT, or a multipart form with the fields
+     * followed by the file for POST.
+     *
+     * @param file the body of the file
+     * @return the request body
+     */
+    RequestBody body(@NotNull RequestBody file) {
+        if ("PUT".equals(method)) {
+            return file;
+        }
+        MultipartBody.Builder form = new MultipartBody.Builder().setType(MultipartBody.FORM);
+        fields.forEach(form::addFormDataPart);
+        // storages that accept presigned posts ignore the fields that follow the file
+        return form.addFormDataPart(FILE_FIELD, FILE_FIELD, file).build();
+    }
+
+    /**
+     * Returns the signed upload url.
+     *
+     * @return the url
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the HTTP method of the upload, PUT or POST.
+     *
+     * @return the method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the form fields of a POST upload.
+     *
+     * @return the fields
+     */
+    public Map<String, String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the headers sent with the upload.
+     *
+     * @return the headers
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the uid of the upload, given to {@link Hosting#createDeployment(JSONObject)}.
+     *
+     * @return the upload uid, or null
+     */
+    public String getUploadUid() {
+        return uploadUid;
+    }
+
+    private static Map<String, String> pairs(Object value) {
+        Map<String, String> pairs = new LinkedHashMap<>();
+        if (value instanceof JSONObject) {
+            for (Object entry : ((JSONObject) value).entrySet()) {
+                Map.Entry<?, ?> pair = (Map.Entry<?, ?>) entry;
+                pairs.put(String.valueOf(pair.getKey()), String.valueOf(pair.getValue()));
+            }
+        } else if (value instanceof JSONArray) {
+            for (Object item : (JSONArray) value) {
+                if (item instanceof JSONObject && ((JSONObject) item).get("key") != null) {
+                    JSONObject pair = (JSONObject) item;
+                    pairs.put(pair.get("key").toString(), String.valueOf(pair.get("value")));
+                }
+            }
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,249 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The type Streaming body.
+ * <p>
+ * A request body that streams a file or a stream to the socket through a buffer of {@link #BUFFER_SIZE}
+ * bytes, so the memory used by an upload stays the same whatever the size of the bundle. Bodies read from a
+ * {@link Path} or a {@link FileChannel} read from their start position on every write and can be retried;
+ * bodies read from an {@link InputStream} can be written once. A body given {@link Bandwidth} limits is
+ * written no faster than them.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * RequestBody body = StreamingBody.of(Paths.get("build.zip"), (sent, total) -&gt; log(sent, total));
+ * </code>
+ */
+public abstract class StreamingBody extends RequestBody {
+
+    /**
+     * The size of the buffer used to move the bytes, 64 KiB.
+     */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The media type of the bodies.
+     */
+    public static final MediaType OCTET_STREAM = MediaType.get("application/octet-stream");
+
+    private final long contentLength;
+    private final TransferListener listener;
+    private Bandwidth[] limits = new Bandwidth[0];
+
+    private StreamingBody(long contentLength, TransferListener listener) {
+        this.contentLength = contentLength;
+        this.listener = listener;
+    }
+
+    /**
+     * Returns a body that streams the file. The file is opened each time the body is written.
+     *
+     * @param file     the file
+     * @param listener the progress listener, or null
+     * @return the body
+     * @throws IOException when the size of the file cannot be read
+     */
+    public static StreamingBody of(@NotNull Path file, @Nullable TransferListener listener) throws IOException {
+        Objects.requireNonNull(file, "file is required");
+        return new FileBody(file, null, 0, Files.size(file), listener);
+    }
+
+    /**
+     * Returns a body that streams the channel from its current position to its end. The position of the
+     * channel is left unchanged and the channel is not closed.
+     *
+     * @param channel  the channel
+     * @param listener the progress listener, or null
+     * @return the body
+     * @throws IOException when the position or size of the channel cannot be read
+     */
+    public static StreamingBody of(@NotNull FileChannel channel, @Nullable TransferListener listener)
+            throws IOException {
+        Objects.requireNonNull(channel, "channel is required");
+        return of(channel, channel.position(), channel.size() - channel.position(), listener);
+    }
+
+    /**
+     * Returns a body that streams a range of the channel. The position of the channel is left unchanged and
+     * the channel is not closed.
+     *
+     * @param channel  the channel
+     * @param offset   the position of the first byte
+     * @param length   the number of bytes
+     * @param listener the progress listener, or null
+     * @return the body
+     */
+    public static StreamingBody of(@NotNull FileChannel channel, long offset, long length,
+                                   @Nullable TransferListener listener) {
+        Objects.requireNonNull(channel, "channel is required");
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("offset and length cannot be negative");
+        }
+        return new FileBody(null, channel, offset, length, listener);
+    }
+
+    /**
+     * Returns a body that streams the input stream. The stream is closed once written and the body cannot
+     * be written again.
+     *
+     * @param in            the input stream
+     * @param contentLength the number of bytes of the stream, or -1 to send it chunked
+     * @param listener      the progress listener, or null
+     * @return the body
+     */
+    public static StreamingBody of(@NotNull InputStream in, long contentLength, @Nullable TransferListener listener) {
+        Objects.requireNonNull(in, "input stream is required");
+        return new StreamBody(in, contentLength, listener);
+    }
+
+    /**
+     * Limits the rate the body is written at. Pass a shared {@link Bandwidth} for a limit across
+     * transfers and a new one for a limit of this body only.
+     *
+     * @param limits the limits, added to those already set
+     * @return the body
+     */
+    public StreamingBody throttle(Bandwidth... limits) {
+        this.limits = Bandwidth.concat(this.limits, limits);
+        return this;
+    }
+
+    @Override
+    public final void writeTo(@NotNull BufferedSink sink) throws IOException {
+        if (limits.length == 0) {
+            transfer(sink);
+            return;
+        }
+        // the throttled sink is not closed, okhttp owns the sink it wraps
+        BufferedSink throttled = Okio.buffer(Bandwidth.sink(sink, limits));
+        transfer(throttled);
+        throttled.emit();
+    }
+
+    /**
+     * Writes the bytes of the body.
+     *
+     * @param sink the sink
+     * @throws IOException when reading or writing fails
+     */
+    abstract void transfer(@NotNull BufferedSink sink) throws IOException;
+
+    @Override
+    public MediaType contentType() {
+        return OCTET_STREAM;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Reports the progress to the listener.
+     *
+     * @param transferred the number of bytes transferred so far
+     */
+    void progress(long transferred) {
+        if (listener != null) {
+            listener.onProgress(transferred, contentLength);
+        }
+    }
+
+    private static final class FileBody extends StreamingBody {
+        private final Path file;
+        private final FileChannel channel;
+        private final long offset;
+        private final long length;
+
+        private FileBody(Path file, FileChannel channel, long offset, long length, TransferListener listener) {
+            super(length, listener);
+            this.file = file;
+            this.channel = channel;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        void transfer(@NotNull BufferedSink sink) throws IOException {
+            if (file == null) {
+                write(channel, sink);
+                return;
+            }
+            try (FileChannel opened = FileChannel.open(file, StandardOpenOption.READ)) {
+                write(opened, sink);
+            }
+        }
+
+        private void write(FileChannel source, BufferedSink sink) throws IOException {
+            // a direct buffer lets the channel read without an extra copy through a temporary buffer
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            long written = 0;
+            while (written < length) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE, length - written));
+                int read = source.read(buffer, offset + written);
+                if (read < 0) {
+                    throw new IOException("File ended after " + written + " of " + length + " bytes");
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    sink.write(buffer);
+                }
+                sink.emit();
+                written += read;
+                progress(written);
+            }
+        }
+    }
+
+    private static final class StreamBody extends StreamingBody {
+        private final InputStream in;
+        private final AtomicBoolean sent = new AtomicBoolean();
+
+        private StreamBody(InputStream in, long contentLength, TransferListener listener) {
+            super(contentLength, listener);
+            this.in = in;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return true;
+        }
+
+        @Override
+        void transfer(@NotNull BufferedSink sink) throws IOException {
+            // a retry, or a body wrapped in a form, could write again; the stream is gone by then
+            if (!sent.compareAndSet(false, true)) {
+                throw new IOException("An input stream body is sent once and cannot be retried");
+            }
+            try (Source source = Okio.source(in)) {
+                long written = 0;
+                long read;
+                while ((read = source.read(sink.getBuffer(), BUFFER_SIZE)) != -1) {
+                    sink.emit();
+                    written += read;
+                    progress(written);
+                }
+            }
+        }
+    }
+}
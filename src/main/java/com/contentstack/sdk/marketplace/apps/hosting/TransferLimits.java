@@ -0,0 +1,88 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounds the API requests and uploads running at a time across the apps of a {@link DeploymentPipeline},
+ * and the bandwidth of the uploads.
+ */
+final class TransferLimits {
+
+    /**
+     * No limits.
+     */
+    static final TransferLimits NONE = new TransferLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, null, 0);
+
+    /**
+     * A blocking step that may fail.
+     *
+     * @param <T> the type of the result
+     */
+    interface Step<T> {
+        T run() throws IOException;
+    }
+
+    private final Semaphore requests;
+    private final Semaphore uploads;
+    private final Bandwidth bandwidth;
+    private final long uploadBytesPerSecond;
+
+    TransferLimits(int maxRequests, int maxUploads, Bandwidth bandwidth, long uploadBytesPerSecond) {
+        this.requests = new Semaphore(maxRequests, true);
+        this.uploads = new Semaphore(maxUploads, true);
+        this.bandwidth = bandwidth;
+        this.uploadBytesPerSecond = uploadBytesPerSecond;
+    }
+
+    /**
+     * Returns the limits of one upload: the shared bandwidth and a new per-upload bandwidth, when set.
+     */
+    Bandwidth[] uploadBandwidth() {
+        return Bandwidth.nonNull(bandwidth,
+                uploadBytesPerSecond > 0 ? Bandwidth.bytesPerSecond(uploadBytesPerSecond) : null);
+    }
+
+    <T> T request(Step<T> step) throws IOException {
+        return run(requests, step);
+    }
+
+    <T> T upload(Step<T> step) throws IOException {
+        return run(uploads, step);
+    }
+
+    /**
+     * Takes a request slot without waiting, for steps that must not block their thread, such as the polls
+     * of the {@link DeploymentPoller}. The slot is given back with {@link #releaseRequest()}.
+     */
+    boolean tryRequest() {
+        return requests.tryAcquire();
+    }
+
+    void releaseRequest() {
+        requests.release();
+    }
+
+    int availableRequests() {
+        return requests.availablePermits();
+    }
+
+    int availableUploads() {
+        return uploads.availablePermits();
+    }
+
+    private static <T> T run(Semaphore permits, Step<T> step) throws IOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a transfer slot");
+        }
+        try {
+            return step.run();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+/**
+ * The interface Transfer listener.
+ * <p>
+ * Receives the progress of a hosting upload or download. It is called on the thread moving the bytes, after
+ * each buffer, so it should return quickly.
+ */
+@FunctionalInterface
+public interface TransferListener {
+
+    /**
+     * Called after each buffer is transferred.
+     *
+     * @param transferred   the number of bytes transferred so far
+     * @param contentLength the total number of bytes, or -1 when unknown
+     */
+    void onProgress(long transferred, long contentLength);
+}
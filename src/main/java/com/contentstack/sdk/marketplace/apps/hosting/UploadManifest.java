@@ -0,0 +1,111 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The type Upload manifest.
+ * <p>
+ * Remembers which bundles were already uploaded for each app, as a properties file that maps
+ * {@code <app uid>.<sha-256 of the bundle>} to the {@code upload_uid} of the upload. The file is rewritten
+ * through a temporary file on every change, so a crash leaves either the old or the new manifest.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * UploadManifest manifest = new UploadManifest(Paths.get(".hosting-uploads"));
+ * BundleDeployment deployment = hosting.deployer(manifest).deploy(Paths.get("build.zip"), body);
+ * </code>
+ */
+public class UploadManifest {
+
+    private final Path file;
+    private final Properties uploads = new Properties();
+
+    /**
+     * Loads the manifest, starting empty when the file does not exist.
+     *
+     * @param file the manifest file
+     * @throws IOException when the file cannot be read
+     */
+    public UploadManifest(@NotNull Path file) throws IOException {
+        this.file = Objects.requireNonNull(file, "manifest file is required");
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                uploads.load(in);
+            }
+        }
+    }
+
+    /**
+     * Returns the upload of a bundle.
+     *
+     * @param appUid   the app uid
+     * @param checksum the sha-256 of the bundle as hex
+     * @return the upload uid, or null when the bundle was not uploaded for the app
+     */
+    public synchronized String get(@NotNull String appUid, @NotNull String checksum) {
+        return uploads.getProperty(key(appUid, checksum));
+    }
+
+    /**
+     * Records the upload of a bundle.
+     *
+     * @param appUid    the app uid
+     * @param checksum  the sha-256 of the bundle as hex
+     * @param uploadUid the upload uid
+     * @throws IOException when the manifest cannot be written
+     */
+    public synchronized void put(@NotNull String appUid, @NotNull String checksum, @NotNull String uploadUid)
+            throws IOException {
+        Objects.requireNonNull(uploadUid, "uploadUid is required");
+        if (!uploadUid.equals(uploads.setProperty(key(appUid, checksum), uploadUid))) {
+            save();
+        }
+    }
+
+    /**
+     * Forgets the upload of a bundle, for instance once the server no longer knows it.
+     *
+     * @param appUid   the app uid
+     * @param checksum the sha-256 of the bundle as hex
+     * @throws IOException when the manifest cannot be written
+     */
+    public synchronized void remove(@NotNull String appUid, @NotNull String checksum) throws IOException {
+        if (uploads.remove(key(appUid, checksum)) != null) {
+            save();
+        }
+    }
+
+    /**
+     * Returns the number of uploads recorded across apps.
+     *
+     * @return the size
+     */
+    public synchronized int size() {
+        return uploads.size();
+    }
+
+    private static String key(String appUid, String checksum) {
+        Objects.requireNonNull(appUid, "appUid is required");
+        Objects.requireNonNull(checksum, "checksum is required");
+        return appUid + "." + checksum.toLowerCase(Locale.ROOT);
+    }
+
+    private void save() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            uploads.store(out, "hosting uploads by app and bundle sha-256");
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,72 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+/**
+ * The type Upload part.
+ * <p>
+ * One range of a file uploaded by a {@link ChunkedUpload}.
+ */
+public class UploadPart {
+
+    private final int index;
+    private final long offset;
+    private final long length;
+    private final String etag;
+
+    UploadPart(int index, long offset, long length, String etag) {
+        this.index = index;
+        this.offset = offset;
+        this.length = length;
+        this.etag = etag;
+    }
+
+    /**
+     * Returns the position of the part in the file, starting at 0.
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the position of the first byte of the part.
+     *
+     * @return the offset
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of bytes of the part.
+     *
+     * @return the length
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the ETag the server answered for the part.
+     *
+     * @return the etag, or null when the server sent none
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Returns the value of the {@code Content-Range} header of the part.
+     *
+     * @param total the size of the file
+     * @return the content range
+     */
+    String contentRange(long total) {
+        return "bytes " + offset + "-" + (offset + length - 1) + "/" + total;
+    }
+
+    @Override
+    public String toString() {
+        return "UploadPart{" + index + ", " + offset + "+" + length + (etag != null ? ", " + etag : "") + "}";
+    }
+}
@@ -8,6 +8,7 @@ import retrofit2.Call;
 import retrofit2.Retrofit;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -28,6 +29,7 @@ public class Oauth implements BaseImplementation<Oauth> {
      * The App id.
      */
     protected String appId;
+    private final Retrofit client;
 
     /**
      * Instantiates a new Oauth.
@@ -48,6 +50,7 @@ public class Oauth implements BaseImplementation<Oauth> {
         this.params = new HashMap<>();
         this.headers.put("organization_uid", organizationId);
         this.service = client.create(OauthService.class);
+        this.client = client;
     }
 
     /**
@@ -75,6 +78,15 @@ public class Oauth implements BaseImplementation<Oauth> {
         Objects.requireNonNull(organizationId, "Organization uid could not be empty");
         this.headers.put("organization_uid", organizationId);
         this.service = client.create(OauthService.class);
+        this.client = client;
+    }
+
+    private Oauth(Oauth other) {
+        this.service = other.service;
+        this.client = other.client;
+        this.appId = other.appId;
+        this.headers = new HashMap<>(other.headers);
+        this.params = new HashMap<>(other.params);
     }
 
     /**
@@ -121,6 +133,29 @@ public class Oauth implements BaseImplementation<Oauth> {
         return service.updateOauthConfiguration(this.headers, this.appId, body);
     }
 
+    Call<ResponseBody> updateOauthConfiguration(String appId, JSONObject body) {
+        return service.updateOauthConfiguration(this.headers, appId, body);
+    }
+
+    /**
+     * Returns a builder for an audit of the OAuth configuration of many apps against a spec. The audit
+     * works on a copy of this oauth, with its headers.
+     *
+     * @param spec the configuration every app should have
+     * @return the audit builder
+     *
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * OauthAudit audit = marketplace.app().oauth().audit(spec).build();
+     * List&lt;OauthDiff&gt; pending = OauthAudit.pending(audit.diff(appIds));
+     * </code>
+     */
+    public OauthAudit.Builder audit(@NotNull OauthSpec spec) {
+        return new OauthAudit.Builder(new Oauth(this), spec);
+    }
+
     /**
      * The function `findScopes()` returns a `Call` object that makes a network
      * request to find scopes
@@ -142,6 +177,40 @@ public class Oauth implements BaseImplementation<Oauth> {
         return service.findScopes(this.headers);
     }
 
+    /**
+     * Finds the scopes unless the catalog still has the given entity tag, in which case the server answers
+     * 304 without a body.
+     */
+    Call<ResponseBody> findScopes(String ifNoneMatch) {
+        return service.findScopes(this.headers, ifNoneMatch);
+    }
+
+    /**
+     * Returns the scope catalog shared by the oauths of the client and organization of this oauth, so each
+     * marketplace has its own. The catalog is loaded on first use and refreshed in the background, so scope
+     * lookups answer from memory. The headers of the oauth that first asks for the catalog are used by its
+     * refreshes.
+     *
+     * @return the scope catalog
+     *
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+     * .host("api.contentstack.io").build();
+     * ScopeCatalog catalog = marketplace.app().oauth().scopeCatalog();
+     * Set&lt;String&gt; unknown = catalog.current().invalid(requestedScopes);
+     * </code>
+     */
+    public ScopeCatalog scopeCatalog() {
+        return ScopeCatalog.shared(this);
+    }
+
+    List<Object> catalogKey() {
+        return ScopeCatalog.key(client, String.valueOf(headers.get("organization_uid")));
+    }
+
     /**
      * Adds a header with the specified key and value to this location and returns
      * the updated location.
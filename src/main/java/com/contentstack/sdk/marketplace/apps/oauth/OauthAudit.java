@@ -0,0 +1,251 @@
+package com.contentstack.sdk.marketplace.apps.oauth;
+
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.BulkResult;
+import com.contentstack.sdk.marketplace.bulk.BulkTask;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.bulk.RateLimiter;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The type Oauth audit.
+ * <p>
+ * Brings the OAuth configuration of many apps in line with an {@link OauthSpec} in two steps.
+ * {@link #diff(Collection)} fetches the configuration of every app in parallel and compares it with the
+ * spec, without changing anything. {@link #apply(Collection)} then sends the update of the apps whose diff
+ * is not empty, a few at a time, so apps that already match cost one read and no write. The diffs can be
+ * reviewed, or filtered, between the two steps.
+ * <p>
+ * Every call is tagged {@link Priority#BULK}.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * OauthAudit audit = marketplace.app().oauth().audit(spec).parallelism(16).build();
+ * BulkReport&lt;String, OauthDiff&gt; diffs = audit.diff(OauthAudit.appIdsOf(marketplace.app().streamApps()));
+ * BulkReport&lt;String, JSONObject&gt; updates = audit.apply(OauthAudit.pending(diffs));
+ * </code>
+ */
+public class OauthAudit {
+
+    /**
+     * The default number of updates sent at a time.
+     */
+    public static final int DEFAULT_UPDATE_PARALLELISM = 4;
+
+    private final Oauth oauth;
+    private final OauthSpec spec;
+    private final BulkExecutor fetches;
+    private final BulkExecutor updates;
+
+    private OauthAudit(Builder builder) {
+        this.oauth = Priority.BULK.tag(builder.oauth);
+        this.spec = builder.spec;
+        RateLimiter rateLimiter = builder.requestsPerSecond > 0
+                ? new RateLimiter(builder.requestsPerSecond, (int) Math.max(1, builder.requestsPerSecond)) : null;
+        this.fetches = new BulkExecutor.Builder().parallelism(builder.parallelism).retry(builder.retryPolicy)
+                .rateLimit(rateLimiter).build();
+        this.updates = new BulkExecutor.Builder().parallelism(builder.updateParallelism).retry(builder.retryPolicy)
+                .rateLimit(rateLimiter).build();
+    }
+
+    /**
+     * Reads every page of a stream of apps, such as {@code App.streamApps()}, and returns the uids of the
+     * apps.
+     *
+     * @param apps the apps
+     * @return the app uids
+     * @throws IOException when a page cannot be fetched
+     */
+    public static List<String> appIdsOf(@NotNull PageIterator apps) throws IOException {
+        Objects.requireNonNull(apps, "apps are required");
+        List<String> appIds = new ArrayList<>();
+        try {
+            while (apps.hasNext()) {
+                Object uid = apps.next().get("uid");
+                if (uid != null) {
+                    appIds.add(String.valueOf(uid));
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return appIds;
+    }
+
+    /**
+     * Returns the diffs of a report that need an update.
+     *
+     * @param report the report of {@link #diff(Collection)}
+     * @return the diffs that are not empty
+     */
+    public static List<OauthDiff> pending(@NotNull BulkReport<String, OauthDiff> report) {
+        List<OauthDiff> pending = new ArrayList<>();
+        for (BulkResult<String, OauthDiff> result : report.getSucceeded()) {
+            if (!result.getValue().isEmpty()) {
+                pending.add(result.getValue());
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Fetches the OAuth configuration of the apps in parallel and compares each with the spec. Nothing is
+     * updated. An app given twice is fetched once.
+     *
+     * @param appIds the app uids
+     * @return the diff of each app, or the error of its fetch
+     */
+    public BulkReport<String, OauthDiff> diff(@NotNull Collection<String> appIds) {
+        Objects.requireNonNull(appIds, "appIds are required");
+        return run(fetches, new LinkedHashSet<>(appIds), appId -> {
+            JSONObject response = Responses.parse(Responses.execute(oauth.fetchOauthConfiguration(appId)));
+            Object data = response.get("data");
+            return OauthDiff.of(appId, data instanceof JSONObject ? (JSONObject) data : response, spec);
+        });
+    }
+
+    /**
+     * Sends the update of each diff that is not empty, a few at a time. Empty diffs are skipped without a
+     * call, as is a second diff of the same app.
+     *
+     * @param diffs the diffs, usually {@link #pending(BulkReport)}
+     * @return the response of each update, or its error
+     */
+    public BulkReport<String, JSONObject> apply(@NotNull Collection<OauthDiff> diffs) {
+        Objects.requireNonNull(diffs, "diffs are required");
+        Map<String, OauthDiff> byApp = new LinkedHashMap<>();
+        for (OauthDiff diff : diffs) {
+            if (!diff.isEmpty()) {
+                byApp.putIfAbsent(diff.getAppId(), diff);
+            }
+        }
+        return run(updates, byApp.keySet(), appId -> Responses.parse(Responses.execute(
+                oauth.updateOauthConfiguration(appId, byApp.get(appId).getDesired()))));
+    }
+
+    private static <V> BulkReport<String, V> run(BulkExecutor executor, Set<String> appIds,
+                                                 BulkTask<String, V> task) {
+        try {
+            return executor.run(appIds, task, null, null);
+        } catch (IOException e) {
+            // only the checkpoint writes throw and the audit runs without one
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private final Oauth oauth;
+        private final OauthSpec spec;
+        private int parallelism = BulkExecutor.DEFAULT_PARALLELISM;
+        private int updateParallelism = DEFAULT_UPDATE_PARALLELISM;
+        private double requestsPerSecond;
+        private RetryPolicy retryPolicy = RetryPolicy.NONE;
+        private ScopeCatalog scopeCatalog;
+
+        Builder(Oauth oauth, OauthSpec spec) {
+            this.oauth = oauth;
+            this.spec = Objects.requireNonNull(spec, "spec is required");
+        }
+
+        /**
+         * Sets the maximum number of configurations fetched at a time.
+         *
+         * @param parallelism the parallelism
+         * @return the builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of updates sent at a time. Defaults to 4.
+         *
+         * @param updateParallelism the parallelism of the updates
+         * @return the builder
+         */
+        public Builder updateParallelism(int updateParallelism) {
+            if (updateParallelism < 1) {
+                throw new IllegalArgumentException("updateParallelism must be at least 1");
+            }
+            this.updateParallelism = updateParallelism;
+            return this;
+        }
+
+        /**
+         * Caps the rate of the calls, fetches and updates together. Unlimited by default.
+         *
+         * @param requestsPerSecond the rate, 0 for no limit
+         * @return the builder
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            if (requestsPerSecond < 0) {
+                throw new IllegalArgumentException("requestsPerSecond cannot be negative");
+            }
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the retry policy of the fetches and updates.
+         *
+         * @param retryPolicy the retry policy
+         * @return the builder
+         */
+        public Builder retry(@NotNull RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy is required");
+            return this;
+        }
+
+        /**
+         * Checks the scopes of the spec against the catalog when the audit is built, so a spec with an
+         * unknown scope fails before any app is touched.
+         *
+         * @param scopeCatalog the scope catalog, see {@link Oauth#scopeCatalog()}
+         * @return the builder
+         */
+        public Builder scopeCatalog(ScopeCatalog scopeCatalog) {
+            this.scopeCatalog = scopeCatalog;
+            return this;
+        }
+
+        /**
+         * Build oauth audit.
+         *
+         * @return the oauth audit
+         * @throws IOException when the scope catalog cannot be loaded
+         */
+        public OauthAudit build() throws IOException {
+            if (scopeCatalog != null) {
+                Set<String> invalid = scopeCatalog.invalid(spec.scopes());
+                if (!invalid.isEmpty()) {
+                    throw new IllegalArgumentException("Unknown scopes: " + invalid);
+                }
+            }
+            return new OauthAudit(this);
+        }
+    }
+}
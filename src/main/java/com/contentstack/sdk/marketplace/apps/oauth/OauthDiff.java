@@ -0,0 +1,142 @@
+package com.contentstack.sdk.marketplace.apps.oauth;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The type Oauth diff.
+ * <p>
+ * The difference between the OAuth configuration of one app and an {@link OauthSpec}: the fields that
+ * differ, and the configuration to send so the app matches the spec. An empty diff needs no update.
+ */
+public final class OauthDiff {
+
+    /**
+     * The field of the redirect URI.
+     */
+    public static final String REDIRECT_URI = "redirect_uri";
+    /**
+     * The field of the user token settings.
+     */
+    public static final String USER_TOKEN_CONFIG = "user_token_config";
+    /**
+     * The field of the app token settings.
+     */
+    public static final String APP_TOKEN_CONFIG = "app_token_config";
+
+    private final String appId;
+    private final JSONObject current;
+    private final JSONObject desired;
+    private final List<String> changes;
+
+    private OauthDiff(String appId, JSONObject current, JSONObject desired, List<String> changes) {
+        this.appId = appId;
+        this.current = current;
+        this.desired = desired;
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Compares the configuration of an app, the {@code data} of {@link Oauth#fetchOauthConfiguration(String)},
+     * with the spec.
+     */
+    @SuppressWarnings("unchecked")
+    static OauthDiff of(String appId, JSONObject current, OauthSpec spec) {
+        List<String> changes = new ArrayList<>();
+        JSONObject desired = new JSONObject();
+        Object redirectUri = current.get(REDIRECT_URI);
+        if (spec.getRedirectUri() != null && !spec.getRedirectUri().equals(redirectUri)) {
+            changes.add(REDIRECT_URI);
+            redirectUri = spec.getRedirectUri();
+        }
+        desired.put(REDIRECT_URI, redirectUri);
+        desired.put(USER_TOKEN_CONFIG, tokenConfig(current, USER_TOKEN_CONFIG, spec.getUserTokenScopes(),
+                spec.isAdditive(), changes));
+        desired.put(APP_TOKEN_CONFIG, tokenConfig(current, APP_TOKEN_CONFIG, spec.getAppTokenScopes(),
+                spec.isAdditive(), changes));
+        return new OauthDiff(appId, current, desired, changes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject tokenConfig(JSONObject current, String field, Set<String> wanted, boolean additive,
+                                          List<String> changes) {
+        JSONObject config = new JSONObject();
+        if (current.get(field) instanceof JSONObject) {
+            config.putAll((JSONObject) current.get(field));
+        }
+        if (wanted == null) {
+            return config;
+        }
+        Set<String> scopes = new LinkedHashSet<>();
+        if (config.get("scopes") instanceof List) {
+            for (Object scope : (List<Object>) config.get("scopes")) {
+                scopes.add(String.valueOf(scope));
+            }
+        }
+        Set<String> updated = new LinkedHashSet<>(additive ? scopes : wanted);
+        updated.addAll(wanted);
+        if (!updated.equals(scopes)) {
+            changes.add(field + ".scopes");
+            JSONArray array = new JSONArray();
+            array.addAll(updated);
+            config.put("scopes", array);
+        }
+        return config;
+    }
+
+    /**
+     * Returns the app id.
+     *
+     * @return the app id
+     */
+    public String getAppId() {
+        return appId;
+    }
+
+    /**
+     * Returns the configuration the app has.
+     *
+     * @return the current configuration
+     */
+    public JSONObject getCurrent() {
+        return current;
+    }
+
+    /**
+     * Returns the configuration that makes the app match the spec, the body of the update.
+     *
+     * @return the desired configuration
+     */
+    public JSONObject getDesired() {
+        return desired;
+    }
+
+    /**
+     * Returns the fields that differ, e.g. {@code redirect_uri} or {@code user_token_config.scopes}.
+     *
+     * @return the changed fields
+     */
+    public List<String> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns true when the app already matches the spec.
+     *
+     * @return true when there is nothing to update
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "OauthDiff{appId=" + appId + ", changes=" + changes + "}";
+    }
+}
@@ -34,6 +34,18 @@ public interface OauthService {
     Call<ResponseBody> findScopes(
             @HeaderMap Map<String, String> headers);
 
+    /**
+     * Find scopes call, answered with 304 when the catalog still has the given entity tag.
+     *
+     * @param headers     the headers
+     * @param ifNoneMatch the entity tag of the catalog already held, or null
+     * @return the call
+     */
+    @GET("manifests/oauth/scopes")
+    Call<ResponseBody> findScopes(
+            @HeaderMap Map<String, String> headers,
+            @Header("If-None-Match") String ifNoneMatch);
+
     /**
      * Update oauth configuration call.
      *
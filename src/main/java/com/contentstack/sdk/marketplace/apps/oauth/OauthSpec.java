@@ -0,0 +1,162 @@
+package com.contentstack.sdk.marketplace.apps.oauth;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The type Oauth spec.
+ * <p>
+ * The OAuth configuration every app audited by {@link OauthAudit} should have. Only the parts that are set
+ * are checked: an unset redirect URI or scope list is left as the app has it. Scopes are compared as sets,
+ * exactly by default, or only for missing scopes when the spec is {@link Builder#additive(boolean) additive}.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * OauthSpec spec = new OauthSpec.Builder()
+ * .redirectUri("https://example.com/callback")
+ * .userTokenScopes(Arrays.asList("cm.stacks.management:read"))
+ * .build();
+ * </code>
+ */
+public final class OauthSpec {
+
+    private final String redirectUri;
+    private final Set<String> userTokenScopes;
+    private final Set<String> appTokenScopes;
+    private final boolean additive;
+
+    private OauthSpec(Builder builder) {
+        this.redirectUri = builder.redirectUri;
+        this.userTokenScopes = builder.userTokenScopes;
+        this.appTokenScopes = builder.appTokenScopes;
+        this.additive = builder.additive;
+    }
+
+    /**
+     * Returns the redirect URI every app should have.
+     *
+     * @return the redirect URI, or null when it is not checked
+     */
+    public String getRedirectUri() {
+        return redirectUri;
+    }
+
+    /**
+     * Returns the scopes of the user token.
+     *
+     * @return the scopes, or null when they are not checked
+     */
+    public Set<String> getUserTokenScopes() {
+        return userTokenScopes;
+    }
+
+    /**
+     * Returns the scopes of the app token.
+     *
+     * @return the scopes, or null when they are not checked
+     */
+    public Set<String> getAppTokenScopes() {
+        return appTokenScopes;
+    }
+
+    /**
+     * Returns true when scopes an app has beyond the spec are kept.
+     *
+     * @return true when additive
+     */
+    public boolean isAdditive() {
+        return additive;
+    }
+
+    Set<String> scopes() {
+        Set<String> scopes = new LinkedHashSet<>();
+        if (userTokenScopes != null) {
+            scopes.addAll(userTokenScopes);
+        }
+        if (appTokenScopes != null) {
+            scopes.addAll(appTokenScopes);
+        }
+        return scopes;
+    }
+
+    @Override
+    public String toString() {
+        return "OauthSpec{redirectUri=" + redirectUri + ", userTokenScopes=" + userTokenScopes
+                + ", appTokenScopes=" + appTokenScopes + ", additive=" + additive + "}";
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private String redirectUri;
+        private Set<String> userTokenScopes;
+        private Set<String> appTokenScopes;
+        private boolean additive;
+
+        /**
+         * Sets the redirect URI every app should have.
+         *
+         * @param redirectUri the redirect URI
+         * @return the builder
+         */
+        public Builder redirectUri(@NotNull String redirectUri) {
+            this.redirectUri = Objects.requireNonNull(redirectUri, "redirectUri is required");
+            return this;
+        }
+
+        /**
+         * Sets the scopes of the user token.
+         *
+         * @param scopes the scopes
+         * @return the builder
+         */
+        public Builder userTokenScopes(@NotNull Collection<String> scopes) {
+            this.userTokenScopes = copy(scopes);
+            return this;
+        }
+
+        /**
+         * Sets the scopes of the app token.
+         *
+         * @param scopes the scopes
+         * @return the builder
+         */
+        public Builder appTokenScopes(@NotNull Collection<String> scopes) {
+            this.appTokenScopes = copy(scopes);
+            return this;
+        }
+
+        /**
+         * Sets whether scopes an app has beyond the spec are kept. Defaults to false, so the scopes of an
+         * app are made equal to the spec.
+         *
+         * @param additive true to only add missing scopes
+         * @return the builder
+         */
+        public Builder additive(boolean additive) {
+            this.additive = additive;
+            return this;
+        }
+
+        /**
+         * Build oauth spec.
+         *
+         * @return the oauth spec
+         */
+        public OauthSpec build() {
+            return new OauthSpec(this);
+        }
+
+        private static Set<String> copy(Collection<String> scopes) {
+            Objects.requireNonNull(scopes, "scopes are required");
+            return Collections.unmodifiableSet(new LinkedHashSet<>(scopes));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.contentstack.sdk.marketplace.apps.oauth;
+
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import com.contentstack.sdk.marketplace.scheduler.TimerWheel;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Scope catalog.
+ * <p>
+ * Keeps the OAuth scope catalog of {@link Oauth#findScopes()} in memory. The catalog is loaded on first use,
+ * then refreshed in the background on a fixed delay with a conditional GET, so a catalog that did not change
+ * costs a 304 without a body. Each load builds a new immutable {@link Scopes} index that replaces the
+ * previous one at once; lookups read the current index and never wait on the network once the first load
+ * is done. A failed refresh keeps the previous catalog.
+ * <p>
+ * {@link Oauth#scopeCatalog()} shares one catalog per client and organization, so every marketplace has its
+ * own and closing one leaves the others running. That catalog refreshes on the shared {@link TimerWheel},
+ * which it holds until it is closed.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * ScopeCatalog catalog = marketplace.app().oauth().scopeCatalog();
+ * if (!catalog.isValid("cm.stacks.management:read")) { reject(); }
+ * </code>
+ */
+public class ScopeCatalog implements AutoCloseable {
+
+    /**
+     * The default delay between refreshes, one hour.
+     */
+    public static final long DEFAULT_REFRESH_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final Map<List<Object>, ScopeCatalog> SHARED = new ConcurrentHashMap<>();
+
+    private final Oauth oauth;
+    private final ScheduledExecutorService scheduler;
+    private final long refreshMillis;
+    private volatile Scopes scopes = Scopes.EMPTY;
+    private volatile boolean loaded;
+    private volatile Exception lastError;
+    private ScheduledFuture<?> refresh;
+    private TimerWheel acquired;
+    private boolean closed;
+
+    /**
+     * Instantiates a new Scope catalog that refreshes on the given scheduler.
+     *
+     * @param oauth         the oauth the catalog is fetched with
+     * @param scheduler     the scheduler of the refreshes, owned by the caller
+     * @param refreshMillis the delay between refreshes
+     */
+    public ScopeCatalog(@NotNull Oauth oauth, @NotNull ScheduledExecutorService scheduler, long refreshMillis) {
+        if (refreshMillis < 1) {
+            throw new IllegalArgumentException("refreshMillis must be at least 1");
+        }
+        this.oauth = Objects.requireNonNull(oauth, "oauth is required");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler is required");
+        this.refreshMillis = refreshMillis;
+    }
+
+    static ScopeCatalog shared(Oauth oauth) {
+        return SHARED.compute(oauth.catalogKey(), (key, catalog) -> {
+            if (catalog != null && !catalog.scheduler.isShutdown()) {
+                return catalog;
+            }
+            TimerWheel timers = TimerWheel.acquireShared();
+            ScopeCatalog created = new ScopeCatalog(oauth, timers, DEFAULT_REFRESH_MILLIS);
+            created.acquired = timers;
+            return created;
+        });
+    }
+
+    static List<Object> key(Retrofit client, String organizationUid) {
+        // a retrofit client equals only itself, so the clients of two marketplaces never share an entry
+        return Arrays.asList(client, organizationUid);
+    }
+
+    /**
+     * Closes the catalog shared by the organisation on the client, if any. The next
+     * {@link Oauth#scopeCatalog()} of the organisation on the client starts a new one.
+     *
+     * @param client          the client of the host
+     * @param organizationUid the organization uid
+     */
+    public static void closeShared(@NotNull Retrofit client, @NotNull String organizationUid) {
+        ScopeCatalog catalog = SHARED.get(key(client, organizationUid));
+        if (catalog != null) {
+            catalog.close();
+        }
+    }
+
+    /**
+     * Returns the current catalog, loading it first when it was never loaded.
+     *
+     * @return the catalog
+     * @throws IOException when the first load fails
+     */
+    public Scopes current() throws IOException {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    refresh();
+                    startRefreshing();
+                }
+            }
+        }
+        return scopes;
+    }
+
+    /**
+     * Returns true when the scope is in the catalog.
+     *
+     * @param scope the scope name
+     * @return true when the scope exists
+     * @throws IOException when the first load fails
+     */
+    public boolean isValid(String scope) throws IOException {
+        return current().contains(scope);
+    }
+
+    /**
+     * Returns the scopes that are not in the catalog.
+     *
+     * @param scopes the scope names
+     * @return the unknown scopes, empty when all are valid
+     * @throws IOException when the first load fails
+     */
+    public Set<String> invalid(@NotNull Collection<String> scopes) throws IOException {
+        return current().invalid(scopes);
+    }
+
+    /**
+     * Fetches the catalog now, sending the entity tag of the current catalog so an unchanged catalog is not
+     * sent again.
+     *
+     * @return the catalog after the refresh
+     * @throws IOException when the catalog cannot be fetched
+     */
+    public Scopes refresh() throws IOException {
+        Scopes current = scopes;
+        Response<ResponseBody> response = oauth.findScopes(loaded ? current.getEtag() : null).execute();
+        try (ResponseBody body = response.isSuccessful() ? response.body() : response.errorBody()) {
+            if (response.code() == 304 && loaded) {
+                scopes = current.confirmedAt(System.currentTimeMillis());
+            } else if (!response.isSuccessful()) {
+                throw new HttpStatusException(response.code(), body != null ? body.string() : null);
+            } else {
+                scopes = Scopes.of(Responses.parse(body != null ? body.string() : "{}"),
+                        response.headers().get("ETag"), System.currentTimeMillis());
+            }
+        } catch (IOException e) {
+            lastError = e;
+            throw e;
+        }
+        loaded = true;
+        lastError = null;
+        return scopes;
+    }
+
+    /**
+     * Returns the error of the last refresh when it failed.
+     *
+     * @return the error, or null
+     */
+    public Exception getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Returns true once the catalog was loaded.
+     *
+     * @return true when loaded
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Stops the background refreshes. The catalog keeps answering from its last load. A catalog of
+     * {@link Oauth#scopeCatalog()} also releases the shared {@link TimerWheel}.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (refresh != null) {
+            refresh.cancel(false);
+            refresh = null;
+        }
+        SHARED.remove(oauth.catalogKey(), this);
+        if (acquired != null) {
+            TimerWheel.releaseShared(acquired);
+            acquired = null;
+        }
+    }
+
+    private synchronized void startRefreshing() {
+        if (refresh == null && !closed) {
+            refresh = scheduler.scheduleWithFixedDelay(this::refreshQuietly, refreshMillis, refreshMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (IOException | RuntimeException e) {
+            // the previous catalog keeps serving, the error is kept in lastError
+            lastError = e;
+        }
+    }
+}
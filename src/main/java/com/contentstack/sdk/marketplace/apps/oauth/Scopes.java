@@ -0,0 +1,161 @@
+package com.contentstack.sdk.marketplace.apps.oauth;
+
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The type Scopes.
+ * <p>
+ * An immutable snapshot of the OAuth scope catalog, indexed by scope name so that checking a scope is a
+ * hash lookup. Snapshots are built by the {@link ScopeCatalog} and replaced as a whole on refresh, so a
+ * reader never sees a catalog half updated.
+ */
+public final class Scopes {
+
+    /**
+     * The empty catalog.
+     */
+    public static final Scopes EMPTY = new Scopes(Collections.emptyMap(), null, 0);
+
+    private final Map<String, JSONObject> byName;
+    private final String etag;
+    private final long loadedAt;
+
+    private Scopes(Map<String, JSONObject> byName, String etag, long loadedAt) {
+        this.byName = byName;
+        this.etag = etag;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Indexes the response of {@link Oauth#findScopes()}. Scopes are read from the arrays of the response,
+     * at any depth, as plain strings or as objects named by {@code scope}, {@code name} or {@code uid}.
+     */
+    static Scopes of(JSONObject response, String etag, long loadedAt) {
+        Map<String, JSONObject> byName = new HashMap<>();
+        collect(response, byName);
+        return new Scopes(Collections.unmodifiableMap(byName), etag, loadedAt);
+    }
+
+    private static void collect(Object value, Map<String, JSONObject> byName) {
+        if (value instanceof JSONArray) {
+            for (Object item : (JSONArray) value) {
+                if (item instanceof String) {
+                    byName.put((String) item, new JSONObject());
+                } else if (item instanceof JSONObject && name((JSONObject) item) != null) {
+                    byName.put(name((JSONObject) item), (JSONObject) item);
+                } else {
+                    collect(item, byName);
+                }
+            }
+        } else if (value instanceof JSONObject) {
+            for (Object member : ((JSONObject) value).values()) {
+                collect(member, byName);
+            }
+        }
+    }
+
+    private static String name(JSONObject scope) {
+        for (String field : new String[]{"scope", "name", "uid"}) {
+            Object name = scope.get(field);
+            if (name instanceof String) {
+                return (String) name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true when the scope is in the catalog.
+     *
+     * @param scope the scope name
+     * @return true when the scope exists
+     */
+    public boolean contains(String scope) {
+        return scope != null && byName.containsKey(scope);
+    }
+
+    /**
+     * Returns the scopes that are not in the catalog.
+     *
+     * @param scopes the scope names
+     * @return the unknown scopes, in the order given, empty when all are valid
+     */
+    public Set<String> invalid(@NotNull Collection<String> scopes) {
+        Objects.requireNonNull(scopes, "scopes are required");
+        Set<String> invalid = new LinkedHashSet<>();
+        for (String scope : scopes) {
+            if (!contains(scope)) {
+                invalid.add(scope);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Returns the entry of a scope as listed by the catalog.
+     *
+     * @param scope the scope name
+     * @return the entry, or null when the scope does not exist
+     */
+    public JSONObject get(String scope) {
+        return byName.get(scope);
+    }
+
+    /**
+     * Returns the names of all scopes.
+     *
+     * @return the names
+     */
+    public Set<String> names() {
+        return byName.keySet();
+    }
+
+    /**
+     * Returns the number of scopes.
+     *
+     * @return the size
+     */
+    public int size() {
+        return byName.size();
+    }
+
+    /**
+     * Returns the entity tag the catalog was served with.
+     *
+     * @return the entity tag, or null
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Returns when the catalog was last loaded or confirmed unchanged.
+     *
+     * @return the time in epoch milliseconds, 0 for {@link #EMPTY}
+     */
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Returns the same catalog confirmed unchanged at the given time.
+     */
+    Scopes confirmedAt(long time) {
+        return new Scopes(byName, etag, time);
+    }
+
+    @Override
+    public String toString() {
+        return "Scopes{size=" + byName.size() + ", etag=" + etag + "}";
+    }
+}
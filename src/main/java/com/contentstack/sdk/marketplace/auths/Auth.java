@@ -2,12 +2,14 @@ package com.contentstack.sdk.marketplace.auths;
 
 import com.contentstack.sdk.BaseImplementation;
 import com.contentstack.sdk.marketplace.Constants;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
 import retrofit2.Call;
 import retrofit2.Retrofit;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -51,6 +53,35 @@ public class Auth implements BaseImplementation<Auth> {
         return this.service.findAuthorizedApps(this.headers, this.params);
     }
 
+    /**
+     * Streams all the apps authorized in the organization, {@link PageIterator#DEFAULT_PAGE_SIZE} per page.
+     *
+     * @return the authorized apps
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * PageIterator apps = marketplace.authorizations().streamAuthorizedApps();
+     * while (apps.hasNext()) { audit(apps.next()); }
+     * </code>
+     */
+    public PageIterator streamAuthorizedApps() {
+        return streamAuthorizedApps(PageIterator.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Streams all the apps authorized in the organization, fetching a page only when the previous one is
+     * consumed. The parameters of the auth, such as filters, are sent with every page.
+     *
+     * @param pageSize the number of apps per page
+     * @return the authorized apps
+     */
+    public PageIterator streamAuthorizedApps(int pageSize) {
+        Map<String, String> pageHeaders = new HashMap<>(this.headers);
+        return new PageIterator(query -> this.service.findAuthorizedApps(pageHeaders, query), this.params,
+                pageSize, null);
+    }
+
     /**
      * Adds a header with the specified key and value to this location and returns
      * the updated location.
@@ -0,0 +1,28 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import java.io.IOException;
+
+/**
+ * The interface Bulk checkpoint.
+ * <p>
+ * Remembers which items of a bulk operation already succeeded, so a run that stopped part way can be
+ * started again and skip them. Items are identified by the {@code toString()} of their key.
+ */
+public interface BulkCheckpoint {
+
+    /**
+     * Returns true when the item succeeded in an earlier run.
+     *
+     * @param key the item key
+     * @return true when the item can be skipped
+     */
+    boolean isDone(String key);
+
+    /**
+     * Records that the item succeeded.
+     *
+     * @param key the item key
+     * @throws IOException when the checkpoint cannot be written
+     */
+    void markDone(String key) throws IOException;
+}
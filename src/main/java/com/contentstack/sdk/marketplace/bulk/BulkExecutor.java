@@ -0,0 +1,228 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The type Bulk executor.
+ * <p>
+ * Runs a {@link BulkTask} for many items with bounded parallelism. At most {@code parallelism} items run at a
+ * time, and each result is handed back as soon as its item completes, so a slow item holds up only its own
+ * slot. Failed items are attempted again according to the {@link RetryPolicy}, and every attempt can be
+ * paced by a {@link RateLimiter}.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * BulkExecutor executor = new BulkExecutor.Builder().parallelism(16).build();
+ * try (BulkStream&lt;String, String&gt; results = executor.stream(ids, id -&gt; load(id))) {
+ * while (results.hasNext()) { BulkResult&lt;String, String&gt; result = results.next(); }
+ * }
+ * </code>
+ */
+public class BulkExecutor {
+
+    /**
+     * The default parallelism.
+     */
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    private final int parallelism;
+    private final RetryPolicy retryPolicy;
+    private final ExecutorService executor;
+    private final RateLimiter rateLimiter;
+
+    private BulkExecutor(Builder builder) {
+        this.parallelism = builder.parallelism;
+        this.retryPolicy = builder.retryPolicy;
+        this.executor = builder.executor;
+        this.rateLimiter = builder.rateLimiter;
+    }
+
+    /**
+     * Returns the maximum number of items run at a time.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Starts the task for the items and returns their results in completion order.
+     * Items are read from {@code keys} lazily, as slots free up.
+     *
+     * @param keys the item keys
+     * @param task the task run for each item
+     * @param <K>  the type of the item key
+     * @param <V>  the type of the result
+     * @return the stream of results, to be closed by the caller
+     */
+    public <K, V> BulkStream<K, V> stream(@NotNull Iterable<K> keys, @NotNull BulkTask<K, V> task) {
+        Objects.requireNonNull(keys, "keys are required");
+        Objects.requireNonNull(task, "task is required");
+        return new BulkStream<>(keys.iterator(), task, parallelism, retryPolicy, rateLimiter, executor);
+    }
+
+    /**
+     * Runs the task for all items and returns the aggregated report. Items the checkpoint marks as done are
+     * skipped, and every item that succeeds is recorded in the checkpoint before the listener is called, so
+     * running again with the same checkpoint resumes where the previous run stopped. Skipped items are not
+     * part of the progress passed to the listener, so {@code completed} reaches {@code total} at the end.
+     *
+     * @param keys       the item keys
+     * @param task       the task run for each item
+     * @param checkpoint the checkpoint, or null to run every item
+     * @param listener   the progress listener, or null
+     * @param <K>        the type of the item key
+     * @param <V>        the type of the result
+     * @return the report
+     * @throws IOException when the checkpoint cannot be written
+     */
+    public <K, V> BulkReport<K, V> run(@NotNull Iterable<K> keys, @NotNull BulkTask<K, V> task,
+                                       BulkCheckpoint checkpoint, BulkListener<K, V> listener) throws IOException {
+        Objects.requireNonNull(keys, "keys are required");
+        BulkReport<K, V> report = new BulkReport<>();
+        Iterable<K> pending = checkpoint == null ? keys : () -> new Pending<>(keys.iterator(), checkpoint, report);
+        int total = keys instanceof Collection ? pendingCount((Collection<?>) keys, checkpoint) : -1;
+        int completed = 0;
+        try (BulkStream<K, V> results = stream(pending, task)) {
+            while (results.hasNext()) {
+                BulkResult<K, V> result = results.next();
+                if (result.isSuccess() && checkpoint != null) {
+                    checkpoint.markDone(String.valueOf(result.getKey()));
+                }
+                report.add(result);
+                completed++;
+                if (listener != null) {
+                    listener.onResult(result, completed, total);
+                }
+            }
+        }
+        return report;
+    }
+
+    private static int pendingCount(Collection<?> keys, BulkCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            return keys.size();
+        }
+        int count = 0;
+        for (Object key : keys) {
+            if (!checkpoint.isDone(String.valueOf(key))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private int parallelism = DEFAULT_PARALLELISM;
+        private RetryPolicy retryPolicy = RetryPolicy.NONE;
+        private ExecutorService executor;
+        private RateLimiter rateLimiter;
+
+        /**
+         * Sets the maximum number of items run at a time.
+         *
+         * @param parallelism the parallelism
+         * @return the builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the retry policy for failed items. By default items are not retried.
+         *
+         * @param retryPolicy the retry policy
+         * @return the builder
+         */
+        public Builder retry(@NotNull RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy is required");
+            return this;
+        }
+
+        /**
+         * Sets the pace of the attempts, retries included. By default attempts start as soon as a slot is
+         * free.
+         *
+         * @param rateLimiter the rate limiter, or null for none
+         * @return the builder
+         */
+        public Builder rateLimit(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the items. When no executor is set each stream uses an executor
+         * from {@link com.contentstack.sdk.marketplace.scheduler.SdkExecutors#newPerTaskExecutor()} and shuts it
+         * down when the stream is closed.
+         *
+         * @param executor the executor, owned by the caller
+         * @return the builder
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Build bulk executor.
+         *
+         * @return the bulk executor
+         */
+        public BulkExecutor build() {
+            return new BulkExecutor(this);
+        }
+    }
+
+    private static final class Pending<K> implements Iterator<K> {
+        private final Iterator<K> keys;
+        private final BulkCheckpoint checkpoint;
+        private final BulkReport<K, ?> report;
+        private K next;
+
+        private Pending(Iterator<K> keys, BulkCheckpoint checkpoint, BulkReport<K, ?> report) {
+            this.keys = keys;
+            this.checkpoint = checkpoint;
+            this.report = report;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && keys.hasNext()) {
+                K key = keys.next();
+                if (checkpoint.isDone(String.valueOf(key))) {
+                    report.skipped();
+                } else {
+                    next = key;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public K next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            K key = next;
+            next = null;
+            return key;
+        }
+    }
+}
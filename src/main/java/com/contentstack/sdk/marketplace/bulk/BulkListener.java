@@ -0,0 +1,23 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+/**
+ * The interface Bulk listener.
+ * <p>
+ * Receives progress of {@link BulkExecutor#run}. It is called on the thread that runs the bulk operation,
+ * once per completed item.
+ *
+ * @param <K> the type of the item key
+ * @param <V> the type of the result
+ */
+@FunctionalInterface
+public interface BulkListener<K, V> {
+
+    /**
+     * Called after an item completed, successfully or not.
+     *
+     * @param result    the result of the item
+     * @param completed the number of items completed so far in this run
+     * @param total     the number of items of the run, or -1 when unknown
+     */
+    void onResult(BulkResult<K, V> result, int completed, int total);
+}
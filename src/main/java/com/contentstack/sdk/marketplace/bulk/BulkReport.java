@@ -0,0 +1,74 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The type Bulk report.
+ * <p>
+ * The aggregated outcome of {@link BulkExecutor#run}: the items that succeeded, the items that failed after
+ * all their attempts, and the number of items skipped because a checkpoint marked them as done.
+ *
+ * @param <K> the type of the item key
+ * @param <V> the type of the result
+ */
+public class BulkReport<K, V> {
+
+    private final List<BulkResult<K, V>> succeeded = new ArrayList<>();
+    private final List<BulkResult<K, V>> failed = new ArrayList<>();
+    private int skipped;
+
+    void add(BulkResult<K, V> result) {
+        if (result.isSuccess()) {
+            succeeded.add(result);
+        } else {
+            failed.add(result);
+        }
+    }
+
+    void skipped() {
+        skipped++;
+    }
+
+    /**
+     * Returns the items that succeeded.
+     *
+     * @return the succeeded results
+     */
+    public List<BulkResult<K, V>> getSucceeded() {
+        return Collections.unmodifiableList(succeeded);
+    }
+
+    /**
+     * Returns the items that failed.
+     *
+     * @return the failed results
+     */
+    public List<BulkResult<K, V>> getFailed() {
+        return Collections.unmodifiableList(failed);
+    }
+
+    /**
+     * Returns the number of items skipped because of the checkpoint.
+     *
+     * @return the skipped count
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Returns true when no item failed.
+     *
+     * @return true on success
+     */
+    public boolean isSuccess() {
+        return failed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkReport{succeeded=" + succeeded.size() + ", failed=" + failed.size() + ", skipped=" + skipped + "}";
+    }
+}
@@ -0,0 +1,74 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+/**
+ * The type Bulk result.
+ * <p>
+ * The outcome of one item of a bulk operation: the value on success, or the error that failed the item.
+ *
+ * @param <K> the type of the item key
+ * @param <V> the type of the result
+ */
+public class BulkResult<K, V> {
+
+    private final K key;
+    private final V value;
+    private final Throwable error;
+    private final int attempts;
+
+    BulkResult(K key, V value, Throwable error, int attempts) {
+        this.key = key;
+        this.value = value;
+        this.error = error;
+        this.attempts = attempts;
+    }
+
+    /**
+     * Returns the item key.
+     *
+     * @return the key
+     */
+    public K getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the result of the item, or null when it failed.
+     *
+     * @return the value
+     */
+    public V getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the error that failed the item, or null when it succeeded.
+     *
+     * @return the error
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Returns the number of attempts made for the item.
+     *
+     * @return the attempts
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Returns true when the item succeeded.
+     *
+     * @return true on success
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? key + "=" + value : key + " failed: " + error;
+    }
+}
@@ -0,0 +1,140 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import com.contentstack.sdk.marketplace.scheduler.SdkExecutors;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * The type Bulk stream.
+ * <p>
+ * The results of a bulk operation in completion order. Each call to {@link #next()} waits for the next item
+ * to complete and starts the next pending item in its slot. Closing the stream cancels the items still
+ * running.
+ *
+ * @param <K> the type of the item key
+ * @param <V> the type of the result
+ */
+public class BulkStream<K, V> implements Iterator<BulkResult<K, V>>, AutoCloseable {
+
+    private final Iterator<K> keys;
+    private final BulkTask<K, V> task;
+    private final RetryPolicy retryPolicy;
+    private final RateLimiter rateLimiter;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final ExecutorCompletionService<BulkResult<K, V>> completion;
+    private final Set<Future<BulkResult<K, V>>> running = new HashSet<>();
+    private boolean closed;
+
+    BulkStream(Iterator<K> keys, BulkTask<K, V> task, int parallelism, RetryPolicy retryPolicy,
+               RateLimiter rateLimiter, ExecutorService executor) {
+        this.keys = keys;
+        this.task = task;
+        this.retryPolicy = retryPolicy;
+        this.rateLimiter = rateLimiter;
+        this.ownsExecutor = executor == null;
+        this.executor = executor != null ? executor : SdkExecutors.newPerTaskExecutor();
+        this.completion = new ExecutorCompletionService<>(this.executor);
+        for (int i = 0; i < parallelism && submitNext(); i++) {
+            // fill the window
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (running.isEmpty()) {
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public BulkResult<K, V> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            Future<BulkResult<K, V>> done = completion.take();
+            running.remove(done);
+            submitNext();
+            return done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IllegalStateException("Interrupted while waiting for bulk results", e);
+        } catch (ExecutionException e) {
+            // the submitted wrapper never throws, see run()
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the number of items currently running.
+     *
+     * @return the running count
+     */
+    public int runningCount() {
+        return running.size();
+    }
+
+    /**
+     * Cancels the items still running and releases the executor when the stream owns it.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Future<BulkResult<K, V>> future : running) {
+            future.cancel(true);
+        }
+        running.clear();
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean submitNext() {
+        if (closed || !keys.hasNext()) {
+            return false;
+        }
+        K key = keys.next();
+        running.add(completion.submit(() -> run(key)));
+        return true;
+    }
+
+    private BulkResult<K, V> run(K key) {
+        int attempt = 1;
+        while (true) {
+            try {
+                if (rateLimiter != null) {
+                    rateLimiter.acquire();
+                }
+                return new BulkResult<>(key, task.execute(key), null, attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new BulkResult<>(key, null, e, attempt);
+            } catch (Exception e) {
+                if (attempt >= retryPolicy.getMaxAttempts() || !retryPolicy.isRetryable(e)) {
+                    return new BulkResult<>(key, null, e, attempt);
+                }
+                attempt++;
+                try {
+                    Thread.sleep(retryPolicy.delayBefore(attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return new BulkResult<>(key, null, e, attempt - 1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+/**
+ * The interface Bulk task.
+ * <p>
+ * The work done for one item of a bulk operation.
+ *
+ * @param <K> the type of the item key
+ * @param <V> the type of the result
+ */
+@FunctionalInterface
+public interface BulkTask<K, V> {
+
+    /**
+     * Runs the task for one item.
+     *
+     * @param key the item key, e.g. an installation id
+     * @return the result for the item
+     * @throws Exception when the item fails
+     */
+    V execute(K key) throws Exception;
+}
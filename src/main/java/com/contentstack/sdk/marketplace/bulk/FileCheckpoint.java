@@ -0,0 +1,82 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The type File checkpoint.
+ * <p>
+ * A {@link BulkCheckpoint} kept in a text file with one completed key per line. The file is only appended
+ * to and every key is flushed as soon as it is recorded, so a crash loses at most the line being written.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * try (FileCheckpoint checkpoint = new FileCheckpoint(Paths.get("rollout.checkpoint"))) {
+ * BulkReport report = installation.applyAll(ids, operation, executor, checkpoint, null);
+ * }
+ * </code>
+ */
+public class FileCheckpoint implements BulkCheckpoint, Closeable {
+
+    private final Set<String> done = new HashSet<>();
+    private final BufferedWriter writer;
+
+    /**
+     * Opens the checkpoint file, creating it when it does not exist, and loads the keys it holds.
+     *
+     * @param file the checkpoint file
+     * @throws IOException when the file cannot be read or opened for writing
+     */
+    public FileCheckpoint(@NotNull Path file) throws IOException {
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isEmpty()) {
+                    done.add(line);
+                }
+            }
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized boolean isDone(String key) {
+        return done.contains(key);
+    }
+
+    @Override
+    public synchronized void markDone(String key) throws IOException {
+        if (key.indexOf('\n') >= 0 || key.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("checkpoint keys cannot contain line breaks");
+        }
+        if (done.add(key)) {
+            writer.write(key);
+            writer.newLine();
+            writer.flush();
+        }
+    }
+
+    /**
+     * Returns the number of completed keys.
+     *
+     * @return the size
+     */
+    public synchronized int size() {
+        return done.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,44 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import java.io.IOException;
+
+/**
+ * The type Http status exception.
+ * <p>
+ * Thrown by the bulk helpers when the API answers with a non 2xx status code.
+ */
+public class HttpStatusException extends IOException {
+
+    private final int code;
+    private final String errorBody;
+
+    /**
+     * Instantiates a new Http status exception.
+     *
+     * @param code      the status code
+     * @param errorBody the error body, may be null
+     */
+    public HttpStatusException(int code, String errorBody) {
+        super("HTTP " + code + (errorBody != null && !errorBody.isEmpty() ? ": " + errorBody : ""));
+        this.code = code;
+        this.errorBody = errorBody;
+    }
+
+    /**
+     * Returns the status code.
+     *
+     * @return the code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the error body of the response.
+     *
+     * @return the error body
+     */
+    public String getErrorBody() {
+        return errorBody;
+    }
+}
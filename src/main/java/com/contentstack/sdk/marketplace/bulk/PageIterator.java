@@ -0,0 +1,164 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+import retrofit2.Call;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The type Page iterator.
+ * <p>
+ * Streams the {@code data} items of a list endpoint one page at a time with the {@code skip} and
+ * {@code limit} query parameters, fetching the next page only when the current one is consumed. Only one
+ * page of items, and the uids of the page before it, are held in memory, whatever the length of the list.
+ * The scan stops at the first page shorter than the page size. Items that move to the next page because
+ * items are added while the scan runs are returned once, by {@code uid}, as long as fewer than a page of
+ * items is added between two page fetches.
+ * <p>
+ * The list should not shrink during the scan: removing items already returned shifts the items not yet
+ * returned to a lower offset, where the next page no longer looks. Collect what to remove first, then
+ * remove it.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * PageIterator authorizations = marketplace.app("appUid").streamAuthorizations();
+ * while (authorizations.hasNext()) { audit(authorizations.next()); }
+ * </code>
+ */
+public class PageIterator implements Iterator<JSONObject> {
+
+    /**
+     * The default number of items per page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final Function<Map<String, Object>, Call<ResponseBody>> pages;
+    private final Map<String, Object> params;
+    private final int pageSize;
+    private final RateLimiter rateLimiter;
+    private final Function<JSONObject, List<JSONObject>> items;
+    private final Deque<JSONObject> page = new ArrayDeque<>();
+    private Set<String> previousUids = new HashSet<>();
+    private int skip;
+    private int pagesFetched;
+    private boolean exhausted;
+
+    /**
+     * Instantiates a new Page iterator.
+     *
+     * @param pages       the call of a page for the given query parameters
+     * @param params      the query parameters of every page, e.g. filters
+     * @param pageSize    the number of items per page
+     * @param rateLimiter paces the page fetches, may be null
+     */
+    public PageIterator(@NotNull Function<Map<String, Object>, Call<ResponseBody>> pages,
+                        @NotNull Map<String, Object> params, int pageSize, RateLimiter rateLimiter) {
+        this(pages, params, pageSize, rateLimiter, Responses::data);
+    }
+
+    /**
+     * Instantiates a new Page iterator for a list endpoint that does not return its items as the
+     * {@code data} array.
+     *
+     * @param pages       the call of a page for the given query parameters
+     * @param params      the query parameters of every page, e.g. filters
+     * @param pageSize    the number of items per page
+     * @param rateLimiter paces the page fetches, may be null
+     * @param items       the items of a page response
+     */
+    public PageIterator(@NotNull Function<Map<String, Object>, Call<ResponseBody>> pages,
+                        @NotNull Map<String, Object> params, int pageSize, RateLimiter rateLimiter,
+                        @NotNull Function<JSONObject, List<JSONObject>> items) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1");
+        }
+        this.pages = Objects.requireNonNull(pages, "pages are required");
+        this.params = new HashMap<>(Objects.requireNonNull(params, "params are required"));
+        this.pageSize = pageSize;
+        this.rateLimiter = rateLimiter;
+        this.items = Objects.requireNonNull(items, "items are required");
+    }
+
+    /**
+     * Returns true when there is another item, fetching the next page when needed.
+     *
+     * @return true when {@link #next()} has an item
+     * @throws UncheckedIOException when a page cannot be fetched
+     */
+    @Override
+    public boolean hasNext() {
+        while (page.isEmpty() && !exhausted) {
+            try {
+                fetch();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return !page.isEmpty();
+    }
+
+    @Override
+    public JSONObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.poll();
+    }
+
+    /**
+     * Returns the number of pages fetched so far.
+     *
+     * @return the page count
+     */
+    public int getPagesFetched() {
+        return pagesFetched;
+    }
+
+    private void fetch() throws IOException {
+        Map<String, Object> query = new HashMap<>(params);
+        query.put("limit", pageSize);
+        query.put("skip", skip);
+        if (rateLimiter != null) {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to fetch a page");
+            }
+        }
+        List<JSONObject> fetched = items.apply(Responses.parse(Responses.execute(pages.apply(query))));
+        pagesFetched++;
+        skip += fetched.size();
+        if (fetched.size() < pageSize) {
+            exhausted = true;
+        }
+        // an item added during the scan shifts the others by one, so a repeat comes from the page before
+        Set<String> uids = new HashSet<>();
+        for (JSONObject item : fetched) {
+            Object uid = item.get("uid");
+            if (uid == null || !previousUids.contains(uid.toString()) && uids.add(uid.toString())) {
+                page.add(item);
+            }
+            if (uid != null) {
+                uids.add(uid.toString());
+            }
+        }
+        previousUids = uids;
+    }
+}
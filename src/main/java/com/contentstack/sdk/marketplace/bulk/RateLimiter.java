@@ -0,0 +1,82 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Rate limiter.
+ * <p>
+ * A token bucket that paces calls to a number per second. The bucket fills at the rate up to a burst; each
+ * {@link #acquire()} takes a token and, when the bucket is empty, waits for its turn. Callers are served in
+ * the order they ask, so the calls of a {@link BulkExecutor} leave at a steady pace whatever its parallelism.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * BulkExecutor executor = new BulkExecutor.Builder().parallelism(16)
+ * .rateLimit(new RateLimiter(20, 5)).build();
+ * </code>
+ */
+public class RateLimiter {
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * Instantiates a new Rate limiter.
+     *
+     * @param permitsPerSecond the calls allowed per second
+     * @param burst            the calls allowed at once after an idle period, at least 1
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Returns the calls allowed per second.
+     *
+     * @return the rate
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Waits until a call is allowed.
+     *
+     * @throws InterruptedException when interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Takes a token, going into debt when the bucket is empty, and returns how long the caller must wait for
+     * it. Later callers wait behind the debt, which keeps the order of the calls.
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerSecond / 1e9);
+        refilledAt = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * 1e9 / permitsPerSecond);
+    }
+
+    @Override
+    public String toString() {
+        return permitsPerSecond + "/s";
+    }
+}
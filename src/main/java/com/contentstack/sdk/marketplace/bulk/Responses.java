@@ -0,0 +1,88 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The type Responses.
+ * <p>
+ * Helpers to execute the calls of the SDK and read their bodies.
+ */
+public final class Responses {
+
+    private Responses() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Executes the call and returns the response body as a string.
+     *
+     * @param call the call to execute
+     * @return the response body, empty when the response has no body
+     * @throws IOException         when the call fails
+     * @throws HttpStatusException when the response is not successful
+     */
+    public static String execute(@NotNull Call<ResponseBody> call) throws IOException {
+        Response<ResponseBody> response = call.execute();
+        if (!response.isSuccessful()) {
+            String error = null;
+            try (ResponseBody errorBody = response.errorBody()) {
+                if (errorBody != null) {
+                    error = errorBody.string();
+                }
+            }
+            throw new HttpStatusException(response.code(), error);
+        }
+        try (ResponseBody body = response.body()) {
+            return body != null ? body.string() : "";
+        }
+    }
+
+    /**
+     * Parses a response body into a JSON object.
+     *
+     * @param body the response body
+     * @return the JSON object
+     * @throws IOException when the body is not a JSON object
+     */
+    public static JSONObject parse(@NotNull String body) throws IOException {
+        try {
+            Object value = new JSONParser().parse(body);
+            if (!(value instanceof JSONObject)) {
+                throw new IOException("Expected a JSON object in the response body");
+            }
+            return (JSONObject) value;
+        } catch (ParseException e) {
+            throw new IOException("Invalid JSON in the response body: " + e, e);
+        }
+    }
+
+    /**
+     * Returns the objects of the {@code data} array of a list response.
+     *
+     * @param response the parsed response
+     * @return the objects, empty when the response has no {@code data} array
+     */
+    public static List<JSONObject> data(@NotNull JSONObject response) {
+        List<JSONObject> items = new ArrayList<>();
+        Object data = response.get("data");
+        if (data instanceof JSONArray) {
+            for (Object item : (JSONArray) data) {
+                if (item instanceof JSONObject) {
+                    items.add((JSONObject) item);
+                }
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,115 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+
+/**
+ * The type Retry policy.
+ * <p>
+ * Decides how often a failed bulk item is attempted again and how long to wait between attempts. The delay
+ * starts at {@code initialDelayMillis} and doubles after each attempt, up to {@code maxDelayMillis}. By
+ * default {@code 429} and {@code 5xx} responses are retried; other {@code 4xx} responses are not, because
+ * they fail the same way on every attempt. Of the network errors only connection failures are retried by
+ * default, since the request never reached the server. Any other I/O error may have happened after the
+ * server acted on the request, so it is retried only by a policy from {@link #retryingIoErrors()}, which
+ * is meant for idempotent requests.
+ */
+public class RetryPolicy {
+
+    /**
+     * A policy that never retries.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, 0, 0);
+
+    private final int maxAttempts;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final boolean ioErrors;
+
+    /**
+     * Instantiates a new Retry policy.
+     *
+     * @param maxAttempts        the maximum number of attempts per item, including the first one
+     * @param initialDelayMillis the delay before the second attempt
+     * @param maxDelayMillis     the maximum delay between two attempts
+     */
+    public RetryPolicy(int maxAttempts, long initialDelayMillis, long maxDelayMillis) {
+        this(maxAttempts, initialDelayMillis, maxDelayMillis, false);
+    }
+
+    private RetryPolicy(int maxAttempts, long initialDelayMillis, long maxDelayMillis, boolean ioErrors) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (initialDelayMillis < 0 || maxDelayMillis < initialDelayMillis) {
+            throw new IllegalArgumentException("delays must satisfy 0 <= initialDelayMillis <= maxDelayMillis");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.ioErrors = ioErrors;
+    }
+
+    /**
+     * Returns a policy with the same attempts and delays that also retries I/O errors other than connection
+     * failures, such as a connection reset while reading the response. Use it only for idempotent requests.
+     *
+     * @return the policy
+     */
+    public RetryPolicy retryingIoErrors() {
+        return ioErrors ? this : new RetryPolicy(maxAttempts, initialDelayMillis, maxDelayMillis, true);
+    }
+
+    /**
+     * Returns true when I/O errors other than connection failures are retried.
+     *
+     * @return true when every I/O error is retried
+     */
+    public boolean isRetryingIoErrors() {
+        return ioErrors;
+    }
+
+    /**
+     * Returns the maximum number of attempts per item.
+     *
+     * @return the max attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns true when the error is worth another attempt.
+     *
+     * @param error the error of the failed attempt
+     * @return true when the item should be retried
+     */
+    public boolean isRetryable(Exception error) {
+        if (error instanceof HttpStatusException) {
+            int code = ((HttpStatusException) error).getCode();
+            return code == 429 || code >= 500;
+        }
+        if (error instanceof ConnectException || error instanceof NoRouteToHostException
+                || error instanceof UnknownHostException) {
+            return true;
+        }
+        return ioErrors && error instanceof IOException && !(error instanceof InterruptedIOException);
+    }
+
+    /**
+     * Returns the delay before the given attempt.
+     *
+     * @param attempt the attempt about to be made, starting at 2
+     * @return the delay in milliseconds
+     */
+    public long delayBefore(int attempt) {
+        long delay = initialDelayMillis;
+        for (int i = 2; i < attempt && delay < maxDelayMillis; i++) {
+            delay *= 2;
+        }
+        return Math.min(delay, maxDelayMillis);
+    }
+}
@@ -0,0 +1,53 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * The type Timestamps.
+ * <p>
+ * Orders the timestamps the API returns, such as {@code created_at} and {@code updated_at}, which come
+ * either as epoch numbers or as ISO-8601 instants.
+ */
+public final class Timestamps {
+
+    private Timestamps() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Compares two timestamps: numerically when both are epoch numbers, as instants when both are ISO-8601
+     * instants, and as text otherwise. A missing timestamp is older than any other.
+     *
+     * @param first  the first timestamp, or null
+     * @param second the second timestamp, or null
+     * @return a negative number, zero or a positive number when the first is older, the same or newer
+     */
+    public static int compare(String first, String second) {
+        if (first == null || second == null) {
+            return first == null ? (second == null ? 0 : -1) : 1;
+        }
+        if (isDigits(first) && isDigits(second)) {
+            // epoch numbers of the same unit: the longer is the later, same lengths order as text
+            return first.length() != second.length()
+                    ? Integer.compare(first.length(), second.length()) : first.compareTo(second);
+        }
+        try {
+            return Instant.parse(first).compareTo(Instant.parse(second));
+        } catch (DateTimeParseException e) {
+            return first.compareTo(second);
+        }
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,15 +2,32 @@ package com.contentstack.sdk.marketplace.installations;
 
 import com.contentstack.sdk.BaseImplementation;
 import com.contentstack.sdk.marketplace.Constants;
+import com.contentstack.sdk.marketplace.bulk.BulkCheckpoint;
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkListener;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.BulkStream;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.bulk.Responses;
 import com.contentstack.sdk.marketplace.installations.location.Location;
+import com.contentstack.sdk.marketplace.installations.location.LocationCache;
 import com.contentstack.sdk.marketplace.installations.webhook.Webhook;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
 import org.json.simple.JSONObject;
 import retrofit2.Call;
 import retrofit2.Retrofit;
 
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * The type Installation.
@@ -405,6 +422,195 @@ public class Installation implements BaseImplementation<Installation> {
         return this.service.createInstallationToken(this.headers, this.installationId, this.params);
     }
 
+    /**
+     * Fetches the given aspects of many installations with bounded parallelism. Results are returned as
+     * each installation completes, tagged with its installation id, and a failed installation carries its
+     * error instead of a value. The calls are tagged {@link Priority#BULK}.
+     *
+     * @param installationIds the installation ids
+     * @param aspects         the aspects to fetch for each installation
+     * @param executor        the bulk executor that bounds the parallelism
+     * @return the results keyed by installation id, each holding the response body of every aspect
+     *
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+     * .host("api.contentstack.io").build();
+     * Installation installation = marketplace.installation();
+     * BulkExecutor executor = new BulkExecutor.Builder().parallelism(16).build();
+     * try (BulkStream results = installation.fetchAll(ids, EnumSet.allOf(InstallationAspect.class), executor)) {
+     * results.forEachRemaining(result -&gt; cache.put(result.getKey(), result.getValue()));
+     * }
+     * </code>
+     */
+    public BulkStream<String, Map<InstallationAspect, String>> fetchAll(
+            @NotNull Collection<String> installationIds,
+            @NotNull Set<InstallationAspect> aspects,
+            @NotNull BulkExecutor executor) {
+        Objects.requireNonNull(installationIds, "installation ids are required");
+        if (aspects.isEmpty()) {
+            throw new IllegalArgumentException("at least one aspect is required");
+        }
+        Set<InstallationAspect> requested = EnumSet.copyOf(aspects);
+        return executor.stream(installationIds, id -> {
+            Installation installation = Priority.BULK.tag(forInstallation(id));
+            Map<InstallationAspect, String> bodies = new EnumMap<>(InstallationAspect.class);
+            for (InstallationAspect aspect : requested) {
+                bodies.put(aspect, Responses.execute(aspect.call(installation)));
+            }
+            return bodies;
+        });
+    }
+
+    /**
+     * Fetches the given aspects of many installations with the default parallelism.
+     *
+     * @param installationIds the installation ids
+     * @param aspects         the aspects to fetch for each installation
+     * @return the results keyed by installation id
+     * @see #fetchAll(Collection, Set, BulkExecutor)
+     */
+    public BulkStream<String, Map<InstallationAspect, String>> fetchAll(
+            @NotNull Collection<String> installationIds,
+            @NotNull Set<InstallationAspect> aspects) {
+        return fetchAll(installationIds, aspects, new BulkExecutor.Builder().build());
+    }
+
+    /**
+     * Applies the operation to many installations with the concurrency limit and retry policy of the
+     * executor, and aggregates the successes and failures. Installations the checkpoint marks as done are
+     * skipped and each success is recorded in it, so a run that stopped part way resumes where it stopped.
+     * The calls are tagged {@link Priority#BULK}.
+     *
+     * @param installationIds the installation ids
+     * @param operation       the operation, e.g. {@link InstallationOperation#uninstall()}
+     * @param executor        the bulk executor
+     * @param checkpoint      the checkpoint, or null
+     * @param listener        the progress listener, or null
+     * @return the report with the response body of each succeeded installation
+     * @throws IOException when the checkpoint cannot be written
+     *
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * BulkExecutor executor = new BulkExecutor.Builder().parallelism(16)
+     * .retry(new RetryPolicy(3, 500, 5000)).build();
+     * try (FileCheckpoint checkpoint = new FileCheckpoint(Paths.get("uninstall.checkpoint"))) {
+     * BulkReport report = marketplace.installation().applyAll(ids, InstallationOperation.uninstall(),
+     * executor, checkpoint, (result, completed, total) -&gt; log(completed + "/" + total));
+     * }
+     * </code>
+     */
+    public BulkReport<String, String> applyAll(@NotNull Collection<String> installationIds,
+                                               @NotNull InstallationOperation operation,
+                                               @NotNull BulkExecutor executor,
+                                               BulkCheckpoint checkpoint,
+                                               BulkListener<String, String> listener) throws IOException {
+        Objects.requireNonNull(installationIds, "installation ids are required");
+        Objects.requireNonNull(operation, "operation is required");
+        return executor.run(installationIds,
+                id -> Responses.execute(operation.apply(Priority.BULK.tag(forInstallation(id)))),
+                checkpoint, listener);
+    }
+
+    /**
+     * Applies the operation to many installations without checkpoint or listener.
+     *
+     * @param installationIds the installation ids
+     * @param operation       the operation
+     * @param executor        the bulk executor
+     * @return the report
+     * @see #applyAll(Collection, InstallationOperation, BulkExecutor, BulkCheckpoint, BulkListener)
+     */
+    public BulkReport<String, String> applyAll(@NotNull Collection<String> installationIds,
+                                               @NotNull InstallationOperation operation,
+                                               @NotNull BulkExecutor executor) {
+        try {
+            return applyAll(installationIds, operation, executor, null, null);
+        } catch (IOException e) {
+            // only the checkpoint writes throw
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a copy of this installation, with the same headers and parameters, for another installation id.
+     *
+     * @param installationId the installation id
+     * @return the installation
+     */
+    Installation forInstallation(@NotNull String installationId) {
+        validateInstallationId(installationId);
+        Installation installation = new Installation(this.client, null, this.organisationId, installationId);
+        installation.addHeaders(this.headers);
+        installation.addParams(this.params);
+        return installation;
+    }
+
+    /**
+     * Loads an indexed snapshot of the installations of the organisation and of the apps, stacks and users
+     * they involve, paging the list views in parallel, {@link PageIterator#DEFAULT_PAGE_SIZE} per page. The
+     * headers and parameters of this installation are sent with every page.
+     *
+     * @return the snapshot
+     * @throws IOException when a view cannot be listed
+     *
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+     * .host("api.contentstack.io").build();
+     * OrgSnapshot snapshot = marketplace.installation().snapshot();
+     * List&lt;String&gt; stacks = snapshot.stacksWithApp("appUid");
+     * </code>
+     */
+    public OrgSnapshot snapshot() throws IOException {
+        return OrgSnapshot.load(this, PageIterator.DEFAULT_PAGE_SIZE);
+    }
+
+    PageIterator stream(OrgSnapshot.View view, Map<String, Object> query, int pageSize) {
+        Map<String, String> pageHeaders = new HashMap<>(this.headers);
+        pageHeaders.put(Priority.HEADER, Priority.BULK.name());
+        Map<String, Object> pageParams = new HashMap<>(this.params);
+        pageParams.putAll(query);
+        return new PageIterator(page -> view.list(this.service, pageHeaders, page), pageParams, pageSize, null);
+    }
+
+    /**
+     * Returns the key of the organisation of this installation on its client, shared by the informers.
+     */
+    List<Object> organisationKey() {
+        return InstallationInformer.key(this.client, this.organisationId);
+    }
+
+    /**
+     * Returns the installation informer shared by the installations of the client and organisation of this
+     * installation, so each marketplace has its own, started on first use. The headers of the installation
+     * that first asks for it are used by its syncs.
+     *
+     * @return the shared informer
+     * @throws IOException when the first full list fails
+     *
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+     * .host("api.contentstack.io").build();
+     * InstallationInformer informer = marketplace.installation().informer();
+     * informer.addHandler(new InstallationInformer.Handler() {
+     * public void onAdd(JSONObject installation) { provision(installation); }
+     * });
+     * </code>
+     */
+    public InstallationInformer informer() throws IOException {
+        return InstallationInformer.shared(this);
+    }
+
     /**
      * The function returns a new Location object with the specified client,
      * organisationId, and
@@ -428,6 +634,40 @@ public class Installation implements BaseImplementation<Installation> {
         return new Location(this.client, this.organisationId, this.installationId);
     }
 
+    /**
+     * Returns a cache of the configuration locations of the installations of the organisation, fetched
+     * {@link LocationCache#DEFAULT_PARALLELISM} at a time and kept for {@link LocationCache#DEFAULT_TTL_MILLIS}.
+     * The headers of this installation are sent with every fetch.
+     *
+     * @return the location cache
+     *
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+     * .host("api.contentstack.io").build();
+     * LocationCache locations = marketplace.installation().locations();
+     * BulkReport report = locations.fetchAll(installationIds);
+     * </code>
+     */
+    public LocationCache locations() {
+        return locations(LocationCache.DEFAULT_PARALLELISM, LocationCache.DEFAULT_TTL_MILLIS);
+    }
+
+    /**
+     * Returns a cache of the configuration locations of the installations of the organisation.
+     *
+     * @param parallelism the number of installations fetched at a time
+     * @param ttlMillis   how long a location is kept, in milliseconds
+     * @return the location cache
+     */
+    public LocationCache locations(int parallelism, long ttlMillis) {
+        HashMap<String, String> shared = new HashMap<>(this.headers);
+        return new LocationCache(id -> new Location(this.client, this.organisationId, id).addHeaders(shared),
+                parallelism, ttlMillis);
+    }
+
     /**
      * The function creates and returns a new Webhook object with the given
      * parameters.
@@ -0,0 +1,41 @@
+package com.contentstack.sdk.marketplace.installations;
+
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+
+/**
+ * The enum Installation aspect.
+ * <p>
+ * The parts of an installation that {@link Installation#fetchAll} can load for each installation id.
+ */
+public enum InstallationAspect {
+    /**
+     * The installation, see {@link Installation#fetchInstallation()}.
+     */
+    INSTALLATION,
+    /**
+     * The installation data, see {@link Installation#fetchInstallationData()}.
+     */
+    INSTALLATION_DATA,
+    /**
+     * The app configuration, see {@link Installation#fetchAppConfiguration()}.
+     */
+    APP_CONFIGURATION,
+    /**
+     * The server configuration, see {@link Installation#fetchServerConfiguration()}.
+     */
+    SERVER_CONFIGURATION;
+
+    Call<ResponseBody> call(Installation installation) {
+        switch (this) {
+            case INSTALLATION_DATA:
+                return installation.fetchInstallationData();
+            case APP_CONFIGURATION:
+                return installation.fetchAppConfiguration();
+            case SERVER_CONFIGURATION:
+                return installation.fetchServerConfiguration();
+            default:
+                return installation.fetchInstallation();
+        }
+    }
+}
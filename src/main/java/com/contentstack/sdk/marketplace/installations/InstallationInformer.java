@@ -0,0 +1,552 @@
+package com.contentstack.sdk.marketplace.installations;
+
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.bulk.Timestamps;
+import com.contentstack.sdk.marketplace.scheduler.TimerWheel;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+import retrofit2.Retrofit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Installation informer.
+ * <p>
+ * Keeps a local, indexed copy of the installations of an organisation and tells its handlers what changed.
+ * {@link #start()} lists every installation once, then syncs in the background on a fixed delay. A delta
+ * sync pages {@link InstallationService#listInstallations} newest {@code updated_at} first and stops at the
+ * first installation older than the newest one already seen, so a quiet organisation costs one short page
+ * per sync. A list sorted by update time cannot show deletions, so every few syncs is a full list instead,
+ * which drops the installations that are gone. A full list pages by offset, so an installation deleted
+ * during the list shifts a live one past the page being read; an installation is therefore only dropped
+ * once two full lists in a row miss it.
+ * <p>
+ * Reads answer from the local store and never wait on the network. Handlers are called on the sync thread,
+ * one event at a time, in the order of the changes found by a sync. Use {@link Installation#informer()} to
+ * share one informer per organisation across the components of a marketplace instead of each component
+ * polling on its own; each marketplace has its own, so closing one leaves the others running.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * InstallationInformer informer = marketplace.installation().informer();
+ * informer.addHandler(new InstallationInformer.Handler() {
+ * public void onDelete(JSONObject installation) { cleanUp(installation); }
+ * });
+ * List&lt;JSONObject&gt; installs = informer.byApp("appUid");
+ * </code>
+ */
+public class InstallationInformer implements AutoCloseable {
+
+    /**
+     * The default delay between syncs, thirty seconds.
+     */
+    public static final long DEFAULT_SYNC_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * The default number of syncs between two full lists.
+     */
+    public static final int DEFAULT_FULL_SYNC_EVERY = 10;
+
+    private static final Map<List<Object>, InstallationInformer> SHARED = new ConcurrentHashMap<>();
+
+    private final Installation installation;
+    private final List<Object> key;
+    private final ScheduledExecutorService scheduler;
+    private final long syncMillis;
+    private final int fullSyncEvery;
+    private final int pageSize;
+    private final Map<String, JSONObject> store = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byApp = new ConcurrentHashMap<>();
+    private final List<Handler> handlers = new CopyOnWriteArrayList<>();
+    private final Set<String> missing = new HashSet<>();
+    private volatile boolean synced;
+    private volatile long lastSyncedAt;
+    private volatile Exception lastError;
+    private String watermark;
+    private int syncs;
+    private ScheduledFuture<?> sync;
+    private TimerWheel acquired;
+    private boolean closed;
+
+    private InstallationInformer(Builder builder) {
+        this.installation = builder.installation;
+        this.key = builder.installation.organisationKey();
+        if (builder.scheduler != null) {
+            this.scheduler = builder.scheduler;
+        } else {
+            this.acquired = TimerWheel.acquireShared();
+            this.scheduler = acquired;
+        }
+        this.syncMillis = builder.syncMillis;
+        this.fullSyncEvery = builder.fullSyncEvery;
+        this.pageSize = builder.pageSize;
+    }
+
+    static InstallationInformer shared(Installation installation) throws IOException {
+        InstallationInformer informer = SHARED.compute(installation.organisationKey(),
+                (key, running) -> running != null && !running.scheduler.isShutdown()
+                        ? running : new Builder(installation).build());
+        informer.start();
+        return informer;
+    }
+
+    static List<Object> key(Retrofit client, String organisationUid) {
+        // a retrofit client equals only itself, so the clients of two marketplaces never share an entry
+        return Arrays.asList(client, organisationUid);
+    }
+
+    /**
+     * Closes the informer shared by the organisation on the client, if any. The next
+     * {@link Installation#informer()} of the organisation on the client starts a new one.
+     *
+     * @param client          the client of the host
+     * @param organisationUid the organisation uid
+     */
+    public static void closeShared(@NotNull Retrofit client, @NotNull String organisationUid) {
+        InstallationInformer informer = SHARED.get(key(client, organisationUid));
+        if (informer != null) {
+            informer.close();
+        }
+    }
+
+    /**
+     * Lists every installation when it was never done, then starts the background syncs. Calling it again
+     * does nothing.
+     *
+     * @throws IOException when the first list fails
+     */
+    public void start() throws IOException {
+        if (!synced) {
+            synchronized (this) {
+                if (!synced) {
+                    fullSync();
+                }
+            }
+        }
+        startSyncing();
+    }
+
+    /**
+     * Adds a handler. The installations already in the store are first sent to its
+     * {@link Handler#onAdd(JSONObject)}, so the handler sees every installation once whenever it is added.
+     *
+     * @param handler the handler
+     */
+    public synchronized void addHandler(@NotNull Handler handler) {
+        Objects.requireNonNull(handler, "handler is required");
+        for (JSONObject installation : store.values()) {
+            notify(handler, Event.ADD, null, installation);
+        }
+        handlers.add(handler);
+    }
+
+    /**
+     * Removes a handler.
+     *
+     * @param handler the handler
+     * @return true when the handler was registered
+     */
+    public boolean removeHandler(Handler handler) {
+        return handlers.remove(handler);
+    }
+
+    /**
+     * Syncs now, a delta sync or, every few syncs, a full list.
+     *
+     * @throws IOException when a page cannot be fetched, the store keeps what the sync applied so far
+     */
+    public synchronized void syncNow() throws IOException {
+        if (!synced || ++syncs % fullSyncEvery == 0) {
+            fullSync();
+        } else {
+            deltaSync();
+        }
+    }
+
+    /**
+     * Lists every installation now, sending an event for each one added or changed since the last sync,
+     * and for each one the previous full list missed too.
+     *
+     * @throws IOException when a page cannot be fetched, the store is then left unchanged by deletes
+     */
+    public synchronized void resync() throws IOException {
+        fullSync();
+    }
+
+    /**
+     * Returns an installation from the store.
+     *
+     * @param uid the installation uid
+     * @return the installation, or null when it is not in the store
+     */
+    public JSONObject get(String uid) {
+        return uid != null ? store.get(uid) : null;
+    }
+
+    /**
+     * Returns the installations in the store.
+     *
+     * @return a copy of the installations
+     */
+    public List<JSONObject> list() {
+        return Collections.unmodifiableList(new ArrayList<>(store.values()));
+    }
+
+    /**
+     * Returns the installations of an app from the store.
+     *
+     * @param appUid the app uid
+     * @return the installations of the app, empty when there are none
+     */
+    public List<JSONObject> byApp(String appUid) {
+        Set<String> uids = appUid != null ? byApp.get(appUid) : null;
+        if (uids == null) {
+            return Collections.emptyList();
+        }
+        List<JSONObject> installations = new ArrayList<>(uids.size());
+        for (String uid : uids) {
+            JSONObject installation = store.get(uid);
+            if (installation != null) {
+                installations.add(installation);
+            }
+        }
+        return Collections.unmodifiableList(installations);
+    }
+
+    /**
+     * Returns the number of installations in the store.
+     *
+     * @return the size
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * Returns true once the first full list is done.
+     *
+     * @return true when synced
+     */
+    public boolean hasSynced() {
+        return synced;
+    }
+
+    /**
+     * Returns the time of the last sync that succeeded.
+     *
+     * @return the epoch millis, or 0 before the first sync
+     */
+    public long getLastSyncedAt() {
+        return lastSyncedAt;
+    }
+
+    /**
+     * Returns the error of the last background sync or of a handler when it failed.
+     *
+     * @return the error, or null
+     */
+    public Exception getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Stops the background syncs. The store keeps answering from its last sync. An informer on the default
+     * scheduler also releases the shared {@link TimerWheel}.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (sync != null) {
+            sync.cancel(false);
+            sync = null;
+        }
+        SHARED.remove(key, this);
+        if (acquired != null) {
+            TimerWheel.releaseShared(acquired);
+            acquired = null;
+        }
+    }
+
+    private synchronized void startSyncing() {
+        if (sync == null && !closed) {
+            sync = scheduler.scheduleWithFixedDelay(this::syncQuietly, syncMillis, syncMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            syncNow();
+            lastError = null;
+        } catch (IOException | RuntimeException e) {
+            // the store keeps serving, the next sync tries again
+            lastError = e;
+        }
+    }
+
+    private void fullSync() throws IOException {
+        Map<String, JSONObject> listed = new HashMap<>();
+        PageIterator installations = installation.stream(OrgSnapshot.View.INSTALLATIONS,
+                Collections.emptyMap(), pageSize);
+        try {
+            while (installations.hasNext()) {
+                JSONObject listedInstallation = installations.next();
+                Object uid = listedInstallation.get("uid");
+                if (uid != null) {
+                    listed.put(uid.toString(), listedInstallation);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        for (JSONObject listedInstallation : listed.values()) {
+            apply(listedInstallation);
+        }
+        Set<String> missingNow = new HashSet<>();
+        for (String uid : new ArrayList<>(store.keySet())) {
+            if (listed.containsKey(uid)) {
+                continue;
+            }
+            if (missing.contains(uid)) {
+                remove(uid);
+            } else {
+                missingNow.add(uid);
+            }
+        }
+        missing.clear();
+        missing.addAll(missingNow);
+        synced = true;
+        lastSyncedAt = System.currentTimeMillis();
+    }
+
+    private void deltaSync() throws IOException {
+        Map<String, Object> query = new HashMap<>();
+        query.put("sort", "updated_at");
+        query.put("order", "desc");
+        PageIterator installations = installation.stream(OrgSnapshot.View.INSTALLATIONS, query, pageSize);
+        String since = watermark;
+        try {
+            while (installations.hasNext()) {
+                JSONObject listedInstallation = installations.next();
+                if (since != null && Timestamps.compare(updatedAt(listedInstallation), since) < 0) {
+                    break;
+                }
+                if (listedInstallation.get("uid") != null) {
+                    apply(listedInstallation);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        lastSyncedAt = System.currentTimeMillis();
+    }
+
+    private void apply(JSONObject installation) {
+        String uid = installation.get("uid").toString();
+        String updatedAt = updatedAt(installation);
+        if (updatedAt != null && (watermark == null || Timestamps.compare(updatedAt, watermark) > 0)) {
+            watermark = updatedAt;
+        }
+        missing.remove(uid);
+        JSONObject previous = store.put(uid, installation);
+        if (previous != null) {
+            unindex(uid, previous);
+        }
+        String app = OrgSnapshot.appOf(installation);
+        if (app != null) {
+            byApp.computeIfAbsent(app, key -> ConcurrentHashMap.newKeySet()).add(uid);
+        }
+        if (previous == null) {
+            dispatch(Event.ADD, null, installation);
+        } else if (!previous.equals(installation)) {
+            dispatch(Event.UPDATE, previous, installation);
+        }
+    }
+
+    private void remove(String uid) {
+        JSONObject previous = store.remove(uid);
+        if (previous != null) {
+            unindex(uid, previous);
+            dispatch(Event.DELETE, previous, null);
+        }
+    }
+
+    private void unindex(String uid, JSONObject installation) {
+        String app = OrgSnapshot.appOf(installation);
+        Set<String> uids = app != null ? byApp.get(app) : null;
+        if (uids != null) {
+            uids.remove(uid);
+            if (uids.isEmpty()) {
+                byApp.remove(app, uids);
+            }
+        }
+    }
+
+    private void dispatch(Event event, JSONObject previous, JSONObject current) {
+        for (Handler handler : handlers) {
+            notify(handler, event, previous, current);
+        }
+    }
+
+    private void notify(Handler handler, Event event, JSONObject previous, JSONObject current) {
+        try {
+            switch (event) {
+                case ADD:
+                    handler.onAdd(current);
+                    break;
+                case UPDATE:
+                    handler.onUpdate(previous, current);
+                    break;
+                default:
+                    handler.onDelete(previous);
+                    break;
+            }
+        } catch (RuntimeException e) {
+            // a failing handler must not hide the event from the others nor stop the sync
+            lastError = e;
+        }
+    }
+
+    private static String updatedAt(JSONObject installation) {
+        Object updatedAt = installation.get("updated_at");
+        return updatedAt != null ? updatedAt.toString() : null;
+    }
+
+    private enum Event {
+        ADD, UPDATE, DELETE
+    }
+
+    /**
+     * The type Handler. Every method does nothing by default.
+     */
+    public interface Handler {
+
+        /**
+         * Called for an installation that is new to the store.
+         *
+         * @param installation the installation
+         */
+        default void onAdd(JSONObject installation) {
+        }
+
+        /**
+         * Called for an installation of the store that changed.
+         *
+         * @param previous the installation before the change
+         * @param current  the installation after the change
+         */
+        default void onUpdate(JSONObject previous, JSONObject current) {
+        }
+
+        /**
+         * Called for an installation that is gone, missed by two full lists in a row.
+         *
+         * @param installation the last known installation
+         */
+        default void onDelete(JSONObject installation) {
+        }
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private final Installation installation;
+        private ScheduledExecutorService scheduler;
+        private long syncMillis = DEFAULT_SYNC_MILLIS;
+        private int fullSyncEvery = DEFAULT_FULL_SYNC_EVERY;
+        private int pageSize = PageIterator.DEFAULT_PAGE_SIZE;
+
+        /**
+         * Instantiates a new Builder. The headers and parameters of the installation are sent with every
+         * page.
+         *
+         * @param installation the installation of the organisation, e.g. {@code marketplace.installation()}
+         */
+        public Builder(@NotNull Installation installation) {
+            this.installation = Objects.requireNonNull(installation, "installation is required");
+        }
+
+        /**
+         * Sets the scheduler of the background syncs, owned by the caller. Defaults to the
+         * {@link TimerWheel#shared() shared} timer wheel of the SDK, held until the informer is closed.
+         *
+         * @param scheduler the scheduler
+         * @return the builder
+         */
+        public Builder scheduler(@NotNull ScheduledExecutorService scheduler) {
+            this.scheduler = Objects.requireNonNull(scheduler, "scheduler is required");
+            return this;
+        }
+
+        /**
+         * Sets the delay between syncs. Defaults to {@link #DEFAULT_SYNC_MILLIS}.
+         *
+         * @param syncMillis the delay in milliseconds
+         * @return the builder
+         */
+        public Builder syncMillis(long syncMillis) {
+            if (syncMillis < 1) {
+                throw new IllegalArgumentException("syncMillis must be at least 1");
+            }
+            this.syncMillis = syncMillis;
+            return this;
+        }
+
+        /**
+         * Sets how many syncs make one full list, the only sync that finds deleted installations, each once
+         * two full lists missed it. Defaults to {@link #DEFAULT_FULL_SYNC_EVERY}; 1 makes every sync a full
+         * list.
+         *
+         * @param fullSyncEvery the number of syncs
+         * @return the builder
+         */
+        public Builder fullSyncEvery(int fullSyncEvery) {
+            if (fullSyncEvery < 1) {
+                throw new IllegalArgumentException("fullSyncEvery must be at least 1");
+            }
+            this.fullSyncEvery = fullSyncEvery;
+            return this;
+        }
+
+        /**
+         * Sets the number of installations per page. Defaults to {@link PageIterator#DEFAULT_PAGE_SIZE}.
+         *
+         * @param pageSize the page size
+         * @return the builder
+         */
+        public Builder pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("pageSize must be at least 1");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Build installation informer. Call {@link InstallationInformer#start()} to load it.
+         *
+         * @return the installation informer
+         */
+        public InstallationInformer build() {
+            return new InstallationInformer(this);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.contentstack.sdk.marketplace.installations;
+
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+import retrofit2.Call;
+
+import java.util.Objects;
+
+/**
+ * The interface Installation operation.
+ * <p>
+ * A change applied to every installation of {@link Installation#applyAll}.
+ *
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * JSONObject configuration = new JSONObject();
+ * BulkReport report = marketplace.installation()
+ * .applyAll(ids, InstallationOperation.updateStackConfiguration(configuration), executor);
+ * </code>
+ */
+@FunctionalInterface
+public interface InstallationOperation {
+
+    /**
+     * Creates the call that applies the change to one installation.
+     *
+     * @param installation the installation
+     * @return the call
+     */
+    Call<ResponseBody> apply(Installation installation);
+
+    /**
+     * Updates every installation with the body, see {@link Installation#updateInstallation(JSONObject)}.
+     *
+     * @param body the body
+     * @return the operation
+     */
+    static InstallationOperation updateInstallation(@NotNull JSONObject body) {
+        Objects.requireNonNull(body, "body is required");
+        return installation -> installation.updateInstallation(body);
+    }
+
+    /**
+     * Updates the stack configuration of every installation, see
+     * {@link Installation#updateStackConfiguration(JSONObject)}.
+     *
+     * @param body the body
+     * @return the operation
+     */
+    static InstallationOperation updateStackConfiguration(@NotNull JSONObject body) {
+        Objects.requireNonNull(body, "body is required");
+        return installation -> installation.updateStackConfiguration(body);
+    }
+
+    /**
+     * Updates the server configuration of every installation, see
+     * {@link Installation#updateServerConfiguration(JSONObject)}.
+     *
+     * @param body the body
+     * @return the operation
+     */
+    static InstallationOperation updateServerConfiguration(@NotNull JSONObject body) {
+        Objects.requireNonNull(body, "body is required");
+        return installation -> installation.updateServerConfiguration(body);
+    }
+
+    /**
+     * Uninstalls every installation, see {@link Installation#uninstall()}.
+     *
+     * @return the operation
+     */
+    static InstallationOperation uninstall() {
+        return Installation::uninstall;
+    }
+}
@@ -0,0 +1,441 @@
+package com.contentstack.sdk.marketplace.installations;
+
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.BulkResult;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+import retrofit2.Call;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The type Org snapshot.
+ * <p>
+ * An immutable, indexed copy of the installations of an organisation and of the apps, stacks and users they
+ * involve. {@link #load(Installation, int)} pages the four list views in parallel, then joins them once:
+ * every uid is interned to a small int, and the app, stack and user indexes are int arrays of installation
+ * or app numbers. A lookup such as {@link #stacksWithApp(String)} is a hash lookup and an array walk,
+ * without a call.
+ * <p>
+ * A snapshot does not change. Load a new one to see later installations.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * OrgSnapshot snapshot = marketplace.installation().snapshot();
+ * List&lt;String&gt; stacks = snapshot.stacksWithApp("appUid");
+ * </code>
+ */
+public final class OrgSnapshot {
+
+    /**
+     * The list views a snapshot is loaded from.
+     */
+    enum View {
+        INSTALLATIONS {
+            @Override
+            Call<ResponseBody> list(InstallationService service, Map<String, String> headers,
+                                    Map<String, Object> query) {
+                return service.listInstallations(headers, query);
+            }
+        },
+        APPS {
+            @Override
+            Call<ResponseBody> list(InstallationService service, Map<String, String> headers,
+                                    Map<String, Object> query) {
+                return service.listInstalledApps(headers, query);
+            }
+        },
+        STACKS {
+            @Override
+            Call<ResponseBody> list(InstallationService service, Map<String, String> headers,
+                                    Map<String, Object> query) {
+                return service.listInstalledStacks(headers, query);
+            }
+        },
+        USERS {
+            @Override
+            Call<ResponseBody> list(InstallationService service, Map<String, String> headers,
+                                    Map<String, Object> query) {
+                return service.listInstalledUsers(headers, query);
+            }
+        };
+
+        abstract Call<ResponseBody> list(InstallationService service, Map<String, String> headers,
+                                         Map<String, Object> query);
+    }
+
+    private static final int[] NONE = new int[0];
+
+    private final long loadedAt;
+    private final Map<String, Integer> ids;
+    private final String[] uids;
+    private final JSONObject[] installations;
+    private final Map<Integer, Integer> installationIndex;
+    private final Map<Integer, int[]> installationsByApp;
+    private final Map<Integer, int[]> installationsByStack;
+    private final Map<Integer, int[]> installationsByUser;
+    private final Map<Integer, int[]> appsByStack;
+    private final Map<Integer, int[]> stacksByApp;
+    private final Map<Integer, JSONObject> apps;
+    private final Map<Integer, JSONObject> stacks;
+    private final Map<Integer, JSONObject> users;
+
+    private OrgSnapshot(Builder builder, long loadedAt) {
+        this.loadedAt = loadedAt;
+        this.ids = builder.ids;
+        this.uids = builder.uids.toArray(new String[0]);
+        this.installations = builder.installations.toArray(new JSONObject[0]);
+        this.installationIndex = builder.installationIndex;
+        this.installationsByApp = freeze(builder.installationsByApp);
+        this.installationsByStack = freeze(builder.installationsByStack);
+        this.installationsByUser = freeze(builder.installationsByUser);
+        this.appsByStack = freeze(distinct(builder.installationsByStack, builder.appOf));
+        this.stacksByApp = freeze(distinct(builder.installationsByApp, builder.stackOf));
+        this.apps = builder.apps;
+        this.stacks = builder.stacks;
+        this.users = builder.users;
+    }
+
+    /**
+     * Loads a snapshot, paging the installations and the installed apps, stacks and users views in parallel.
+     * The headers and parameters of the installation are sent with every page, tagged {@link Priority#BULK}.
+     *
+     * @param installation the installation of the organisation, e.g. {@code marketplace.installation()}
+     * @param pageSize     the number of items per page
+     * @return the snapshot
+     * @throws IOException when a view cannot be listed
+     */
+    public static OrgSnapshot load(@NotNull Installation installation, int pageSize) throws IOException {
+        BulkExecutor executor = new BulkExecutor.Builder().parallelism(View.values().length).build();
+        BulkReport<View, List<JSONObject>> report = executor.run(EnumSet.allOf(View.class), view -> {
+            List<JSONObject> items = new ArrayList<>();
+            PageIterator pages = installation.stream(view, Collections.emptyMap(), pageSize);
+            try {
+                pages.forEachRemaining(items::add);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return items;
+        }, null, null);
+        if (!report.getFailed().isEmpty()) {
+            Throwable error = report.getFailed().get(0).getError();
+            throw error instanceof IOException ? (IOException) error : new IOException(error);
+        }
+        Map<View, List<JSONObject>> views = new EnumMap<>(View.class);
+        for (BulkResult<View, List<JSONObject>> result : report.getSucceeded()) {
+            views.put(result.getKey(), result.getValue());
+        }
+        return of(views, System.currentTimeMillis());
+    }
+
+    static OrgSnapshot of(Map<View, List<JSONObject>> views, long loadedAt) {
+        Builder builder = new Builder();
+        for (JSONObject app : views.getOrDefault(View.APPS, Collections.emptyList())) {
+            builder.entity(builder.apps, app, "uid", "app_uid");
+        }
+        for (JSONObject stack : views.getOrDefault(View.STACKS, Collections.emptyList())) {
+            builder.entity(builder.stacks, stack, "api_key", "uid");
+        }
+        for (JSONObject user : views.getOrDefault(View.USERS, Collections.emptyList())) {
+            builder.entity(builder.users, user, "uid", "user_uid");
+        }
+        for (JSONObject installation : views.getOrDefault(View.INSTALLATIONS, Collections.emptyList())) {
+            builder.installation(installation);
+        }
+        return new OrgSnapshot(builder, loadedAt);
+    }
+
+    /**
+     * Returns the installations of an app.
+     *
+     * @param appUid the app uid
+     * @return the installations, empty when the app is not installed
+     */
+    public List<JSONObject> installationsOfApp(String appUid) {
+        return installations(installationsByApp, appUid);
+    }
+
+    /**
+     * Returns the installations on a stack.
+     *
+     * @param stackApiKey the stack api key
+     * @return the installations, empty when no app is installed on the stack
+     */
+    public List<JSONObject> installationsOnStack(String stackApiKey) {
+        return installations(installationsByStack, stackApiKey);
+    }
+
+    /**
+     * Returns the installations made by a user.
+     *
+     * @param userUid the user uid
+     * @return the installations, empty when the user installed nothing
+     */
+    public List<JSONObject> installationsOfUser(String userUid) {
+        return installations(installationsByUser, userUid);
+    }
+
+    /**
+     * Returns the stacks an app is installed on, each once.
+     *
+     * @param appUid the app uid
+     * @return the stack api keys
+     */
+    public List<String> stacksWithApp(String appUid) {
+        return uids(stacksByApp, appUid);
+    }
+
+    /**
+     * Returns the apps installed on a stack, each once.
+     *
+     * @param stackApiKey the stack api key
+     * @return the app uids
+     */
+    public List<String> appsOnStack(String stackApiKey) {
+        return uids(appsByStack, stackApiKey);
+    }
+
+    /**
+     * Returns an installation by uid.
+     *
+     * @param installationUid the installation uid
+     * @return the installation, or null
+     */
+    public JSONObject installation(String installationUid) {
+        Integer id = installationUid != null ? ids.get(installationUid) : null;
+        Integer index = id != null ? installationIndex.get(id) : null;
+        return index != null ? installations[index] : null;
+    }
+
+    /**
+     * Returns an app as listed by the installed apps view.
+     *
+     * @param appUid the app uid
+     * @return the app, or null
+     */
+    public JSONObject app(String appUid) {
+        return entity(apps, appUid);
+    }
+
+    /**
+     * Returns a stack as listed by the installed stacks view.
+     *
+     * @param stackApiKey the stack api key
+     * @return the stack, or null
+     */
+    public JSONObject stack(String stackApiKey) {
+        return entity(stacks, stackApiKey);
+    }
+
+    /**
+     * Returns a user as listed by the installed users view.
+     *
+     * @param userUid the user uid
+     * @return the user, or null
+     */
+    public JSONObject user(String userUid) {
+        return entity(users, userUid);
+    }
+
+    /**
+     * Returns the number of installations.
+     *
+     * @return the installation count
+     */
+    public int installationCount() {
+        return installations.length;
+    }
+
+    /**
+     * Returns when the snapshot was loaded.
+     *
+     * @return the time in epoch milliseconds
+     */
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "OrgSnapshot{installations=" + installations.length + ", apps=" + installationsByApp.size()
+                + ", stacks=" + installationsByStack.size() + ", users=" + installationsByUser.size() + "}";
+    }
+
+    private List<JSONObject> installations(Map<Integer, int[]> index, String uid) {
+        int[] postings = postings(index, uid);
+        List<JSONObject> found = new ArrayList<>(postings.length);
+        for (int installation : postings) {
+            found.add(installations[installation]);
+        }
+        return found;
+    }
+
+    private List<String> uids(Map<Integer, int[]> index, String uid) {
+        int[] postings = postings(index, uid);
+        List<String> found = new ArrayList<>(postings.length);
+        for (int id : postings) {
+            found.add(uids[id]);
+        }
+        return found;
+    }
+
+    private int[] postings(Map<Integer, int[]> index, String uid) {
+        Integer id = uid != null ? ids.get(uid) : null;
+        int[] postings = id != null ? index.get(id) : null;
+        return postings != null ? postings : NONE;
+    }
+
+    private JSONObject entity(Map<Integer, JSONObject> entities, String uid) {
+        Integer id = uid != null ? ids.get(uid) : null;
+        return id != null ? entities.get(id) : null;
+    }
+
+    /**
+     * Maps the installations of each key to the distinct uids they point at, e.g. the apps of a stack.
+     */
+    private static Map<Integer, List<Integer>> distinct(Map<Integer, List<Integer>> installationsByKey,
+                                                        Map<Integer, Integer> pointsAt) {
+        Map<Integer, List<Integer>> distinct = new HashMap<>();
+        for (Map.Entry<Integer, List<Integer>> entry : installationsByKey.entrySet()) {
+            Set<Integer> targets = new LinkedHashSet<>();
+            for (int installation : entry.getValue()) {
+                Integer target = pointsAt.get(installation);
+                if (target != null) {
+                    targets.add(target);
+                }
+            }
+            distinct.put(entry.getKey(), new ArrayList<>(targets));
+        }
+        return distinct;
+    }
+
+    private static Map<Integer, int[]> freeze(Map<Integer, List<Integer>> lists) {
+        Map<Integer, int[]> frozen = new HashMap<>(lists.size() * 4 / 3 + 1);
+        for (Map.Entry<Integer, List<Integer>> entry : lists.entrySet()) {
+            frozen.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        return frozen;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    static String appOf(JSONObject installation) {
+        String app = text(installation.get("app_uid"));
+        return app != null ? app : nested(installation, "manifest");
+    }
+
+    static String targetOf(JSONObject installation) {
+        Object target = installation.get("target");
+        if (target instanceof JSONObject) {
+            Object type = ((JSONObject) target).get("type");
+            return type == null || "stack".equals(type) ? text(((JSONObject) target).get("uid")) : null;
+        }
+        return text(installation.get("target_uid"));
+    }
+
+    static String userOf(JSONObject installation) {
+        for (String field : new String[]{"installed_by", "created_by", "user_uid"}) {
+            Object user = installation.get(field);
+            String uid = user instanceof JSONObject ? text(((JSONObject) user).get("uid")) : text(user);
+            if (uid != null) {
+                return uid;
+            }
+        }
+        return null;
+    }
+
+    private static String nested(JSONObject object, String field) {
+        Object nested = object.get(field);
+        return nested instanceof JSONObject ? text(((JSONObject) nested).get("uid")) : null;
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Interns the uids and collects the postings while the views are read.
+     */
+    private static final class Builder {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> uids = new ArrayList<>();
+        private final List<JSONObject> installations = new ArrayList<>();
+        private final Map<Integer, Integer> installationIndex = new HashMap<>();
+        private final Map<Integer, Integer> appOf = new HashMap<>();
+        private final Map<Integer, Integer> stackOf = new HashMap<>();
+        private final Map<Integer, List<Integer>> installationsByApp = new HashMap<>();
+        private final Map<Integer, List<Integer>> installationsByStack = new HashMap<>();
+        private final Map<Integer, List<Integer>> installationsByUser = new HashMap<>();
+        private final Map<Integer, JSONObject> apps = new HashMap<>();
+        private final Map<Integer, JSONObject> stacks = new HashMap<>();
+        private final Map<Integer, JSONObject> users = new HashMap<>();
+
+        private int intern(String uid) {
+            Integer id = ids.get(uid);
+            if (id == null) {
+                id = uids.size();
+                ids.put(uid, id);
+                uids.add(uid);
+            }
+            return id;
+        }
+
+        private void entity(Map<Integer, JSONObject> entities, JSONObject entity, String field, String fallback) {
+            String uid = text(entity.get(field));
+            if (uid == null) {
+                uid = text(entity.get(fallback));
+            }
+            if (uid != null) {
+                entities.put(intern(uid), entity);
+            }
+        }
+
+        private void installation(JSONObject installation) {
+            String uid = text(installation.get("uid"));
+            if (uid == null || installationIndex.containsKey(intern(uid))) {
+                // listed twice when the list moved between two pages
+                return;
+            }
+            int index = installations.size();
+            installations.add(installation);
+            installationIndex.put(intern(uid), index);
+            String app = appOf(installation);
+            if (app != null) {
+                int appId = intern(app);
+                appOf.put(index, appId);
+                installationsByApp.computeIfAbsent(appId, key -> new ArrayList<>()).add(index);
+            }
+            String stack = targetOf(installation);
+            if (stack != null) {
+                int stackId = intern(stack);
+                stackOf.put(index, stackId);
+                installationsByStack.computeIfAbsent(stackId, key -> new ArrayList<>()).add(index);
+            }
+            String user = userOf(installation);
+            if (user != null) {
+                installationsByUser.computeIfAbsent(intern(user), key -> new ArrayList<>()).add(index);
+            }
+        }
+    }
+}
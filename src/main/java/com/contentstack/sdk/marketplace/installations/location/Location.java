@@ -63,7 +63,7 @@ public class Location implements BaseImplementation<Location> {
      * Call result = location.fetchConfigurationLocation().execute();
      * </code>
      */
-    Call<ResponseBody> fetchConfigurationLocation() {
+    public Call<ResponseBody> fetchConfigurationLocation() {
         Objects.requireNonNull(this.installationId, "Installation Id is required");
         return this.service.getConfigurationLocation(this.headers, this.installationId, this.params);
     }
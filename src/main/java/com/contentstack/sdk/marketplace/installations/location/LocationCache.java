@@ -0,0 +1,188 @@
+package com.contentstack.sdk.marketplace.installations.location;
+
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * The type Location cache.
+ * <p>
+ * Fetches the configuration locations of many installations at once. {@link #fetchAll(Collection)} runs
+ * {@link Location#fetchConfigurationLocation()} for up to {@code parallelism} installations at a time, and
+ * every fetch goes through a cache keyed by installation id: a location fetched less than {@code ttl} ago is
+ * returned without a call, and callers asking for an installation whose fetch is in flight wait for that
+ * fetch instead of starting another. Failed fetches are not cached, and expired locations are swept out at
+ * most once per {@code ttl}, on the next fetch, so installations that are no longer asked for do not stay.
+ * <p>
+ * Keep the cache for as long as its entries are useful, for instance one per admin UI, so repeated page
+ * renders are served from it.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * LocationCache locations = marketplace.installation().locations();
+ * BulkReport&lt;String, JSONObject&gt; report = locations.fetchAll(installationIds);
+ * report.getSucceeded().forEach(result -&gt; render(result.getKey(), result.getValue()));
+ * </code>
+ */
+public class LocationCache {
+
+    /**
+     * The default time a location is kept, five minutes.
+     */
+    public static final long DEFAULT_TTL_MILLIS = 5 * 60 * 1000L;
+
+    /**
+     * The default number of installations fetched at a time.
+     */
+    public static final int DEFAULT_PARALLELISM = 16;
+
+    private final Function<String, Location> locations;
+    private final BulkExecutor executor;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep;
+
+    /**
+     * Instantiates a new Location cache.
+     *
+     * @param locations   the location of each installation id
+     * @param parallelism the number of installations fetched at a time
+     * @param ttlMillis   how long a location is kept, in milliseconds
+     */
+    public LocationCache(@NotNull Function<String, Location> locations, int parallelism, long ttlMillis) {
+        this(locations, parallelism, ttlMillis, System::currentTimeMillis);
+    }
+
+    LocationCache(Function<String, Location> locations, int parallelism, long ttlMillis, LongSupplier clock) {
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("ttlMillis cannot be negative");
+        }
+        this.locations = Objects.requireNonNull(locations, "locations are required");
+        this.executor = new BulkExecutor.Builder().parallelism(parallelism).build();
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.nextSweep = new AtomicLong(clock.getAsLong() + ttlMillis);
+    }
+
+    /**
+     * Returns the configuration location of an installation, from the cache when it is fresh.
+     *
+     * @param installationId the installation id
+     * @return the response of {@link Location#fetchConfigurationLocation()}
+     * @throws IOException when the location cannot be fetched
+     */
+    public JSONObject fetch(@NotNull String installationId) throws IOException {
+        Objects.requireNonNull(installationId, "Installation Id is required");
+        sweepIfDue();
+        Entry mine = new Entry();
+        Entry entry = entries.compute(installationId, (id, current) -> isUsable(current) ? current : mine);
+        if (entry == mine) {
+            load(installationId, mine);
+        }
+        try {
+            return entry.location.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the location of " + installationId);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Returns the configuration locations of the installations, fetching the ones not cached in parallel.
+     * An installation given twice is fetched once.
+     *
+     * @param installationIds the installation ids
+     * @return the location of each installation, or the error of its fetch
+     */
+    public BulkReport<String, JSONObject> fetchAll(@NotNull Collection<String> installationIds) {
+        Objects.requireNonNull(installationIds, "installationIds are required");
+        try {
+            return executor.run(new LinkedHashSet<>(installationIds), this::fetch, null, null);
+        } catch (IOException e) {
+            // only a checkpoint write throws, and there is no checkpoint
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Drops the cached location of an installation, for instance after its configuration changed.
+     *
+     * @param installationId the installation id
+     */
+    public void invalidate(@NotNull String installationId) {
+        entries.remove(installationId);
+    }
+
+    /**
+     * Drops all cached locations.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of installations cached or being fetched, expired entries included until they
+     * are fetched again or swept.
+     *
+     * @return the size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isUsable(Entry entry) {
+        // entries that failed are removed, so a completed entry holds a location
+        return entry != null && (!entry.location.isDone() || clock.getAsLong() < entry.expiresAt);
+    }
+
+    private void sweepIfDue() {
+        long now = clock.getAsLong();
+        long due = nextSweep.get();
+        if (now >= due && nextSweep.compareAndSet(due, now + ttlMillis)) {
+            // removes by value, so an entry replaced since it was read stays
+            entries.values().removeIf(entry -> entry.location.isDone() && now >= entry.expiresAt);
+        }
+    }
+
+    private void load(String installationId, Entry entry) {
+        try {
+            JSONObject location = Responses.parse(Responses.execute(
+                    locations.apply(installationId).fetchConfigurationLocation()));
+            entry.expiresAt = clock.getAsLong() + ttlMillis;
+            entry.location.complete(location);
+        } catch (IOException | RuntimeException e) {
+            entries.remove(installationId, entry);
+            entry.location.completeExceptionally(e);
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<JSONObject> location = new CompletableFuture<>();
+        private volatile long expiresAt;
+    }
+}
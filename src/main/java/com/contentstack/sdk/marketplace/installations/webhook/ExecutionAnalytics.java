@@ -0,0 +1,360 @@
+package com.contentstack.sdk.marketplace.installations.webhook;
+
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The type Execution analytics.
+ * <p>
+ * Aggregates webhook executions as they stream in, for instance from
+ * {@link Webhook#streamExecutionLogs(ExecutionCheckpoint)}, without keeping them. Each webhook has a ring of
+ * time buckets held in primitive arrays: per bucket, the count of executions by status class and a latency
+ * histogram. Recording an execution increments a few counters, the ring reuses the bucket of the oldest
+ * period when time moves on, and executions older than the ring are ignored, so the memory of a webhook is
+ * fixed whatever the number of executions. Queries add up the buckets of the window asked for.
+ * <p>
+ * By default the ring holds an hour of one-minute buckets.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * ExecutionAnalytics analytics = new ExecutionAnalytics.Builder().build();
+ * analytics.consume(webhook, webhook.streamExecutionLogs(checkpoint));
+ * Map&lt;String, ExecutionStats&gt; lastHour = analytics.byInstallation(TimeUnit.HOURS.toMillis(1));
+ * lastHour.forEach((installation, stats) -&gt; System.out.println(installation + " " + stats.getFailureRate()));
+ * </code>
+ */
+public class ExecutionAnalytics {
+
+    private static final String[] LATENCY_FIELDS = {"response_time", "duration", "latency", "time_taken"};
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final LongSupplier clock;
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    private ExecutionAnalytics(Builder builder) {
+        this.bucketMillis = builder.bucketMillis;
+        this.buckets = builder.buckets;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Records the executions of a webhook until the iterator is drained.
+     *
+     * @param webhook    the webhook the executions belong to
+     * @param executions the executions, in any order
+     * @return the number of executions recorded, executions outside the ring excluded
+     */
+    public int consume(@NotNull Webhook webhook, @NotNull Iterator<JSONObject> executions) {
+        Objects.requireNonNull(webhook, "webhook is required");
+        Objects.requireNonNull(executions, "executions are required");
+        int recorded = 0;
+        while (executions.hasNext()) {
+            if (record(webhook.getInstallationId(), webhook.getWebhookId(), executions.next())) {
+                recorded++;
+            }
+        }
+        return recorded;
+    }
+
+    /**
+     * Records an execution as listed by {@link Webhook#findExecutionLogs()} or fetched by
+     * {@link Webhook#fetchExecutionLogs(String)}: its {@code created_at}, the status code of the response
+     * and, when present, its latency in milliseconds.
+     *
+     * @param installationId the installation id
+     * @param webhookId      the webhook id
+     * @param execution      the execution
+     * @return false when the execution is outside the ring, or has no valid {@code created_at}
+     */
+    public boolean record(@NotNull String installationId, @NotNull String webhookId, @NotNull JSONObject execution) {
+        Objects.requireNonNull(execution, "execution is required");
+        long createdAt = epochMillis(execution.get("created_at"));
+        if (createdAt < 0) {
+            return false;
+        }
+        return record(installationId, webhookId, createdAt, statusCode(execution), latencyMillis(execution));
+    }
+
+    /**
+     * Records an execution.
+     *
+     * @param installationId the installation id
+     * @param webhookId      the webhook id
+     * @param epochMillis    when the execution was made
+     * @param statusCode     the status code of the response, or 0 when there was none
+     * @param latencyMillis  the latency in milliseconds, or -1 when unknown
+     * @return false when the execution is older than the ring or in a bucket after the current one
+     */
+    public boolean record(@NotNull String installationId, @NotNull String webhookId, long epochMillis,
+                          int statusCode, long latencyMillis) {
+        Objects.requireNonNull(installationId, "installationId is required");
+        Objects.requireNonNull(webhookId, "webhookId is required");
+        long period = Math.floorDiv(epochMillis, bucketMillis);
+        long now = Math.floorDiv(clock.getAsLong(), bucketMillis);
+        if (period <= now - buckets || period > now) {
+            // a later bucket would take the row of the oldest one still in the window
+            return false;
+        }
+        return series.computeIfAbsent(key(installationId, webhookId), key -> new Series(installationId, buckets))
+                .record(period, statusCode, latencyMillis);
+    }
+
+    /**
+     * Returns the stats of a webhook over the last {@code windowMillis}, rounded up to whole buckets.
+     *
+     * @param installationId the installation id
+     * @param webhookId      the webhook id
+     * @param windowMillis   the window, at most the length of the ring
+     * @return the stats
+     */
+    public ExecutionStats stats(@NotNull String installationId, @NotNull String webhookId, long windowMillis) {
+        Series webhook = series.get(key(installationId, webhookId));
+        return webhook == null ? ExecutionStats.empty() : webhook.stats(window(), windowBuckets(windowMillis));
+    }
+
+    /**
+     * Returns the stats of each installation, all its webhooks together, over the last {@code windowMillis}.
+     *
+     * @param windowMillis the window, at most the length of the ring
+     * @return the stats by installation id, installations without executions in the window excluded
+     */
+    public Map<String, ExecutionStats> byInstallation(long windowMillis) {
+        long now = window();
+        int count = windowBuckets(windowMillis);
+        Map<String, ExecutionStats> stats = new TreeMap<>();
+        for (Series webhook : series.values()) {
+            ExecutionStats window = webhook.stats(now, count);
+            if (window.getTotal() > 0) {
+                stats.merge(webhook.installationId, window, ExecutionStats::plus);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the failure rate of an installation, all its webhooks together, over the last
+     * {@code windowMillis}.
+     *
+     * @param installationId the installation id
+     * @param windowMillis   the window, at most the length of the ring
+     * @return the failure rate between 0 and 1, 0 without executions
+     */
+    public double failureRate(@NotNull String installationId, long windowMillis) {
+        ExecutionStats stats = byInstallation(windowMillis).get(installationId);
+        return stats == null ? 0 : stats.getFailureRate();
+    }
+
+    /**
+     * Returns the number of webhooks tracked.
+     *
+     * @return the webhook count
+     */
+    public int webhookCount() {
+        return series.size();
+    }
+
+    private long window() {
+        return Math.floorDiv(clock.getAsLong(), bucketMillis);
+    }
+
+    private int windowBuckets(long windowMillis) {
+        if (windowMillis < 1) {
+            throw new IllegalArgumentException("windowMillis must be at least 1");
+        }
+        return (int) Math.min(buckets, (windowMillis + bucketMillis - 1) / bucketMillis);
+    }
+
+    private static String key(String installationId, String webhookId) {
+        return installationId + "/" + webhookId;
+    }
+
+    static long epochMillis(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Instant.parse(value.toString()).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    static int statusCode(JSONObject execution) {
+        int code = code(execution.get("status_code"));
+        if (code < 0) {
+            code = code(execution.get("status"));
+        }
+        Object response = execution.get("response");
+        if (code < 0 && response instanceof JSONObject) {
+            code = code(((JSONObject) response).get("status"));
+        }
+        if (code < 0) {
+            // a textual status without a code
+            return ExecutionRetry.isFailed(execution) ? 0 : 200;
+        }
+        return code;
+    }
+
+    private static long latencyMillis(JSONObject execution) {
+        for (String field : LATENCY_FIELDS) {
+            Object value = execution.get(field);
+            if (value instanceof Number) {
+                return ((Number) value).longValue();
+            }
+        }
+        return -1;
+    }
+
+    private static int code(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Integer.parseInt(((String) value).trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The ring of one webhook. Row {@code i} of the flat arrays is the bucket of period {@code periods[i]}.
+     */
+    private static final class Series {
+        private final String installationId;
+        private final long[] periods;
+        private final int[] failed;
+        private final int[] statusClasses;
+        private final int[] latencies;
+
+        private Series(String installationId, int buckets) {
+            this.installationId = installationId;
+            this.periods = new long[buckets];
+            Arrays.fill(periods, Long.MIN_VALUE);
+            this.failed = new int[buckets];
+            this.statusClasses = new int[buckets * ExecutionStats.STATUS_CLASSES];
+            this.latencies = new int[buckets * ExecutionStats.LATENCY_BOUNDS.length];
+        }
+
+        private synchronized boolean record(long period, int statusCode, long latencyMillis) {
+            int row = (int) Math.floorMod(period, (long) periods.length);
+            if (periods[row] != period) {
+                if (periods[row] > period) {
+                    // the slot already moved on to a newer period
+                    return false;
+                }
+                periods[row] = period;
+                failed[row] = 0;
+                Arrays.fill(statusClasses, row * ExecutionStats.STATUS_CLASSES,
+                        (row + 1) * ExecutionStats.STATUS_CLASSES, 0);
+                Arrays.fill(latencies, row * ExecutionStats.LATENCY_BOUNDS.length,
+                        (row + 1) * ExecutionStats.LATENCY_BOUNDS.length, 0);
+            }
+            int statusClass = statusCode >= 100 && statusCode < 600 ? statusCode / 100 : ExecutionStats.NO_RESPONSE;
+            statusClasses[row * ExecutionStats.STATUS_CLASSES + statusClass]++;
+            if (statusClass == ExecutionStats.NO_RESPONSE || statusCode >= 400) {
+                failed[row]++;
+            }
+            if (latencyMillis >= 0) {
+                int bin = 0;
+                while (latencyMillis > ExecutionStats.LATENCY_BOUNDS[bin]) {
+                    bin++;
+                }
+                latencies[row * ExecutionStats.LATENCY_BOUNDS.length + bin]++;
+            }
+            return true;
+        }
+
+        private synchronized ExecutionStats stats(long now, int count) {
+            long total = 0;
+            long failures = 0;
+            long[] classes = new long[ExecutionStats.STATUS_CLASSES];
+            long[] bins = new long[ExecutionStats.LATENCY_BOUNDS.length];
+            for (int row = 0; row < periods.length; row++) {
+                // the bucket of the current period counts as the first of the window
+                if (periods[row] <= now - count || periods[row] > now) {
+                    continue;
+                }
+                failures += failed[row];
+                for (int i = 0; i < classes.length; i++) {
+                    int value = statusClasses[row * classes.length + i];
+                    classes[i] += value;
+                    total += value;
+                }
+                for (int i = 0; i < bins.length; i++) {
+                    bins[i] += latencies[row * bins.length + i];
+                }
+            }
+            return new ExecutionStats(total, failures, classes, bins);
+        }
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private long bucketMillis = 60_000;
+        private int buckets = 60;
+        private LongSupplier clock = System::currentTimeMillis;
+
+        /**
+         * Sets the length of a bucket, the resolution of the windows. Defaults to one minute.
+         *
+         * @param bucketMillis the bucket length in milliseconds
+         * @return the builder
+         */
+        public Builder bucketMillis(long bucketMillis) {
+            if (bucketMillis < 1) {
+                throw new IllegalArgumentException("bucketMillis must be at least 1");
+            }
+            this.bucketMillis = bucketMillis;
+            return this;
+        }
+
+        /**
+         * Sets the number of buckets of the ring, which times the bucket length is the longest window.
+         * Defaults to 60.
+         *
+         * @param buckets the bucket count
+         * @return the builder
+         */
+        public Builder buckets(int buckets) {
+            if (buckets < 1) {
+                throw new IllegalArgumentException("buckets must be at least 1");
+            }
+            this.buckets = buckets;
+            return this;
+        }
+
+        Builder clock(@NotNull LongSupplier clock) {
+            this.clock = Objects.requireNonNull(clock, "clock is required");
+            return this;
+        }
+
+        /**
+         * Build execution analytics.
+         *
+         * @return the execution analytics
+         */
+        public ExecutionAnalytics build() {
+            return new ExecutionAnalytics(this);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.contentstack.sdk.marketplace.installations.webhook;
+
+import com.contentstack.sdk.marketplace.bulk.Timestamps;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The type Execution checkpoint.
+ * <p>
+ * The newest webhook execution an audit has processed: its {@code created_at} and the uids of the
+ * executions processed with that same {@code created_at}. An {@link ExecutionLogIterator} started from a
+ * checkpoint only returns executions newer than it. Checkpoints are immutable and are saved as a small
+ * JSON file, replaced atomically.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * Path file = Paths.get("webhook-audit.checkpoint");
+ * ExecutionLogIterator executions = webhook.streamExecutionLogs(ExecutionCheckpoint.load(file));
+ * executions.forEachRemaining(this::audit);
+ * executions.getCheckpoint().save(file);
+ * </code>
+ */
+public final class ExecutionCheckpoint {
+
+    /**
+     * The checkpoint before any execution, from which every execution is new.
+     */
+    public static final ExecutionCheckpoint NONE = new ExecutionCheckpoint(null, Collections.emptySet());
+
+    private final String createdAt;
+    private final Set<String> uids;
+
+    ExecutionCheckpoint(String createdAt, Set<String> uids) {
+        this.createdAt = createdAt;
+        this.uids = Collections.unmodifiableSet(new HashSet<>(uids));
+    }
+
+    /**
+     * Reads a checkpoint saved by {@link #save(Path)}.
+     *
+     * @param file the file
+     * @return the checkpoint, or {@link #NONE} when the file does not exist
+     * @throws IOException when the file cannot be read or parsed
+     */
+    public static ExecutionCheckpoint load(@NotNull Path file) throws IOException {
+        Objects.requireNonNull(file, "file is required");
+        if (!Files.exists(file)) {
+            return NONE;
+        }
+        return parse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a checkpoint from its JSON form.
+     *
+     * @param json the JSON returned by {@link #toJson()}
+     * @return the checkpoint
+     * @throws IOException when the JSON cannot be parsed
+     */
+    public static ExecutionCheckpoint parse(@NotNull String json) throws IOException {
+        Object parsed;
+        try {
+            parsed = new JSONParser().parse(json);
+        } catch (ParseException e) {
+            throw new IOException("Invalid execution checkpoint: " + e, e);
+        }
+        if (!(parsed instanceof JSONObject)) {
+            throw new IOException("Invalid execution checkpoint: " + json);
+        }
+        JSONObject checkpoint = (JSONObject) parsed;
+        Object createdAt = checkpoint.get("created_at");
+        Set<String> uids = new HashSet<>();
+        Object list = checkpoint.get("uids");
+        if (list instanceof JSONArray) {
+            for (Object uid : (JSONArray) list) {
+                uids.add(String.valueOf(uid));
+            }
+        }
+        return createdAt == null ? NONE : new ExecutionCheckpoint(createdAt.toString(), uids);
+    }
+
+    /**
+     * Saves the checkpoint, replacing the file atomically so a crash leaves either the old or the new
+     * checkpoint.
+     *
+     * @param file the file
+     * @throws IOException when the file cannot be written
+     */
+    public void save(@NotNull Path file) throws IOException {
+        Objects.requireNonNull(file, "file is required");
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, toJson().getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the checkpoint as {@code {"created_at": ..., "uids": [...]}}.
+     *
+     * @return the JSON
+     */
+    @SuppressWarnings("unchecked")
+    public String toJson() {
+        JSONObject checkpoint = new JSONObject();
+        checkpoint.put("created_at", createdAt);
+        JSONArray list = new JSONArray();
+        list.addAll(uids);
+        checkpoint.put("uids", list);
+        return checkpoint.toJSONString();
+    }
+
+    /**
+     * Returns the {@code created_at} of the newest execution processed.
+     *
+     * @return the timestamp, or null for {@link #NONE}
+     */
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns the uids of the executions processed with the newest {@code created_at}.
+     *
+     * @return the uids
+     */
+    public Set<String> getUids() {
+        return uids;
+    }
+
+    /**
+     * Returns true when the execution was processed before this checkpoint was taken.
+     *
+     * @param createdAt the {@code created_at} of the execution
+     * @param uid       the uid of the execution
+     * @return true when the execution is not new
+     */
+    boolean covers(String createdAt, String uid) {
+        if (this.createdAt == null || createdAt == null) {
+            return false;
+        }
+        int order = Timestamps.compare(createdAt, this.createdAt);
+        return order < 0 || order == 0 && uids.contains(uid);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ExecutionCheckpoint)) {
+            return false;
+        }
+        ExecutionCheckpoint checkpoint = (ExecutionCheckpoint) other;
+        return Objects.equals(createdAt, checkpoint.createdAt) && uids.equals(checkpoint.uids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, uids);
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+}
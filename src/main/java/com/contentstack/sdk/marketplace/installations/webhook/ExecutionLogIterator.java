@@ -0,0 +1,161 @@
+package com.contentstack.sdk.marketplace.installations.webhook;
+
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.bulk.RateLimiter;
+import com.contentstack.sdk.marketplace.bulk.Timestamps;
+import okhttp3.ResponseBody;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import retrofit2.Call;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The type Execution log iterator.
+ * <p>
+ * Streams the executions of a webhook, newest first, one page at a time through a {@link PageIterator}, and
+ * stops at the first execution older than its {@link ExecutionCheckpoint}. An incremental audit therefore
+ * fetches the new executions and at most one page it had already seen, whatever the length of the history.
+ * Executions that move to the next page because new ones arrive during the scan are returned once.
+ * <p>
+ * Once the iterator is drained, {@link #getCheckpoint()} is the newest execution returned, to be saved for
+ * the next run. An iterator left part way keeps the checkpoint it started from, so the executions it did
+ * not reach are returned again next time rather than missed.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * ExecutionLogIterator executions = webhook.streamExecutionLogs(ExecutionCheckpoint.load(file));
+ * while (executions.hasNext()) { audit(executions.next()); }
+ * executions.getCheckpoint().save(file);
+ * </code>
+ */
+public class ExecutionLogIterator implements Iterator<JSONObject> {
+
+    /**
+     * The default number of executions per page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final PageIterator pages;
+    private final ExecutionCheckpoint since;
+    private JSONObject next;
+    private boolean stopped;
+    private boolean drained;
+    private String newestCreatedAt;
+    private final Set<String> newestUids = new HashSet<>();
+
+    ExecutionLogIterator(Function<Map<String, Object>, Call<ResponseBody>> pages, Map<String, Object> params,
+                         ExecutionCheckpoint since, int pageSize, RateLimiter rateLimiter) {
+        Map<String, Object> query = new HashMap<>(params);
+        query.put("sort", "created_at");
+        query.put("order", "desc");
+        this.pages = new PageIterator(pages, query, pageSize, rateLimiter, ExecutionLogIterator::executions);
+        this.since = since != null ? since : ExecutionCheckpoint.NONE;
+    }
+
+    /**
+     * Returns true when there is a new execution, fetching the next page when needed.
+     *
+     * @return true when {@link #next()} has an execution
+     * @throws UncheckedIOException when a page cannot be fetched
+     */
+    @Override
+    public boolean hasNext() {
+        while (next == null && !stopped && pages.hasNext()) {
+            JSONObject execution = pages.next();
+            String createdAt = createdAt(execution);
+            if (!since.covers(createdAt, uid(execution))) {
+                next = execution;
+            } else if (Timestamps.compare(createdAt, since.getCreatedAt()) < 0) {
+                // everything after this one is older still
+                stopped = true;
+            }
+        }
+        drained = next == null;
+        return !drained;
+    }
+
+    @Override
+    public JSONObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        JSONObject execution = next;
+        next = null;
+        String createdAt = createdAt(execution);
+        if (createdAt != null) {
+            int order = newestCreatedAt == null ? 1 : Timestamps.compare(createdAt, newestCreatedAt);
+            if (order > 0) {
+                newestCreatedAt = createdAt;
+                newestUids.clear();
+            }
+            if (order >= 0) {
+                newestUids.add(uid(execution));
+            }
+        }
+        return execution;
+    }
+
+    /**
+     * Returns the checkpoint to start the next run from: the newest execution returned once the iterator is
+     * drained, and the checkpoint it started from until then.
+     *
+     * @return the checkpoint
+     */
+    public ExecutionCheckpoint getCheckpoint() {
+        if (!drained || newestCreatedAt == null) {
+            return since;
+        }
+        Set<String> uids = new HashSet<>(newestUids);
+        if (Timestamps.compare(newestCreatedAt, since.getCreatedAt()) == 0) {
+            uids.addAll(since.getUids());
+        }
+        return new ExecutionCheckpoint(newestCreatedAt, uids);
+    }
+
+    /**
+     * Returns the number of pages fetched so far.
+     *
+     * @return the page count
+     */
+    public int getPagesFetched() {
+        return pages.getPagesFetched();
+    }
+
+    private static List<JSONObject> executions(JSONObject response) {
+        Object data = response.get("data");
+        Object executions = data instanceof JSONObject ? ((JSONObject) data).get("executions") : data;
+        if (!(executions instanceof JSONArray)) {
+            executions = response.get("executions");
+        }
+        List<JSONObject> items = new ArrayList<>();
+        if (executions instanceof JSONArray) {
+            for (Object item : (JSONArray) executions) {
+                if (item instanceof JSONObject) {
+                    items.add((JSONObject) item);
+                }
+            }
+        }
+        return items;
+    }
+
+    private static String createdAt(JSONObject execution) {
+        Object createdAt = execution.get("created_at");
+        return createdAt != null ? createdAt.toString() : null;
+    }
+
+    private static String uid(JSONObject execution) {
+        Object uid = execution.get("uid");
+        return uid != null ? uid.toString() : null;
+    }
+}
@@ -0,0 +1,281 @@
+package com.contentstack.sdk.marketplace.installations.webhook;
+
+import com.contentstack.sdk.marketplace.bulk.BulkCheckpoint;
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkListener;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.RateLimiter;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The type Execution retry.
+ * <p>
+ * Retries failed webhook executions in bulk, for instance after an outage of the receiving endpoints. The
+ * failed executions of each webhook are found with {@link Webhook#findExecutionLogs()}, deduplicated by
+ * installation, webhook and execution, and retried with {@link Webhook#retryExecution(String)} through a
+ * {@link BulkExecutor}: at most {@code parallelism} retries run at a time, and every call, listing pages and
+ * retry attempts included, takes a token from one {@link RateLimiter}, so the recovery reaches the endpoints
+ * at a steady pace. The report holds the outcome of each execution.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * ExecutionRetry retry = new ExecutionRetry.Builder().parallelism(8).requestsPerSecond(20).build();
+ * BulkReport&lt;FailedExecution, String&gt; report = retry.retryFailed(webhooks);
+ * report.getFailed().forEach(result -&gt; log(result.getKey(), result.getError()));
+ * </code>
+ */
+public class ExecutionRetry {
+
+    private final BulkExecutor executor;
+    private final RateLimiter rateLimiter;
+    private final Predicate<JSONObject> failed;
+    private final int pageSize;
+    private final BulkCheckpoint checkpoint;
+    private final BulkListener<FailedExecution, String> listener;
+
+    private ExecutionRetry(Builder builder) {
+        this.rateLimiter = new RateLimiter(builder.requestsPerSecond, builder.burst);
+        this.executor = new BulkExecutor.Builder().parallelism(builder.parallelism).retry(builder.retryPolicy)
+                .rateLimit(rateLimiter).build();
+        this.failed = builder.failed;
+        this.pageSize = builder.pageSize;
+        this.checkpoint = builder.checkpoint;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Finds the failed executions of the webhooks and retries them.
+     *
+     * @param webhooks the webhooks, a webhook given twice is searched once
+     * @return the outcome of each execution, with the body of the retry response on success
+     * @throws IOException when the executions of a webhook cannot be listed, or the checkpoint cannot be
+     *                     written
+     */
+    public BulkReport<FailedExecution, String> retryFailed(@NotNull Iterable<Webhook> webhooks) throws IOException {
+        return retry(findFailed(webhooks));
+    }
+
+    /**
+     * Lists the executions of the webhooks and returns the failed ones, without duplicates.
+     *
+     * @param webhooks the webhooks, a webhook given twice is listed once
+     * @return the failed executions, newest first for each webhook
+     * @throws IOException when the executions of a webhook cannot be listed
+     */
+    public List<FailedExecution> findFailed(@NotNull Iterable<Webhook> webhooks) throws IOException {
+        Objects.requireNonNull(webhooks, "webhooks are required");
+        Set<FailedExecution> found = new LinkedHashSet<>();
+        Set<String> listed = new HashSet<>();
+        for (Webhook webhook : webhooks) {
+            if (!listed.add(webhook.getInstallationId() + "/" + webhook.getWebhookId())) {
+                continue;
+            }
+            ExecutionLogIterator executions = webhook.streamExecutionLogs(ExecutionCheckpoint.NONE, pageSize,
+                    rateLimiter);
+            try {
+                while (executions.hasNext()) {
+                    JSONObject execution = executions.next();
+                    Object uid = execution.get("uid");
+                    if (uid != null && failed.test(execution)) {
+                        found.add(new FailedExecution(webhook, uid.toString(), execution));
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Retries the executions, each once however many times it is given.
+     *
+     * @param executions the executions
+     * @return the outcome of each execution, with the body of the retry response on success
+     * @throws IOException when the checkpoint cannot be written
+     */
+    public BulkReport<FailedExecution, String> retry(@NotNull Collection<FailedExecution> executions)
+            throws IOException {
+        Objects.requireNonNull(executions, "executions are required");
+        return executor.run(new LinkedHashSet<>(executions),
+                execution -> Responses.execute(execution.getWebhook().retryExecution(execution.getExecutionId())),
+                checkpoint, listener);
+    }
+
+    /**
+     * Returns true when the execution did not reach its endpoint: a {@code status} or {@code status_code}
+     * of 400 or more, or a {@code status} of {@code failed}, {@code failure} or {@code error}.
+     *
+     * @param execution the execution
+     * @return true when the execution failed
+     */
+    public static boolean isFailed(@NotNull JSONObject execution) {
+        Object status = execution.get("status");
+        if (status instanceof String) {
+            String text = ((String) status).trim();
+            if ("failed".equalsIgnoreCase(text) || "failure".equalsIgnoreCase(text)
+                    || "error".equalsIgnoreCase(text)) {
+                return true;
+            }
+        }
+        return code(status) >= 400 || code(execution.get("status_code")) >= 400;
+    }
+
+    private static int code(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Integer.parseInt(((String) value).trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private int parallelism = BulkExecutor.DEFAULT_PARALLELISM;
+        private double requestsPerSecond = 10;
+        private int burst = 1;
+        private RetryPolicy retryPolicy = new RetryPolicy(3, 1000, 30_000);
+        private Predicate<JSONObject> failed = ExecutionRetry::isFailed;
+        private int pageSize = ExecutionLogIterator.DEFAULT_PAGE_SIZE;
+        private BulkCheckpoint checkpoint;
+        private BulkListener<FailedExecution, String> listener;
+
+        /**
+         * Sets the maximum number of retries running at a time. Defaults to
+         * {@link BulkExecutor#DEFAULT_PARALLELISM}.
+         *
+         * @param parallelism the parallelism
+         * @return the builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the pace of the calls, listing pages and retries together. Defaults to 10 per second with no
+         * burst.
+         *
+         * @param requestsPerSecond the calls per second
+         * @param burst             the calls allowed at once after an idle period
+         * @return the builder
+         */
+        public Builder requestsPerSecond(double requestsPerSecond, int burst) {
+            if (!(requestsPerSecond > 0)) {
+                throw new IllegalArgumentException("requestsPerSecond must be positive");
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be at least 1");
+            }
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Sets the pace of the calls, listing pages and retries together, with no burst.
+         *
+         * @param requestsPerSecond the calls per second
+         * @return the builder
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            return requestsPerSecond(requestsPerSecond, 1);
+        }
+
+        /**
+         * Sets how many times a retry call is attempted when it fails with a timeout, 429 or 5xx. Defaults to
+         * 3 attempts.
+         *
+         * @param retryPolicy the retry policy
+         * @return the builder
+         */
+        public Builder retry(@NotNull RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy is required");
+            return this;
+        }
+
+        /**
+         * Sets which listed executions are retried. Defaults to {@link ExecutionRetry#isFailed(JSONObject)}.
+         *
+         * @param failed the filter
+         * @return the builder
+         */
+        public Builder failed(@NotNull Predicate<JSONObject> failed) {
+            this.failed = Objects.requireNonNull(failed, "failed is required");
+            return this;
+        }
+
+        /**
+         * Sets the number of executions per listing page. Defaults to
+         * {@link ExecutionLogIterator#DEFAULT_PAGE_SIZE}.
+         *
+         * @param pageSize the page size
+         * @return the builder
+         */
+        public Builder pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("pageSize must be at least 1");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the checkpoint of retried executions, so a recovery that stopped part way can be run again
+         * without retrying the same executions twice.
+         *
+         * @param checkpoint the checkpoint, or null
+         * @return the builder
+         */
+        public Builder checkpoint(BulkCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        /**
+         * Sets the progress listener.
+         *
+         * @param listener the listener, or null
+         * @return the builder
+         */
+        public Builder listener(BulkListener<FailedExecution, String> listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Build execution retry.
+         *
+         * @return the execution retry
+         */
+        public ExecutionRetry build() {
+            return new ExecutionRetry(this);
+        }
+    }
+}
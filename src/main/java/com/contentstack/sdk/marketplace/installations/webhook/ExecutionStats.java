@@ -0,0 +1,140 @@
+package com.contentstack.sdk.marketplace.installations.webhook;
+
+import java.util.Arrays;
+
+/**
+ * The type Execution stats.
+ * <p>
+ * The counters of the webhook executions recorded by {@link ExecutionAnalytics} over a window: totals by
+ * status class and a latency histogram. A snapshot, not updated by later executions.
+ */
+public final class ExecutionStats {
+
+    /**
+     * The status class of executions that got no response.
+     */
+    public static final int NO_RESPONSE = 0;
+
+    /**
+     * The upper bound, in milliseconds, of each latency bucket; the last bucket holds everything slower.
+     */
+    static final long[] LATENCY_BOUNDS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10_000, 30_000, Long.MAX_VALUE};
+
+    static final int STATUS_CLASSES = 6;
+
+    private final long total;
+    private final long failed;
+    private final long[] statusClasses;
+    private final long[] latencies;
+
+    ExecutionStats(long total, long failed, long[] statusClasses, long[] latencies) {
+        this.total = total;
+        this.failed = failed;
+        this.statusClasses = statusClasses;
+        this.latencies = latencies;
+    }
+
+    static ExecutionStats empty() {
+        return new ExecutionStats(0, 0, new long[STATUS_CLASSES], new long[LATENCY_BOUNDS.length]);
+    }
+
+    /**
+     * Returns the stats of both snapshots together.
+     */
+    ExecutionStats plus(ExecutionStats other) {
+        long[] classes = statusClasses.clone();
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] += other.statusClasses[i];
+        }
+        long[] bins = latencies.clone();
+        for (int i = 0; i < bins.length; i++) {
+            bins[i] += other.latencies[i];
+        }
+        return new ExecutionStats(total + other.total, failed + other.failed, classes, bins);
+    }
+
+    /**
+     * Returns the number of executions.
+     *
+     * @return the total
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of executions that got no response or a status of 400 or more.
+     *
+     * @return the failed count
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns the share of failed executions.
+     *
+     * @return the failure rate between 0 and 1, 0 without executions
+     */
+    public double getFailureRate() {
+        return total == 0 ? 0 : (double) failed / total;
+    }
+
+    /**
+     * Returns the number of executions of a status class.
+     *
+     * @param statusClass 1 to 5 for 1xx to 5xx, or {@link #NO_RESPONSE}
+     * @return the count
+     */
+    public long getStatusClassCount(int statusClass) {
+        if (statusClass < 0 || statusClass >= STATUS_CLASSES) {
+            throw new IllegalArgumentException("statusClass must be between 0 and 5");
+        }
+        return statusClasses[statusClass];
+    }
+
+    /**
+     * Returns the number of executions with a known latency.
+     *
+     * @return the count
+     */
+    public long getLatencyCount() {
+        long count = 0;
+        for (long bin : latencies) {
+            count += bin;
+        }
+        return count;
+    }
+
+    /**
+     * Returns an upper bound of the given latency percentile, the bound of the histogram bucket it falls in.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in milliseconds, {@link Long#MAX_VALUE} beyond the last bound, or -1 without
+     * latencies
+     */
+    public long getLatencyPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        long count = getLatencyCount();
+        if (count == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < latencies.length; i++) {
+            seen += latencies[i];
+            if (seen >= rank) {
+                return LATENCY_BOUNDS[i];
+            }
+        }
+        return LATENCY_BOUNDS[LATENCY_BOUNDS.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionStats{total=" + total + ", failed=" + failed + ", statusClasses="
+                + Arrays.toString(statusClasses) + ", latencies=" + Arrays.toString(latencies) + "}";
+    }
+}
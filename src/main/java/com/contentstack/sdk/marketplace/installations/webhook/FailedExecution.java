@@ -0,0 +1,108 @@
+package com.contentstack.sdk.marketplace.installations.webhook;
+
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.util.Objects;
+
+/**
+ * The type Failed execution.
+ * <p>
+ * A webhook execution to retry, identified by its installation, webhook and execution uid. Two failed
+ * executions are equal when the three match, whatever the execution details they carry, and their
+ * {@code toString()} is {@code installation/webhook/execution}, which is also their key in a
+ * {@link com.contentstack.sdk.marketplace.bulk.BulkCheckpoint}.
+ */
+public final class FailedExecution {
+
+    private final Webhook webhook;
+    private final String executionId;
+    private final JSONObject execution;
+
+    FailedExecution(@NotNull Webhook webhook, @NotNull String executionId, JSONObject execution) {
+        this.webhook = Objects.requireNonNull(webhook, "webhook is required");
+        this.executionId = Objects.requireNonNull(executionId, "executionId is required");
+        this.execution = execution;
+    }
+
+    /**
+     * Returns the execution of the webhook with the given id, for executions known from elsewhere than
+     * {@link ExecutionRetry#findFailed(Iterable)}.
+     *
+     * @param webhook     the webhook
+     * @param executionId the execution id
+     * @return the failed execution
+     */
+    public static FailedExecution of(@NotNull Webhook webhook, @NotNull String executionId) {
+        return new FailedExecution(webhook, executionId, null);
+    }
+
+    /**
+     * Returns the webhook the execution belongs to.
+     *
+     * @return the webhook
+     */
+    public Webhook getWebhook() {
+        return webhook;
+    }
+
+    /**
+     * Returns the installation id.
+     *
+     * @return the installation id
+     */
+    public String getInstallationId() {
+        return webhook.getInstallationId();
+    }
+
+    /**
+     * Returns the webhook id.
+     *
+     * @return the webhook id
+     */
+    public String getWebhookId() {
+        return webhook.getWebhookId();
+    }
+
+    /**
+     * Returns the execution id.
+     *
+     * @return the execution id
+     */
+    public String getExecutionId() {
+        return executionId;
+    }
+
+    /**
+     * Returns the execution as listed by {@link Webhook#findExecutionLogs()}.
+     *
+     * @return the execution, or null when it was not listed
+     */
+    public JSONObject getExecution() {
+        return execution;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof FailedExecution)) {
+            return false;
+        }
+        FailedExecution failed = (FailedExecution) other;
+        return executionId.equals(failed.executionId)
+                && Objects.equals(getWebhookId(), failed.getWebhookId())
+                && Objects.equals(getInstallationId(), failed.getInstallationId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getInstallationId(), getWebhookId(), executionId);
+    }
+
+    @Override
+    public String toString() {
+        return getInstallationId() + "/" + getWebhookId() + "/" + executionId;
+    }
+}
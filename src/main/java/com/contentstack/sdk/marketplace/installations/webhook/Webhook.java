@@ -1,6 +1,7 @@
 package com.contentstack.sdk.marketplace.installations.webhook;
 
 import com.contentstack.sdk.BaseImplementation;
+import com.contentstack.sdk.marketplace.bulk.RateLimiter;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
 import retrofit2.Call;
@@ -90,6 +91,66 @@ public class Webhook implements BaseImplementation<Webhook> {
         return this.service.findExecutionLogs(this.headers, this.installationId, webhookId, this.params);
     }
 
+    /**
+     * Streams the executions of the webhook newer than a checkpoint, newest first, fetching one page at a
+     * time with {@link #findExecutionLogs()}. The params of this webhook are sent with every page, except
+     * for the paging and sorting ones which the iterator sets. Save {@link ExecutionLogIterator#getCheckpoint()}
+     * once the iterator is drained, and the next run fetches only the executions made since.
+     *
+     * @param since the checkpoint of the previous run, or {@link ExecutionCheckpoint#NONE} for all
+     * @return the iterator
+     *
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("organizationId")
+     * .host("api.contentstack.io").build();
+     * Webhook webhook = marketplace.installation().webhook();
+     * ExecutionLogIterator executions = webhook.streamExecutionLogs(ExecutionCheckpoint.load(file));
+     * executions.forEachRemaining(execution -&gt; audit(execution));
+     * executions.getCheckpoint().save(file);
+     * </code>
+     */
+    public ExecutionLogIterator streamExecutionLogs(ExecutionCheckpoint since) {
+        return streamExecutionLogs(since, ExecutionLogIterator.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Streams the executions of the webhook newer than a checkpoint, newest first, with the given page size.
+     *
+     * @param since    the checkpoint of the previous run, or {@link ExecutionCheckpoint#NONE} for all
+     * @param pageSize the number of executions per page
+     * @return the iterator
+     */
+    public ExecutionLogIterator streamExecutionLogs(ExecutionCheckpoint since, int pageSize) {
+        return streamExecutionLogs(since, pageSize, null);
+    }
+
+    ExecutionLogIterator streamExecutionLogs(ExecutionCheckpoint since, int pageSize, RateLimiter rateLimiter) {
+        Objects.requireNonNull(this.installationId, "installation uid is required");
+        return new ExecutionLogIterator(query -> this.service.findExecutionLogs(this.headers, this.installationId,
+                webhookId, query), this.params, since, pageSize, rateLimiter);
+    }
+
+    /**
+     * Returns the installation the webhook belongs to.
+     *
+     * @return the installation id
+     */
+    public String getInstallationId() {
+        return installationId;
+    }
+
+    /**
+     * Returns the webhook id.
+     *
+     * @return the webhook id
+     */
+    public String getWebhookId() {
+        return webhookId;
+    }
+
     /**
      * The function fetches execution logs for a given execution ID.
      *
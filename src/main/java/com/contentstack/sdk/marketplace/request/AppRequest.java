@@ -2,6 +2,8 @@ package com.contentstack.sdk.marketplace.request;
 
 import com.contentstack.sdk.BaseImplementation;
 import com.contentstack.sdk.marketplace.Constants;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.bulk.RateLimiter;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
 import org.json.simple.JSONObject;
@@ -36,6 +38,12 @@ public class AppRequest implements BaseImplementation<AppRequest> {
         this.params = new HashMap<>();
     }
 
+    private AppRequest(AppRequest other) {
+        this.service = other.service;
+        this.headers = new HashMap<>(other.headers);
+        this.params = new HashMap<>(other.params);
+    }
+
     /**
      * Create call.
      *
@@ -113,6 +121,30 @@ public class AppRequest implements BaseImplementation<AppRequest> {
         return this.service.deleteRequest(this.headers, requestId);
     }
 
+    PageIterator streamRequests(int pageSize, RateLimiter rateLimiter) {
+        return new PageIterator(query -> this.service.listRequests(this.headers, query), this.params, pageSize,
+                rateLimiter);
+    }
+
+    /**
+     * Returns a builder for the creation and deletion of many app requests, deduped against the requests
+     * already open. The batch works on a copy of this app request, with its headers.
+     *
+     * @return the batch builder
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+     * .host("api.contentstack.io").build();
+     * AppRequestBatch requests = marketplace.request().batch().build();
+     * BulkReport&lt;RequestTarget, String&gt; report = requests.create(targets);
+     * </code>
+     */
+    public AppRequestBatch.Builder batch() {
+        return new AppRequestBatch.Builder(new AppRequest(this));
+    }
+
     /**
      * @param key   A non-null String representing the key for the parameter.
      * @param value The value parameter is of type Object, which means it can accept              any type of object              as its value.
@@ -0,0 +1,330 @@
+package com.contentstack.sdk.marketplace.request;
+
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.BulkTask;
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.bulk.RateLimiter;
+import com.contentstack.sdk.marketplace.bulk.Responses;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The type App request batch.
+ * <p>
+ * Creates and deletes many app requests in parallel, deduped by {@link RequestTarget}. The batch keeps an
+ * index of the open requests of the organization, loaded once from {@link AppRequest#find()} page by page
+ * and kept up to date by its own creates and deletes. A target that already has a request is answered from
+ * the index without a call, so submitting the same targets again costs nothing and never creates a
+ * duplicate; two submissions of one target running at the same time share one create.
+ * <p>
+ * Requests created or deleted by others after the index was loaded are only seen after {@link #refresh()}.
+ * A refresh waits for the creates and deletes running, and holds new ones until the index is reloaded, so
+ * the listing it replaces the index with already holds their outcome.
+ * Every call is tagged {@link Priority#BULK}.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * AppRequestBatch requests = marketplace.request().batch().parallelism(16).build();
+ * BulkReport&lt;RequestTarget, String&gt; report = requests.create(Arrays.asList(
+ * RequestTarget.of("appUid", "stackApiKey1"), RequestTarget.of("appUid", "stackApiKey2")));
+ * </code>
+ */
+public class AppRequestBatch {
+
+    private final AppRequest request;
+    private final BulkExecutor executor;
+    private final RateLimiter rateLimiter;
+    private final int pageSize;
+    private final Map<RequestTarget, String> index = new ConcurrentHashMap<>();
+    private final Map<RequestTarget, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    // creates and deletes share the read lock, a refresh takes the write lock
+    private final ReadWriteLock changes = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    private AppRequestBatch(Builder builder) {
+        this.request = Priority.BULK.tag(builder.request);
+        this.rateLimiter = builder.requestsPerSecond > 0
+                ? new RateLimiter(builder.requestsPerSecond, builder.burst) : null;
+        this.executor = new BulkExecutor.Builder().parallelism(builder.parallelism).retry(builder.retryPolicy)
+                .rateLimit(rateLimiter).build();
+        this.pageSize = builder.pageSize;
+    }
+
+    /**
+     * Creates a request for each target that has none, each target once however many times it is given.
+     *
+     * @param targets the targets
+     * @return the uid of the request of each target, new or existing, or the error of its create
+     * @throws IOException when the index cannot be loaded
+     */
+    public BulkReport<RequestTarget, String> create(@NotNull Collection<RequestTarget> targets) throws IOException {
+        Objects.requireNonNull(targets, "targets are required");
+        load();
+        return run(targets, this::createOne);
+    }
+
+    /**
+     * Deletes the request of each target. A target without a request, or whose request is already gone,
+     * counts as deleted.
+     *
+     * @param targets the targets
+     * @return the uid of the deleted request of each target, empty when there was none, or the error of
+     * its delete
+     * @throws IOException when the index cannot be loaded
+     */
+    public BulkReport<RequestTarget, String> delete(@NotNull Collection<RequestTarget> targets) throws IOException {
+        Objects.requireNonNull(targets, "targets are required");
+        load();
+        return run(targets, this::deleteOne);
+    }
+
+    /**
+     * Returns the uid of the open request of a target, from the index.
+     *
+     * @param target the target
+     * @return the request uid, or null when the target has no request
+     * @throws IOException when the index cannot be loaded
+     */
+    public String find(@NotNull RequestTarget target) throws IOException {
+        load();
+        return index.get(target);
+    }
+
+    /**
+     * Returns the number of open requests in the index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Loads the index again from {@link AppRequest#find()}, to see the requests created or deleted by others.
+     *
+     * @throws IOException when a page cannot be fetched
+     */
+    public synchronized void refresh() throws IOException {
+        Lock lock = changes.writeLock();
+        lock.lock();
+        try {
+            Map<RequestTarget, String> fresh = new ConcurrentHashMap<>();
+            PageIterator requests = request.streamRequests(pageSize, rateLimiter);
+            try {
+                while (requests.hasNext()) {
+                    JSONObject listed = requests.next();
+                    RequestTarget target = RequestTarget.of(listed);
+                    if (target != null && listed.get("uid") != null) {
+                        fresh.put(target, listed.get("uid").toString());
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            index.keySet().retainAll(fresh.keySet());
+            index.putAll(fresh);
+            loaded = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    refresh();
+                }
+            }
+        }
+    }
+
+    private BulkReport<RequestTarget, String> run(Collection<RequestTarget> targets,
+                                                  BulkTask<RequestTarget, String> task) {
+        try {
+            return executor.run(new LinkedHashSet<>(targets), task, null, null);
+        } catch (IOException e) {
+            // only the checkpoint writes throw and the batch runs without one
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String createOne(RequestTarget target) throws IOException {
+        String existing = index.get(target);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(target, mine);
+        if (running != null) {
+            return await(running, target);
+        }
+        Lock lock = changes.readLock();
+        lock.lock();
+        try {
+            String uid = index.get(target);
+            if (uid == null) {
+                JSONObject response = Responses.parse(Responses.execute(request.create(target.body())));
+                Object data = response.get("data");
+                Object created = (data instanceof JSONObject ? (JSONObject) data : response).get("uid");
+                if (created == null) {
+                    throw new IOException("The request created for " + target + " has no uid");
+                }
+                uid = created.toString();
+                index.put(target, uid);
+            }
+            mine.complete(uid);
+            return uid;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            lock.unlock();
+            inFlight.remove(target, mine);
+        }
+    }
+
+    private String deleteOne(RequestTarget target) throws IOException {
+        Lock lock = changes.readLock();
+        lock.lock();
+        try {
+            String uid = index.get(target);
+            if (uid == null) {
+                return "";
+            }
+            try {
+                Responses.execute(request.delete(uid));
+            } catch (HttpStatusException e) {
+                if (e.getCode() != 404) {
+                    throw e;
+                }
+            }
+            index.remove(target, uid);
+            return uid;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String await(CompletableFuture<String> running, RequestTarget target) throws IOException {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the request of " + target);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * The type Builder.
+     */
+    public static class Builder {
+        private final AppRequest request;
+        private int parallelism = BulkExecutor.DEFAULT_PARALLELISM;
+        private double requestsPerSecond;
+        private int burst = 1;
+        private RetryPolicy retryPolicy = RetryPolicy.NONE;
+        private int pageSize = PageIterator.DEFAULT_PAGE_SIZE;
+
+        Builder(AppRequest request) {
+            this.request = request;
+        }
+
+        /**
+         * Sets the maximum number of creates or deletes running at a time. Defaults to
+         * {@link BulkExecutor#DEFAULT_PARALLELISM}.
+         *
+         * @param parallelism the parallelism
+         * @return the builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the pace of the calls, listing pages included. Unlimited by default.
+         *
+         * @param requestsPerSecond the calls per second
+         * @param burst             the calls allowed at once after an idle period
+         * @return the builder
+         */
+        public Builder requestsPerSecond(double requestsPerSecond, int burst) {
+            if (!(requestsPerSecond > 0)) {
+                throw new IllegalArgumentException("requestsPerSecond must be positive");
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be at least 1");
+            }
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Sets the retry policy of the creates and deletes.
+         *
+         * @param retryPolicy the retry policy
+         * @return the builder
+         */
+        public Builder retry(@NotNull RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy is required");
+            return this;
+        }
+
+        /**
+         * Sets the number of requests per listing page when the index is loaded. Defaults to
+         * {@link PageIterator#DEFAULT_PAGE_SIZE}.
+         *
+         * @param pageSize the page size
+         * @return the builder
+         */
+        public Builder pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("pageSize must be at least 1");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Build app request batch.
+         *
+         * @return the app request batch
+         */
+        public AppRequestBatch build() {
+            return new AppRequestBatch(this);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.contentstack.sdk.marketplace.request;
+
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+
+import java.util.Objects;
+
+/**
+ * The type Request target.
+ * <p>
+ * The app and the stack of an app request. There is at most one open request per target, so the target is
+ * the key {@link AppRequestBatch} dedupes on. Its {@code toString()} is {@code app/stack}, which is also its
+ * key in a {@link com.contentstack.sdk.marketplace.bulk.BulkCheckpoint}.
+ */
+public final class RequestTarget {
+
+    private final String appUid;
+    private final String targetUid;
+
+    private RequestTarget(String appUid, String targetUid) {
+        this.appUid = Objects.requireNonNull(appUid, "appUid is required");
+        this.targetUid = Objects.requireNonNull(targetUid, "targetUid is required");
+    }
+
+    /**
+     * Returns the target of a request for the app on the stack.
+     *
+     * @param appUid    the app uid
+     * @param targetUid the stack api key
+     * @return the target
+     */
+    public static RequestTarget of(@NotNull String appUid, @NotNull String targetUid) {
+        return new RequestTarget(appUid, targetUid);
+    }
+
+    /**
+     * Returns the target of a request as listed by {@link AppRequest#find()}: its {@code app_uid}, or the
+     * {@code uid} of its {@code manifest}, and its {@code target_uid}, or the {@code uid} of its
+     * {@code target}.
+     *
+     * @param request the listed request
+     * @return the target, or null when the request has no app or no target
+     */
+    public static RequestTarget of(@NotNull JSONObject request) {
+        String appUid = uid(request, "app_uid", "manifest");
+        String targetUid = uid(request, "target_uid", "target");
+        return appUid != null && targetUid != null ? new RequestTarget(appUid, targetUid) : null;
+    }
+
+    private static String uid(JSONObject request, String field, String object) {
+        Object uid = request.get(field);
+        if (uid == null && request.get(object) instanceof JSONObject) {
+            uid = ((JSONObject) request.get(object)).get("uid");
+        }
+        return uid != null ? uid.toString() : null;
+    }
+
+    /**
+     * Returns the app uid.
+     *
+     * @return the app uid
+     */
+    public String getAppUid() {
+        return appUid;
+    }
+
+    /**
+     * Returns the stack api key.
+     *
+     * @return the target uid
+     */
+    public String getTargetUid() {
+        return targetUid;
+    }
+
+    /**
+     * Returns the body that creates the request.
+     */
+    @SuppressWarnings("unchecked")
+    JSONObject body() {
+        JSONObject body = new JSONObject();
+        body.put("app_uid", appUid);
+        body.put("target_uid", targetUid);
+        return body;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RequestTarget)) {
+            return false;
+        }
+        RequestTarget that = (RequestTarget) other;
+        return appUid.equals(that.appUid) && targetUid.equals(that.targetUid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(appUid, targetUid);
+    }
+
+    @Override
+    public String toString() {
+        return appUid + "/" + targetUid;
+    }
+}
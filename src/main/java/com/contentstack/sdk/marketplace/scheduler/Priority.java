@@ -0,0 +1,60 @@
+package com.contentstack.sdk.marketplace.scheduler;
+
+import com.contentstack.sdk.BaseImplementation;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The enum Priority.
+ * <p>
+ * Tags a request as user facing ({@link #INTERACTIVE}) or as background work ({@link #BULK}) so the
+ * {@link PriorityScheduler} can let interactive calls skip ahead of queued bulk calls. Requests that are
+ * not tagged are treated as {@link #INTERACTIVE}.
+ */
+public enum Priority {
+    /**
+     * Interactive priority, used for user facing requests.
+     */
+    INTERACTIVE,
+    /**
+     * Bulk priority, used for background sync and reconciliation requests.
+     */
+    BULK;
+
+    /**
+     * The header used to carry the priority from the resource to the scheduler. The scheduler removes it
+     * before the request leaves the client.
+     */
+    public static final String HEADER = "x-cs-priority";
+
+    /**
+     * Tags the resource so every call it creates carries this priority.
+     *
+     * @param resource the resource, e.g. {@code marketplace.app("appUid")}
+     * @param <T>      the type of the resource
+     * @return the same resource instance
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+     * .priorityScheduler(new PriorityScheduler(16)).build();
+     * Call call = Priority.BULK.tag(marketplace.app("appUid")).fetchApp();
+     * </code>
+     */
+    public <T> T tag(@NotNull BaseImplementation<T> resource) {
+        return resource.addHeader(HEADER, name());
+    }
+
+    /**
+     * Resolves the priority from a header value, falling back to {@link #INTERACTIVE}.
+     *
+     * @param value the header value, may be null
+     * @return the priority
+     */
+    public static Priority of(String value) {
+        if (value != null && BULK.name().equalsIgnoreCase(value.trim())) {
+            return BULK;
+        }
+        return INTERACTIVE;
+    }
+}
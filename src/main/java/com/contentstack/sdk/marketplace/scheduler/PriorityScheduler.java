@@ -0,0 +1,209 @@
+package com.contentstack.sdk.marketplace.scheduler;
+
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The type Priority scheduler.
+ * <p>
+ * An OkHttp interceptor that admits at most {@code maxConcurrentRequests} calls to the network at a time and
+ * orders the waiting calls by {@link Priority}. Interactive calls are admitted before queued bulk calls, but
+ * after {@code interactiveBurst} interactive admissions in a row one waiting bulk call is admitted, so bulk
+ * work keeps making progress while interactive traffic is high.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * Marketplace marketplace = new Marketplace.Builder("ORGANIZATION_UID")
+ * .priorityScheduler(new PriorityScheduler(16)).build();
+ * Call call = Priority.BULK.tag(marketplace.installation()).findInstallations();
+ * </code>
+ */
+public class PriorityScheduler implements Interceptor {
+
+    private static final int DEFAULT_INTERACTIVE_BURST = 4;
+    private static final int DISPATCHER_HEADROOM = 8;
+
+    private final int maxConcurrentRequests;
+    private final int interactiveBurst;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Ticket> interactive = new ArrayDeque<>();
+    private final ArrayDeque<Ticket> bulk = new ArrayDeque<>();
+    private int running;
+    private int interactiveInARow;
+
+    /**
+     * Instantiates a new Priority scheduler.
+     *
+     * @param maxConcurrentRequests the maximum number of calls on the network at a time
+     */
+    public PriorityScheduler(int maxConcurrentRequests) {
+        this(maxConcurrentRequests, DEFAULT_INTERACTIVE_BURST);
+    }
+
+    /**
+     * Instantiates a new Priority scheduler.
+     *
+     * @param maxConcurrentRequests the maximum number of calls on the network at a time
+     * @param interactiveBurst      the number of interactive calls admitted in a row before a waiting bulk
+     *                              call is admitted
+     */
+    public PriorityScheduler(int maxConcurrentRequests, int interactiveBurst) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+        }
+        if (interactiveBurst < 1) {
+            throw new IllegalArgumentException("interactiveBurst must be at least 1");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.interactiveBurst = interactiveBurst;
+    }
+
+    /**
+     * Installs the scheduler on the client builder. The builder gets a dispatcher that runs a few more
+     * asynchronous calls than the scheduler admits, so the scheduler, and not the FIFO queue of the
+     * dispatcher, decides which of them reaches the network next, while the dispatcher threads stay bounded
+     * however many calls are enqueued. The asynchronous calls past that headroom wait in the dispatcher in
+     * the order they were enqueued. Synchronous calls do not go through the dispatcher limits and always
+     * wait in the scheduler.
+     *
+     * @param builder the OkHttp client builder
+     * @return the same builder
+     */
+    public OkHttpClient.Builder install(@NotNull OkHttpClient.Builder builder) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxConcurrentRequests + DISPATCHER_HEADROOM);
+        dispatcher.setMaxRequestsPerHost(maxConcurrentRequests + DISPATCHER_HEADROOM);
+        return builder.dispatcher(dispatcher).addInterceptor(this);
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        String tag = request.header(Priority.HEADER);
+        if (tag != null) {
+            request = request.newBuilder().removeHeader(Priority.HEADER).build();
+        }
+        acquire(Priority.of(tag));
+        try {
+            return chain.proceed(request);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Returns the number of calls currently admitted to the network.
+     *
+     * @return the running calls count
+     */
+    public int runningCallsCount() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of calls waiting for admission with the given priority.
+     *
+     * @param priority the priority
+     * @return the queued calls count
+     */
+    public int queuedCallsCount(@NotNull Priority priority) {
+        lock.lock();
+        try {
+            return queue(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(Priority priority) throws InterruptedIOException {
+        lock.lock();
+        try {
+            if (running < maxConcurrentRequests && interactive.isEmpty() && bulk.isEmpty()) {
+                admitted(priority);
+                return;
+            }
+            Ticket ticket = new Ticket(lock.newCondition());
+            queue(priority).addLast(ticket);
+            try {
+                while (!ticket.granted) {
+                    ticket.condition.await();
+                }
+            } catch (InterruptedException e) {
+                if (ticket.granted) {
+                    running--;
+                    promote();
+                } else {
+                    queue(priority).remove(ticket);
+                }
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the priority scheduler");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            running--;
+            promote();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void promote() {
+        while (running < maxConcurrentRequests) {
+            Ticket next;
+            Priority priority;
+            if (!interactive.isEmpty() && (bulk.isEmpty() || interactiveInARow < interactiveBurst)) {
+                next = interactive.pollFirst();
+                priority = Priority.INTERACTIVE;
+            } else if (!bulk.isEmpty()) {
+                next = bulk.pollFirst();
+                priority = Priority.BULK;
+            } else {
+                return;
+            }
+            admitted(priority);
+            next.granted = true;
+            next.condition.signal();
+        }
+    }
+
+    private void admitted(Priority priority) {
+        running++;
+        interactiveInARow = priority == Priority.INTERACTIVE ? interactiveInARow + 1 : 0;
+    }
+
+    private ArrayDeque<Ticket> queue(Priority priority) {
+        return priority == Priority.BULK ? bulk : interactive;
+    }
+
+    private static final class Ticket {
+        private final Condition condition;
+        private boolean granted;
+
+        private Ticket(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
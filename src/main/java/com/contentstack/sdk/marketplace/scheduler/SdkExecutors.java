@@ -0,0 +1,83 @@
+package com.contentstack.sdk.marketplace.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The type Sdk executors.
+ * <p>
+ * Creates the executors used to run blocking {@link Call#execute()} calls and the bulk helpers of the SDK.
+ * On Java 8 to 20 the executors use daemon platform threads. The jar is a multi-release jar: on Java 21 and
+ * later the version of this class in {@code META-INF/versions/21} is loaded instead, and the executors start
+ * one virtual thread per task, so fan-outs over tens of thousands of calls need no thread pool tuning.
+ */
+public final class SdkExecutors {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private SdkExecutors() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns true when the executors of this runtime use virtual threads.
+     *
+     * @return true on Java 21 and later
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * Creates an executor that starts a new thread for each task when no idle thread is available.
+     * Callers that need a limit on parallelism bound it themselves, e.g. with a semaphore.
+     *
+     * @return the executor, to be shut down by the caller
+     */
+    public static ExecutorService newPerTaskExecutor() {
+        return Executors.newCachedThreadPool(threadFactory());
+    }
+
+    /**
+     * Executes the call on the shared executor and completes the future with its response.
+     *
+     * @param call the call to execute
+     * @param <T>  the type of the response body
+     * @return the future response
+     * <p>
+     * <b>Example</b>
+     * <p>
+     * <code>
+     * CompletableFuture&lt;Response&lt;ResponseBody&gt;&gt; response = SdkExecutors.execute(app.fetchApp());
+     * </code>
+     */
+    public static <T> CompletableFuture<Response<T>> execute(@NotNull Call<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.execute();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, Shared.EXECUTOR);
+    }
+
+    private static ThreadFactory threadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "marketplace-worker-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Shared {
+        private static final ExecutorService EXECUTOR = newPerTaskExecutor();
+    }
+}
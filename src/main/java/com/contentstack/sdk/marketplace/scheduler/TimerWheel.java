@@ -0,0 +1,577 @@
+package com.contentstack.sdk.marketplace.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The type Timer wheel.
+ * <p>
+ * A hierarchical timing wheel that runs the background work of the SDK, such as catalog refreshes,
+ * deployment polls and installation syncs, on a few threads whatever the number of timers. Time is cut in
+ * ticks; the wheel has {@value #LEVELS} levels of {@value #SLOTS} slots, each slot of a level spanning a whole
+ * turn of the level below. A timer goes into the slot of its deadline on the lowest level that reaches it,
+ * and moves down a level when its slot comes round, so scheduling, cancelling and expiring a timer are
+ * constant time, with no heap to reorder. A timer never fires before its deadline and fires at most one tick
+ * late.
+ * <p>
+ * One ticker thread advances the wheel and hands the due tasks to a small pool of worker threads, so a slow
+ * task does not hold back the other timers. Both are daemon threads started on first use; the ticker sleeps
+ * while no timer is pending. {@link #shutdown()} drops the pending timers and lets the running tasks finish.
+ * The {@link #shared() shared} wheel cannot be shut down by its users: it stops when the last user that
+ * acquired it releases it.
+ * <p>
+ * <b>Example</b>
+ * <p>
+ * <code>
+ * TimerWheel timers = marketplace.timers();
+ * ScheduledFuture&lt;?&gt; refresh = timers.scheduleWithFixedDelay(cache::refresh, 1, 1, TimeUnit.MINUTES);
+ * </code>
+ */
+public class TimerWheel extends AbstractExecutorService implements ScheduledExecutorService, AutoCloseable {
+
+    /**
+     * The default length of a tick, ten milliseconds.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 10;
+
+    /**
+     * The default number of worker threads.
+     */
+    public static final int DEFAULT_WORKERS = 2;
+
+    static final int LEVELS = 4;
+    static final int SLOTS = 256;
+    private static final int BITS = 8;
+    private static final int MASK = SLOTS - 1;
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+
+    private static volatile TimerWheel shared;
+
+    private final String name;
+    private final long tickNanos;
+    private final long origin = System.nanoTime();
+    private final Bucket[][] wheel = new Bucket[LEVELS][SLOTS];
+    private final ThreadPoolExecutor workers;
+    private final Object lock = new Object();
+    private Thread ticker;
+    private boolean sharedWheel;
+    private int users;
+    private long processed;
+    private int size;
+    private volatile boolean shutdown;
+
+    /**
+     * Instantiates a new Timer wheel with ticks of {@link #DEFAULT_TICK_MILLIS} and
+     * {@link #DEFAULT_WORKERS} workers.
+     *
+     * @param name the prefix of the thread names
+     */
+    public TimerWheel(@NotNull String name) {
+        this(name, DEFAULT_TICK_MILLIS, DEFAULT_WORKERS);
+    }
+
+    /**
+     * Instantiates a new Timer wheel.
+     *
+     * @param name       the prefix of the thread names
+     * @param tickMillis the length of a tick, the precision of the timers
+     * @param workers    the number of threads running the due tasks
+     */
+    public TimerWheel(@NotNull String name, long tickMillis, int workers) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("tickMillis must be at least 1");
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be at least 1");
+        }
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        for (Bucket[] level : wheel) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                level[slot] = new Bucket();
+            }
+        }
+        AtomicInteger count = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> daemon(runnable, name + "-worker-" + count.incrementAndGet()));
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the wheel shared by the background work of the SDK in this process, created on first use and
+     * again after it was shut down. The wheel stops when the last user that {@link #acquireShared() acquired}
+     * it releases it, so work that must outlive the marketplaces acquires it too.
+     *
+     * @return the shared wheel
+     */
+    public static TimerWheel shared() {
+        TimerWheel wheel = shared;
+        if (wheel == null || wheel.isShutdown()) {
+            synchronized (TimerWheel.class) {
+                wheel = shared;
+                if (wheel == null || wheel.isShutdown()) {
+                    wheel = new TimerWheel("marketplace-timers");
+                    wheel.sharedWheel = true;
+                    shared = wheel;
+                }
+            }
+        }
+        return wheel;
+    }
+
+    /**
+     * Returns the {@link #shared() shared} wheel and counts one more user of it. Each call is to be paired
+     * with {@link #releaseShared(TimerWheel)}.
+     *
+     * @return the shared wheel
+     */
+    public static TimerWheel acquireShared() {
+        synchronized (TimerWheel.class) {
+            return shared().retain();
+        }
+    }
+
+    /**
+     * Counts one user less of a wheel returned by {@link #acquireShared()}. The last user shuts it down,
+     * dropping the pending timers of everyone who scheduled on it; the next use of {@link #shared()} starts
+     * a new one.
+     *
+     * @param wheel the acquired wheel
+     */
+    public static void releaseShared(@NotNull TimerWheel wheel) {
+        synchronized (TimerWheel.class) {
+            wheel.release();
+        }
+    }
+
+    TimerWheel retain() {
+        synchronized (lock) {
+            users++;
+        }
+        return this;
+    }
+
+    void release() {
+        boolean last;
+        synchronized (lock) {
+            last = users > 0 && --users == 0;
+        }
+        if (last) {
+            stop();
+        }
+    }
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return the pending count
+     */
+    public int pendingCount() {
+        synchronized (lock) {
+            return size;
+        }
+    }
+
+    @NotNull
+    @Override
+    public ScheduledFuture<?> schedule(@NotNull Runnable command, long delay, @NotNull TimeUnit unit) {
+        return add(new Timer<Void>(Executors.callable(command, null), deadline(delay, unit), 0));
+    }
+
+    @NotNull
+    @Override
+    public <V> ScheduledFuture<V> schedule(@NotNull Callable<V> callable, long delay, @NotNull TimeUnit unit) {
+        return add(new Timer<>(callable, deadline(delay, unit), 0));
+    }
+
+    @NotNull
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(@NotNull Runnable command, long initialDelay, long period,
+                                                  @NotNull TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        return add(new Timer<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                unit.toNanos(period)));
+    }
+
+    @NotNull
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(@NotNull Runnable command, long initialDelay, long delay,
+                                                     @NotNull TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        return add(new Timer<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException(name + " is shut down");
+        }
+        workers.execute(command);
+    }
+
+    /**
+     * Stops the wheel: the pending timers are cancelled, no new task is accepted and the running tasks
+     * finish.
+     *
+     * @throws UnsupportedOperationException on the {@link #shared() shared} wheel, which stops with
+     * {@link #releaseShared(TimerWheel)}
+     */
+    @Override
+    public void shutdown() {
+        rejectIfShared();
+        stop();
+    }
+
+    /**
+     * Stops the wheel as {@link #shutdown()} does and interrupts the running tasks.
+     *
+     * @return the tasks that never ran
+     * @throws UnsupportedOperationException on the {@link #shared() shared} wheel, which stops with
+     * {@link #releaseShared(TimerWheel)}
+     */
+    @NotNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        rejectIfShared();
+        List<Runnable> pending = drain();
+        pending.addAll(workers.shutdownNow());
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && workers.isTerminated() && !isTicking();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Thread current;
+        synchronized (lock) {
+            current = ticker;
+        }
+        if (current != null) {
+            current.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+        return workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                && !isTicking();
+    }
+
+    /**
+     * Shuts the wheel down, see {@link #shutdown()}.
+     *
+     * @throws UnsupportedOperationException on the {@link #shared() shared} wheel, which stops with
+     * {@link #releaseShared(TimerWheel)}
+     */
+    @Override
+    public void close() {
+        shutdown();
+    }
+
+    private void stop() {
+        drain();
+        workers.shutdown();
+    }
+
+    private void rejectIfShared() {
+        if (sharedWheel) {
+            throw new UnsupportedOperationException("The shared timer wheel stops when its last user releases it");
+        }
+    }
+
+    private boolean isTicking() {
+        synchronized (lock) {
+            return ticker != null && ticker.isAlive();
+        }
+    }
+
+    private List<Runnable> drain() {
+        List<Runnable> pending = new ArrayList<>();
+        synchronized (lock) {
+            shutdown = true;
+            for (Bucket[] level : wheel) {
+                for (Bucket bucket : level) {
+                    for (Timer<?> timer = bucket.detach(); timer != null; ) {
+                        Timer<?> next = timer.next;
+                        timer.next = null;
+                        pending.add(timer);
+                        timer = next;
+                    }
+                }
+            }
+            size = 0;
+            lock.notifyAll();
+        }
+        for (Runnable timer : pending) {
+            ((Timer<?>) timer).cancel(false);
+        }
+        return pending;
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        return System.nanoTime() + Math.min(Math.max(0, unit.toNanos(delay)), MAX_DELAY_NANOS);
+    }
+
+    private long tickOf(long nanos) {
+        long elapsed = nanos - origin;
+        return elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - origin) / tickNanos;
+    }
+
+    private <V> Timer<V> add(Timer<V> timer) {
+        synchronized (lock) {
+            if (shutdown) {
+                throw new RejectedExecutionException(name + " is shut down");
+            }
+            if (size == 0) {
+                // nothing is pending, so the wheel can jump over the ticks it slept through
+                processed = Math.max(processed, currentTick());
+            }
+            insert(timer, processed + 1);
+            size++;
+            if (ticker == null) {
+                ticker = daemon(this::tick, name + "-ticker");
+                ticker.start();
+            } else if (size == 1) {
+                lock.notifyAll();
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * Puts the timer in the slot of its deadline on the lowest level that reaches it from the base tick, the
+     * first tick not processed yet.
+     */
+    private void insert(Timer<?> timer, long base) {
+        long due = Math.max(tickOf(timer.deadline), base);
+        long delta = due - base;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        wheel[level][(int) ((due >>> (BITS * level)) & MASK)].append(timer);
+    }
+
+    private void remove(Timer<?> timer) {
+        synchronized (lock) {
+            if (timer.bucket != null) {
+                timer.bucket.unlink(timer);
+                size--;
+            }
+        }
+    }
+
+    private void tick() {
+        List<Timer<?>> due = new ArrayList<>();
+        while (true) {
+            synchronized (lock) {
+                try {
+                    if (shutdown) {
+                        return;
+                    }
+                    long now = currentTick();
+                    if (size == 0) {
+                        lock.wait();
+                        continue;
+                    }
+                    if (processed >= now) {
+                        long next = origin + (processed + 1) * tickNanos - System.nanoTime();
+                        lock.wait(Math.max(1, TimeUnit.NANOSECONDS.toMillis(next)));
+                        continue;
+                    }
+                    while (processed < now && size > 0) {
+                        advance(++processed, due);
+                    }
+                    if (size == 0) {
+                        processed = now;
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            for (Timer<?> timer : due) {
+                try {
+                    workers.execute(timer);
+                } catch (RejectedExecutionException e) {
+                    timer.cancel(false);
+                }
+            }
+            due.clear();
+        }
+    }
+
+    /**
+     * Processes a tick: the slots of the higher levels that come round at this tick move down, then the
+     * timers of the slot of the tick on the lowest level are due.
+     */
+    private void advance(long tick, List<Timer<?>> due) {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((tick & ((1L << (BITS * level)) - 1)) != 0) {
+                break;
+            }
+            for (Timer<?> timer = wheel[level][(int) ((tick >>> (BITS * level)) & MASK)].detach(); timer != null; ) {
+                Timer<?> next = timer.next;
+                timer.next = null;
+                insert(timer, tick);
+                timer = next;
+            }
+        }
+        for (Timer<?> timer = wheel[0][(int) (tick & MASK)].detach(); timer != null; ) {
+            Timer<?> next = timer.next;
+            timer.next = null;
+            if (tickOf(timer.deadline) > tick) {
+                // beyond the reach of the top level when scheduled, it goes round again
+                insert(timer, tick + 1);
+            } else {
+                size--;
+                due.add(timer);
+            }
+            timer = next;
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * A slot of the wheel, a doubly linked list of timers.
+     */
+    private static final class Bucket {
+        private Timer<?> head;
+        private Timer<?> tail;
+
+        private void append(Timer<?> timer) {
+            timer.bucket = this;
+            timer.prev = tail;
+            timer.next = null;
+            if (tail == null) {
+                head = timer;
+            } else {
+                tail.next = timer;
+            }
+            tail = timer;
+        }
+
+        private void unlink(Timer<?> timer) {
+            if (timer.prev == null) {
+                head = timer.next;
+            } else {
+                timer.prev.next = timer.next;
+            }
+            if (timer.next == null) {
+                tail = timer.prev;
+            } else {
+                timer.next.prev = timer.prev;
+            }
+            timer.bucket = null;
+            timer.prev = null;
+            timer.next = null;
+        }
+
+        /**
+         * Empties the slot and returns its first timer, the others following through {@code next}.
+         */
+        private Timer<?> detach() {
+            Timer<?> first = head;
+            for (Timer<?> timer = first; timer != null; timer = timer.next) {
+                timer.bucket = null;
+                timer.prev = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+
+    /**
+     * A scheduled task. The period is positive for a fixed rate, negative for a fixed delay, zero for once.
+     */
+    private final class Timer<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        private final long period;
+        private volatile long deadline;
+        private Bucket bucket;
+        private Timer<?> prev;
+        private Timer<?> next;
+
+        private Timer(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(@NotNull TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@NotNull Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset()) {
+                deadline = period > 0 ? deadline + period : System.nanoTime() - period;
+                try {
+                    add(this);
+                } catch (RejectedExecutionException e) {
+                    super.cancel(false);
+                }
+                if (isCancelled()) {
+                    // cancelled while it ran, after the cancel looked for it in the wheel
+                    remove(this);
+                }
+            }
+        }
+    }
+}
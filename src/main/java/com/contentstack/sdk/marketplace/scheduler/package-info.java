@@ -0,0 +1,2 @@
+// this directory provides information about the `com.contentstack.sdk.marketplace.scheduler` package and the classes it contains
+package com.contentstack.sdk.marketplace.scheduler;
@@ -0,0 +1,69 @@
+package com.contentstack.sdk.marketplace.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The type Sdk executors.
+ * <p>
+ * Java 21 version of the class, loaded from {@code META-INF/versions/21} of the multi-release jar. The
+ * executors start one virtual thread per task, so a blocking {@link Call#execute()} parks the virtual thread
+ * and releases its carrier thread while it waits for the network.
+ */
+public final class SdkExecutors {
+
+    private SdkExecutors() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns true when the executors of this runtime use virtual threads.
+     *
+     * @return true on Java 21 and later
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     * Callers that need a limit on parallelism bound it themselves, e.g. with a semaphore.
+     *
+     * @return the executor, to be shut down by the caller
+     */
+    public static ExecutorService newPerTaskExecutor() {
+        return Executors.newThreadPerTaskExecutor(threadFactory());
+    }
+
+    /**
+     * Executes the call on the shared executor and completes the future with its response.
+     *
+     * @param call the call to execute
+     * @param <T>  the type of the response body
+     * @return the future response
+     */
+    public static <T> CompletableFuture<Response<T>> execute(@NotNull Call<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.execute();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, Shared.EXECUTOR);
+    }
+
+    private static ThreadFactory threadFactory() {
+        return Thread.ofVirtual().name("marketplace-worker-", 1).factory();
+    }
+
+    private static final class Shared {
+        private static final ExecutorService EXECUTOR = newPerTaskExecutor();
+    }
+}
@@ -0,0 +1,51 @@
+package com.contentstack.sdk;
+
+import okhttp3.*;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Retrofit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stand-in transport for tests: an interceptor that answers every call without touching the network.
+ */
+public class StubTransport implements Interceptor {
+
+    public interface Handler {
+        Response handle(Request request) throws IOException;
+    }
+
+    private final Handler handler;
+    private final List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+
+    public StubTransport(Handler handler) {
+        this.handler = handler;
+    }
+
+    public Retrofit retrofit() {
+        return Client.newInstance("api.contentstack.io", new OkHttpClient.Builder().addInterceptor(this).build());
+    }
+
+    public List<Request> requests() {
+        return requests;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        requests.add(chain.request());
+        return handler.handle(chain.request());
+    }
+
+    public static Response json(Request request, int code, String body) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code).message(code < 400 ? "OK" : "Error")
+                .body(ResponseBody.create(body, MediaType.get("application/json")))
+                .build();
+    }
+}
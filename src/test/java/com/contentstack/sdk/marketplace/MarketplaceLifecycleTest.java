@@ -0,0 +1,199 @@
+package com.contentstack.sdk.marketplace;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.apps.hosting.LocalHostingServer;
+import com.contentstack.sdk.marketplace.apps.oauth.ScopeCatalog;
+import com.contentstack.sdk.marketplace.installations.InstallationInformer;
+import com.contentstack.sdk.marketplace.scheduler.TimerWheel;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class MarketplaceLifecycleTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger answered = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    @Test
+    void testCloseDrainsCallsInFlight() {
+        Marketplace marketplace = marketplace(new StubTransport(request -> {
+            pause(100);
+            return StubTransport.json(request, 200, "{}");
+        }));
+        for (int i = 0; i < 5; i++) {
+            marketplace.app("app" + i).fetchApp().enqueue(counting());
+        }
+        Assertions.assertTrue(marketplace.close(5000));
+        Assertions.assertEquals(5, answered.get());
+        Assertions.assertTrue(marketplace.isClosed());
+        Assertions.assertThrows(IllegalStateException.class, marketplace::app);
+        Assertions.assertTrue(marketplace.close(0));
+    }
+
+    @Test
+    void testCloseCancelsCallsPastTheDeadline() throws Exception {
+        Marketplace marketplace = marketplace(new StubTransport(request -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            return StubTransport.json(request, 200, "{}");
+        }));
+        CountDownLatch done = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            marketplace.app("app" + i).fetchApp().enqueue(new Callback<ResponseBody>() {
+                @Override
+                public void onResponse(@NotNull Call<ResponseBody> call, @NotNull Response<ResponseBody> response) {
+                    done.countDown();
+                }
+
+                @Override
+                public void onFailure(@NotNull Call<ResponseBody> call, @NotNull Throwable error) {
+                    failed.incrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        long start = System.nanoTime();
+        Assertions.assertFalse(marketplace.close(100));
+        release.countDown();
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+        Assertions.assertEquals(3, failed.get());
+    }
+
+    @Test
+    void testClosingOneMarketplaceKeepsTheTimersOfTheOthers() {
+        Marketplace first = marketplace(new StubTransport(request -> StubTransport.json(request, 200, "{}")));
+        Marketplace second = marketplace(new StubTransport(request -> StubTransport.json(request, 200, "{}")));
+        TimerWheel timers = first.timers();
+        Assertions.assertSame(timers, second.timers());
+        ScheduledFuture<?> pending = timers.schedule(() -> { }, 1, TimeUnit.HOURS);
+        first.close();
+        Assertions.assertFalse(timers.isShutdown());
+        Assertions.assertFalse(pending.isDone());
+        pending.cancel(false);
+        second.close();
+    }
+
+    @Test
+    void testClosingOneMarketplaceKeepsTheCatalogAndInformerOfTheOthers() throws Exception {
+        Marketplace first = marketplace(new StubTransport(request -> StubTransport.json(request, 200, "{}")));
+        Marketplace second = marketplace(new StubTransport(request -> StubTransport.json(request, 200, "{}")));
+        ScopeCatalog catalog = second.app().oauth().scopeCatalog();
+        InstallationInformer informer = second.installation().informer();
+        Assertions.assertNotSame(catalog, first.app().oauth().scopeCatalog());
+        Assertions.assertNotSame(informer, first.installation().informer());
+        first.close();
+        Assertions.assertSame(catalog, second.app().oauth().scopeCatalog());
+        Assertions.assertSame(informer, second.installation().informer());
+        Assertions.assertFalse(second.timers().isShutdown());
+        second.close();
+    }
+
+    @Test
+    void testCreatingAndClosingThousandsOfInstancesLeaksNoThreadsOrConnections() throws Exception {
+        try (LocalHostingServer server = new LocalHostingServer()) {
+            AtomicInteger requests = new AtomicInteger();
+            // every call goes over a real socket to the local server
+            Interceptor transport = chain -> {
+                requests.incrementAndGet();
+                HttpUrl local = HttpUrl.get(server.url(chain.request().url().encodedPath()));
+                return chain.proceed(chain.request().newBuilder().url(local).build());
+            };
+            warmUp(transport);
+            int baseline = clientThreads();
+            for (int i = 0; i < 2000; i++) {
+                Marketplace marketplace = marketplace(transport);
+                CompletableFuture<Void> fetched = new CompletableFuture<>();
+                marketplace.app("app" + i).fetchApp().enqueue(new Callback<ResponseBody>() {
+                    @Override
+                    public void onResponse(@NotNull Call<ResponseBody> call,
+                                           @NotNull Response<ResponseBody> response) {
+                        fetched.complete(null);
+                    }
+
+                    @Override
+                    public void onFailure(@NotNull Call<ResponseBody> call, @NotNull Throwable error) {
+                        fetched.completeExceptionally(error);
+                    }
+                });
+                marketplace.timers().schedule(() -> { }, 1, TimeUnit.MINUTES);
+                fetched.get(5, TimeUnit.SECONDS);
+                Assertions.assertTrue(marketplace.close(5000));
+                Assertions.assertEquals(0, marketplace.httpClient().connectionPool().connectionCount());
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (clientThreads() > baseline + 2 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            Assertions.assertTrue(clientThreads() <= baseline + 2,
+                    clientThreads() + " threads, " + baseline + " before");
+            Assertions.assertEquals(2000, requests.get() - 1);
+        }
+    }
+
+    private void warmUp(Interceptor transport) throws Exception {
+        try (Marketplace marketplace = marketplace(transport)) {
+            Response<ResponseBody> response = marketplace.app("warm-up").fetchApp().execute();
+            // the local server has no app to answer with, any response will do
+            ResponseBody body = response.isSuccessful() ? response.body() : response.errorBody();
+            Assertions.assertNotNull(body);
+            body.close();
+        }
+    }
+
+    private static int clientThreads() {
+        // the threads of the local server come and go with its own requests
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (!thread.getName().startsWith(LocalHostingServer.THREAD_NAME)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Marketplace marketplace(Interceptor transport) {
+        return new Marketplace.Builder("org").host("api.contentstack.io").interceptor(transport).build();
+    }
+
+    private Callback<ResponseBody> counting() {
+        return new Callback<ResponseBody>() {
+            @Override
+            public void onResponse(@NotNull Call<ResponseBody> call, @NotNull Response<ResponseBody> response) {
+                answered.incrementAndGet();
+            }
+
+            @Override
+            public void onFailure(@NotNull Call<ResponseBody> call, @NotNull Throwable error) {
+                failed.incrementAndGet();
+            }
+        };
+    }
+
+    private static void pause(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.contentstack.sdk.marketplace.apps;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.auths.Auth;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.PageIterator;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
+import okhttp3.Request;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+class AuthorizationRevocationTest {
+
+    private static final int PER_APP = 250;
+
+    private final Map<String, List<String>> authorizations = new ConcurrentHashMap<>();
+    private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+    private final StubTransport transport = new StubTransport(this::handle);
+
+    AuthorizationRevocationTest() {
+        for (String app : Arrays.asList("app1", "app2", "app3")) {
+            List<String> uids = new ArrayList<>();
+            for (int i = 0; i < PER_APP; i++) {
+                uids.add(app + "-auth" + i);
+            }
+            authorizations.put(app, uids);
+        }
+    }
+
+    @Test
+    void testStreamsAllAuthorizationsPageByPage() {
+        PageIterator stream = new App(transport.retrofit(), null, "org", "app1").streamAuthorizations(100);
+        int count = 0;
+        while (stream.hasNext()) {
+            Assertions.assertEquals("app1-auth" + count, stream.next().get("authorization_uid"));
+            count++;
+        }
+        Assertions.assertEquals(PER_APP, count);
+        Assertions.assertEquals(3, stream.getPagesFetched());
+        Assertions.assertEquals("200", transport.requests().get(2).url().queryParameter("skip"));
+        Assertions.assertEquals("100", transport.requests().get(2).url().queryParameter("limit"));
+    }
+
+    @Test
+    void testStreamsAuthorizedAppsOfTheOrganization() {
+        PageIterator apps = new Auth(transport.retrofit(), null, "org").streamAuthorizedApps(2);
+        List<Object> uids = new ArrayList<>();
+        apps.forEachRemaining(app -> uids.add(app.get("uid")));
+        Assertions.assertEquals(Arrays.asList("app1", "app2", "app3"), uids);
+        Assertions.assertEquals(2, apps.getPagesFetched());
+    }
+
+    @Test
+    void testRevokesMatchingAuthorizationsAcrossAppsInParallel() throws Exception {
+        AuthorizationRevocation revocation = new App(transport.retrofit(), null, "org").revokeAuthorizations()
+                .parallelism(16).requestsPerSecond(2000, 50).build();
+        long start = System.nanoTime();
+        // every 5th authorization belongs to the compromised user
+        BulkReport<Authorization, String> report = revocation.revokeMatching(Arrays.asList("app1", "app2", "app3"),
+                authorization -> "compromised".equals(authorization.get("user_uid")));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertTrue(report.isSuccess());
+        Assertions.assertEquals(150, report.getSucceeded().size());
+        Assertions.assertEquals(150, deleted.size());
+        Assertions.assertTrue(deleted.contains("app2/app2-auth5"));
+        Assertions.assertTrue(elapsed < 150 * 10 / 4, elapsed + " ms");
+        for (Request request : transport.requests()) {
+            Assertions.assertEquals("BULK", request.header(Priority.HEADER));
+        }
+    }
+
+    @Test
+    void testRevokingTwiceCountsMissingAuthorizationsAsRevoked() throws Exception {
+        AuthorizationRevocation revocation = new App(transport.retrofit(), null, "org").revokeAuthorizations()
+                .requestsPerSecond(1000).build();
+        List<Authorization> targets = Arrays.asList(Authorization.of("app1", "app1-auth1"),
+                Authorization.of("app1", "app1-auth1"), Authorization.of("app3", "app3-auth7"));
+        Assertions.assertEquals(2, revocation.revoke(targets).getSucceeded().size());
+        BulkReport<Authorization, String> again = revocation.revoke(targets);
+        Assertions.assertTrue(again.isSuccess());
+        Assertions.assertEquals(2, deleted.size());
+        Assertions.assertTrue(transport.requests().stream().anyMatch(request -> request.url().encodedPath()
+                .endsWith("/manifests/app1/authorizations/app1-auth1")));
+    }
+
+    private okhttp3.Response handle(Request request) throws IOException {
+        List<String> segments = request.url().pathSegments();
+        if (segments.get(segments.size() - 1).equals("authorized-apps")) {
+            return page(request, new ArrayList<>(new TreeSet<>(authorizations.keySet())), "uid");
+        }
+        String app = segments.get(segments.size() - 2).equals("authorizations")
+                ? segments.get(segments.size() - 3) : segments.get(segments.size() - 2);
+        if (request.method().equals("DELETE")) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            String uid = segments.get(segments.size() - 1);
+            boolean existed = authorizations.get(app).contains(uid) && deleted.add(app + "/" + uid);
+            return StubTransport.json(request, existed ? 200 : 404, "{\"notice\":\"revoked\"}");
+        }
+        return page(request, authorizations.get(app), "authorization_uid");
+    }
+
+    @SuppressWarnings("unchecked")
+    private okhttp3.Response page(Request request, List<String> uids, String field) {
+        int skip = Integer.parseInt(request.url().queryParameter("skip"));
+        int limit = Integer.parseInt(request.url().queryParameter("limit"));
+        JSONArray data = new JSONArray();
+        for (int i = skip; i < Math.min(uids.size(), skip + limit); i++) {
+            JSONObject item = new JSONObject();
+            item.put(field, uids.get(i));
+            item.put("user_uid", i % 5 == 0 ? "compromised" : "user" + i);
+            data.add(item);
+        }
+        JSONObject response = new JSONObject();
+        response.put("data", data);
+        return StubTransport.json(request, 200, response.toJSONString());
+    }
+}
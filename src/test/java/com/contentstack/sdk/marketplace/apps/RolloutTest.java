@@ -0,0 +1,150 @@
+package com.contentstack.sdk.marketplace.apps;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
+import okhttp3.Request;
+import okio.Buffer;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Tag("unit")
+class RolloutTest {
+
+    @Test
+    void testWavesGrowFromCanaryToFleet() {
+        Rollout rollout = app(new StubTransport(request -> StubTransport.json(request, 200, "{}")))
+                .rollout().installations(installations(200)).canarySize(2).build();
+        List<Integer> sizes = new ArrayList<>();
+        for (List<JSONObject> wave : rollout.waves()) {
+            sizes.add(wave.size());
+        }
+        // canary of 2, then up to 1% (already covered), 10% and the rest
+        Assertions.assertEquals(Arrays.asList(2, 18, 180), sizes);
+    }
+
+    @Test
+    void testCompletesAndTagsCallsAsBulk() throws Exception {
+        StubTransport transport = new StubTransport(request -> StubTransport.json(request, 200, "{}"));
+        RolloutReport report = app(transport).rollout().installations(installations(50)).parallelism(4).build().run();
+        Assertions.assertEquals(RolloutReport.Status.COMPLETED, report.getStatus());
+        Assertions.assertEquals(3, report.getWaves().size());
+        Assertions.assertEquals(50, transport.requests().size());
+        Set<String> targets = ConcurrentHashMap.newKeySet();
+        for (Request request : transport.requests()) {
+            Assertions.assertEquals("BULK", request.header(Priority.HEADER));
+            Assertions.assertTrue(request.url().encodedPath().endsWith("/manifests/app1/reinstall"));
+            targets.add(body(request));
+        }
+        Assertions.assertEquals(50, targets.size());
+        Assertions.assertTrue(targets.stream().anyMatch(body -> body.contains("\"target_uid\":\"stack7\"")
+                && body.contains("\"target_type\":\"stack\"")));
+    }
+
+    @Test
+    void testAbortsAfterFailingCanary() {
+        StubTransport transport = new StubTransport(request -> StubTransport.json(request, 500, "{}"));
+        RolloutReport report = app(transport).rollout().installations(installations(100)).build().run();
+        Assertions.assertEquals(RolloutReport.Status.ABORTED, report.getStatus());
+        Assertions.assertEquals(1, report.getWaves().size());
+        Assertions.assertEquals(99, report.getNotAttempted());
+        Assertions.assertEquals(1, transport.requests().size());
+    }
+
+    @Test
+    void testGateResumesPausedRollout() {
+        StubTransport transport = new StubTransport(request ->
+                StubTransport.json(request, body(request).contains("stack3\"") ? 500 : 200, "{}"));
+        List<RolloutWave> paused = new ArrayList<>();
+        RolloutReport report = app(transport).rollout().installations(installations(100))
+                .canarySize(5).abortErrorRate(0.5)
+                .gate(wave -> paused.add(wave))
+                .build().run();
+        Assertions.assertEquals(RolloutReport.Status.COMPLETED, report.getStatus());
+        Assertions.assertEquals(1, paused.size());
+        Assertions.assertEquals(0.2, paused.get(0).getErrorRate(), 1e-9);
+        Assertions.assertEquals("stack3", paused.get(0).getReport().getFailed().get(0).getKey());
+        Assertions.assertEquals(100, transport.requests().size());
+    }
+
+    @Test
+    void testFailsWhenOnlyTheLastWaveFails() {
+        StubTransport transport = new StubTransport(request ->
+                StubTransport.json(request, body(request).contains("stack99\"") ? 500 : 200, "{}"));
+        List<RolloutWave> paused = new ArrayList<>();
+        RolloutReport report = app(transport).rollout().installations(installations(100))
+                .gate(wave -> paused.add(wave))
+                .build().run();
+        Assertions.assertEquals(RolloutReport.Status.FAILED, report.getStatus());
+        Assertions.assertEquals(3, report.getWaves().size());
+        Assertions.assertTrue(paused.isEmpty());
+        Assertions.assertEquals(0, report.getNotAttempted());
+
+        RolloutReport single = app(new StubTransport(request -> StubTransport.json(request, 500, "{}")))
+                .rollout().installations(installations(1)).build().run();
+        Assertions.assertEquals(RolloutReport.Status.FAILED, single.getStatus());
+        Assertions.assertEquals(1, single.getWaves().size());
+    }
+
+    @Test
+    void testInstallationsOfReadsEveryPage() throws IOException {
+        StubTransport transport = new StubTransport(request -> {
+            int skip = Integer.parseInt(request.url().queryParameter("skip"));
+            int limit = Integer.parseInt(request.url().queryParameter("limit"));
+            StringBuilder data = new StringBuilder();
+            for (int i = skip; i < Math.min(skip + limit, 250); i++) {
+                data.append(data.length() == 0 ? "" : ",");
+                data.append("{\"uid\":\"install").append(i).append("\"}");
+            }
+            return StubTransport.json(request, 200, "{\"data\":[" + data + "]}");
+        });
+        List<JSONObject> installations = Rollout.installationsOf(app(transport).streamInstallations());
+        Assertions.assertEquals(250, installations.size());
+        Assertions.assertEquals("install249", installations.get(249).get("uid"));
+        Assertions.assertEquals(3, transport.requests().size());
+        Assertions.assertTrue(transport.requests().get(0).url().encodedPath().endsWith("/manifests/app1/installations"));
+    }
+
+    @Test
+    void testInvalidThresholds() {
+        Rollout.Builder builder = app(new StubTransport(request -> StubTransport.json(request, 200, "{}"))).rollout();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.waves(0.5, 0.1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.canarySize(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.parallelism(0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> builder.pauseErrorRate(0.5).abortErrorRate(0.1).build());
+    }
+
+    private static App app(StubTransport transport) {
+        return new App(transport.retrofit(), null, "org", "app1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<JSONObject> installations(int count) {
+        List<JSONObject> installations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            JSONObject target = new JSONObject();
+            target.put("type", "stack");
+            target.put("uid", "stack" + i);
+            JSONObject installation = new JSONObject();
+            installation.put("uid", "stack" + i);
+            installation.put("target", target);
+            installations.add(installation);
+        }
+        return installations;
+    }
+
+    private static String body(Request request) throws IOException {
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return buffer.readUtf8();
+    }
+}
@@ -0,0 +1,102 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+class BandwidthTest {
+
+    private static final long RATE = 1_000_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSourceIsHeldToLimit() throws IOException {
+        byte[] bytes = HostingTransferTest.bytes(300_000);
+        long start = System.nanoTime();
+        try (BufferedSource source = Okio.buffer(Bandwidth.source(new Buffer().write(bytes),
+                Bandwidth.bytesPerSecond(RATE)))) {
+            Assertions.assertArrayEquals(bytes, source.readByteArray());
+        }
+        assertTookAtLeast(start, 250);
+    }
+
+    @Test
+    void testLowestOfGlobalAndPerTransferLimitApplies() throws IOException {
+        Bandwidth global = Bandwidth.bytesPerSecond(4 * RATE);
+        long start = System.nanoTime();
+        try (BufferedSink sink = Okio.buffer(Bandwidth.sink(Okio.blackhole(), global,
+                Bandwidth.bytesPerSecond(RATE / 2)))) {
+            sink.write(HostingTransferTest.bytes(150_000));
+        }
+        assertTookAtLeast(start, 250);
+    }
+
+    @Test
+    void testConcurrentTransfersShareEvenly() throws Exception {
+        Bandwidth shared = Bandwidth.bytesPerSecond(RATE);
+        long start = System.nanoTime();
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> write(shared, 300_000, start));
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> write(shared, 300_000, start));
+        long firstMillis = first.get(10, TimeUnit.SECONDS);
+        long secondMillis = second.get(10, TimeUnit.SECONDS);
+        // together they move 600 KB at 1 MB/s; a fair split finishes both near the end, not one at the half
+        Assertions.assertTrue(Math.min(firstMillis, secondMillis) >= 450, firstMillis + " / " + secondMillis);
+        Assertions.assertTrue(Math.abs(firstMillis - secondMillis) < 150, firstMillis + " / " + secondMillis);
+    }
+
+    @Test
+    void testHostingThrottlesUploadsAndDownloads() throws IOException {
+        byte[] bundle = HostingTransferTest.bytes(300_000);
+        Path file = Files.write(dir.resolve("bundle.zip"), bundle);
+        try (LocalHostingServer server = new LocalHostingServer()) {
+            Hosting hosting = new Hosting(server.retrofit(), "org", "app1").bandwidth(Bandwidth.bytesPerSecond(RATE));
+            long start = System.nanoTime();
+            HostingTransferTest.execute(hosting.uploadFile(server.url("/upload/throttled"), file, null)).close();
+            assertTookAtLeast(start, 250);
+            Assertions.assertArrayEquals(bundle, server.uploads.get("/upload/throttled"));
+
+            // the bucket saves up to a tenth of a second while idle, so the download is larger than the upload
+            byte[] artifact = HostingTransferTest.bytes(450_000);
+            server.downloads.put("/download/throttled", artifact);
+            Path target = dir.resolve("downloaded.zip");
+            start = System.nanoTime();
+            hosting.download(server.url("/download/throttled"), target).execute();
+            assertTookAtLeast(start, 250);
+            Assertions.assertArrayEquals(artifact, Files.readAllBytes(target));
+        }
+    }
+
+    @Test
+    void testRejectsInvalidLimit() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Bandwidth.bytesPerSecond(0));
+        Assertions.assertEquals(StreamingBody.BUFFER_SIZE, Bandwidth.bytesPerSecond(100_000_000).getSliceSize());
+    }
+
+    private static long write(Bandwidth shared, int size, long start) {
+        try (BufferedSink sink = Okio.buffer(Bandwidth.sink(Okio.blackhole(), shared))) {
+            sink.write(HostingTransferTest.bytes(size));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static void assertTookAtLeast(long start, long millis) {
+        long took = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assertions.assertTrue(took >= millis, "took " + took + " ms");
+    }
+}
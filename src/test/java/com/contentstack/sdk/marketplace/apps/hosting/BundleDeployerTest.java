@@ -0,0 +1,145 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.Client;
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okio.Buffer;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class BundleDeployerTest {
+
+    @TempDir
+    Path dir;
+
+    private LocalHostingServer server;
+    private final List<String> apiCalls = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger uploads = new AtomicInteger();
+    private volatile int rejectedUploadCode;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new LocalHostingServer();
+    }
+
+    @AfterEach
+    void stop() {
+        server.close();
+    }
+
+    @Test
+    void testUnchangedBundleIsDeployedWithoutUpload() throws IOException {
+        Path bundle = Files.write(dir.resolve("build.zip"), HostingTransferTest.bytes(50_000));
+        UploadManifest manifest = new UploadManifest(dir.resolve("uploads.properties"));
+
+        BundleDeployment first = hosting("app1").deployer(manifest).deploy(bundle, body());
+        Assertions.assertTrue(first.isUploaded());
+        Assertions.assertEquals("upload1", first.getUploadUid());
+
+        // a fresh manifest instance reads what the first deploy recorded
+        BundleDeployment second = hosting("app1").deployer(new UploadManifest(dir.resolve("uploads.properties")))
+                .deploy(bundle, body());
+        Assertions.assertFalse(second.isUploaded());
+        Assertions.assertEquals("upload1", second.getUploadUid());
+        Assertions.assertEquals(first.getChecksum(), second.getChecksum());
+        Assertions.assertEquals(1, uploads.get());
+        Assertions.assertEquals(3, apiCalls.size());
+        Assertions.assertEquals("deploy:{\"file_type\":\"zip\",\"upload_uid\":\"upload1\"}", apiCalls.get(2));
+    }
+
+    @Test
+    void testChangedBundleOrOtherAppIsUploaded() throws IOException {
+        UploadManifest manifest = new UploadManifest(dir.resolve("uploads.properties"));
+        Path bundle = Files.write(dir.resolve("build.zip"), HostingTransferTest.bytes(1000));
+        hosting("app1").deployer(manifest).deploy(bundle, body());
+        Assertions.assertTrue(hosting("app2").deployer(manifest).deploy(bundle, body()).isUploaded());
+        Files.write(bundle, HostingTransferTest.bytes(1001));
+        Assertions.assertTrue(hosting("app1").deployer(manifest).deploy(bundle, body()).isUploaded());
+        Assertions.assertEquals(3, uploads.get());
+        Assertions.assertEquals(3, manifest.size());
+    }
+
+    @Test
+    void testExpiredUploadIsUploadedAgain() throws IOException {
+        UploadManifest manifest = new UploadManifest(dir.resolve("uploads.properties"));
+        Path bundle = Files.write(dir.resolve("build.zip"), HostingTransferTest.bytes(1000));
+        hosting("app1").deployer(manifest).deploy(bundle, body());
+        rejectedUploadCode = 404;
+        BundleDeployment deployment = hosting("app1").deployer(manifest).deploy(bundle, body());
+        Assertions.assertTrue(deployment.isUploaded());
+        Assertions.assertEquals("upload2", deployment.getUploadUid());
+        Assertions.assertEquals("upload2", manifest.get("app1", deployment.getChecksum()));
+        rejectedUploadCode = 410;
+        manifest.put("app1", deployment.getChecksum(), "upload1");
+        deployment = hosting("app1").deployer(manifest).deploy(bundle, body());
+        Assertions.assertTrue(deployment.isUploaded());
+        Assertions.assertEquals("upload3", manifest.get("app1", deployment.getChecksum()));
+    }
+
+    @Test
+    void testOtherDeploymentErrorsKeepTheUpload() throws IOException {
+        UploadManifest manifest = new UploadManifest(dir.resolve("uploads.properties"));
+        Path bundle = Files.write(dir.resolve("build.zip"), HostingTransferTest.bytes(1000));
+        BundleDeployment first = hosting("app1").deployer(manifest).deploy(bundle, body());
+        for (int code : new int[]{400, 403, 422}) {
+            rejectedUploadCode = code;
+            HttpStatusException e = Assertions.assertThrows(HttpStatusException.class,
+                    () -> hosting("app1").deployer(manifest).deploy(bundle, body()));
+            Assertions.assertEquals(code, e.getCode());
+            Assertions.assertEquals("upload1", manifest.get("app1", first.getChecksum()));
+        }
+        Assertions.assertEquals(1, uploads.get());
+    }
+
+    private Hosting hosting(String appUid) {
+        // calls to the API are answered here, calls to the signed urls go to the local server
+        OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            if (!"api.contentstack.io".equals(request.url().host())) {
+                if ("PUT".equals(request.method())) {
+                    uploads.incrementAndGet();
+                }
+                return chain.proceed(request);
+            }
+            String path = request.url().encodedPath();
+            if (path.endsWith("/signedUploadUrl")) {
+                apiCalls.add("sign");
+                int n = uploads.get() + 1;
+                return StubTransport.json(request, 200, "{\"data\":{\"upload_uid\":\"upload" + n
+                        + "\",\"upload_url\":\"" + server.url("/bundles/" + n) + "\"}}");
+            }
+            Buffer body = new Buffer();
+            request.body().writeTo(body);
+            String deployment = body.readUtf8();
+            apiCalls.add("deploy:" + deployment);
+            if (rejectedUploadCode != 0 && deployment.contains("upload1")) {
+                return StubTransport.json(request, rejectedUploadCode, "{\"error_message\":\"upload not found\"}");
+            }
+            return StubTransport.json(request, 201, "{\"data\":{\"uid\":\"deployment\"}}");
+        }).build();
+        return new Hosting(Client.newInstance("api.contentstack.io", httpClient), "org", appUid);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject body() {
+        JSONObject body = new JSONObject();
+        body.put("file_type", "zip");
+        return body;
+    }
+}
@@ -0,0 +1,52 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uploads the same bundle as a single stream and as parallel chunks to the local stand-in server, which
+ * caps the throughput of each connection as a remote store would. The timings are published to the test
+ * report. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ChunkedUploadBenchmarkTest {
+
+    private static final int BUNDLE_SIZE = 8 * 1024 * 1024;
+    private static final long BYTES_PER_SECOND = 16L * 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void benchmarkChunkedAgainstSingleStream(TestReporter reporter) throws Exception {
+        byte[] bundle = HostingTransferTest.bytes(BUNDLE_SIZE);
+        Path file = Files.write(dir.resolve("bundle.zip"), bundle);
+        try (LocalHostingServer server = new LocalHostingServer()) {
+            server.bytesPerSecond = BYTES_PER_SECOND;
+            Hosting hosting = new Hosting(server.retrofit(), "org", "app1");
+
+            long start = System.nanoTime();
+            HostingTransferTest.execute(hosting.uploadFile(server.url("/single"), file, null)).close();
+            long singleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            start = System.nanoTime();
+            hosting.chunkedUpload(server.url("/chunked"), file)
+                    .chunkSize(BUNDLE_SIZE / 8).parallelism(8)
+                    .commit(server.url("/chunked/commit"))
+                    .execute();
+            long chunkedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            Assertions.assertArrayEquals(bundle, server.uploads.get("/single"));
+            Assertions.assertArrayEquals(bundle, server.assembled("/chunked"));
+            reporter.publishEntry("singleStreamMillis", String.valueOf(singleMillis));
+            reporter.publishEntry("chunkedMillis", String.valueOf(chunkedMillis));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.Client;
+import com.contentstack.sdk.StubTransport;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import retrofit2.Retrofit;
+
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class DeploymentPipelineTest {
+
+    private static final int APPS = 8;
+    private static final int BUNDLE_SIZE = 200_000;
+    private static final long BYTES_PER_SECOND = 2_000_000;
+    private static final int POLLS_UNTIL_LIVE = 3;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testOverlapsUploadsAndWaitsWithinLimits() throws Exception {
+        Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (LocalHostingServer server = new LocalHostingServer()) {
+            server.bytesPerSecond = BYTES_PER_SECOND;
+            Retrofit retrofit = retrofit(server, polls);
+            PollingPolicy policy = new PollingPolicy.Builder().phaseDelay("building", 50).multiplier(1)
+                    .jitter(false).build();
+            long start = System.nanoTime();
+            List<CompletableFuture<AppDeployment>> deployments = new ArrayList<>();
+            try (DeploymentPipeline pipeline = new DeploymentPipeline.Builder()
+                    .maxConcurrentUploads(2).maxInFlightRequests(4)
+                    .pollingPolicy(policy).poller(new DeploymentPoller(scheduler)).build()) {
+                for (int i = 0; i < APPS; i++) {
+                    Path bundle = Files.write(dir.resolve("app" + i + ".zip"), HostingTransferTest.bytes(BUNDLE_SIZE + i));
+                    deployments.add(pipeline.submit(new Hosting(retrofit, "org", "app" + i), bundle, new JSONObject()));
+                }
+                for (int i = 0; i < APPS; i++) {
+                    AppDeployment deployment = deployments.get(i).get(10, TimeUnit.SECONDS);
+                    Assertions.assertEquals("app" + i, deployment.getAppUid());
+                    Assertions.assertEquals("deployment-app" + i, deployment.getDeploymentUid());
+                    Assertions.assertEquals("live", deployment.getStatus());
+                    Assertions.assertTrue(deployment.getBundle().isUploaded());
+                    Assertions.assertArrayEquals(HostingTransferTest.bytes(BUNDLE_SIZE + i),
+                            server.uploads.get("/bundles/app" + i));
+                }
+                Assertions.assertEquals(2, pipeline.availableUploads());
+            }
+            long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long uploadMillis = BUNDLE_SIZE * 1000L / BYTES_PER_SECOND;
+            long sequentialMillis = APPS * (uploadMillis + POLLS_UNTIL_LIVE * 50L);
+            Assertions.assertTrue(server.maxActiveUploads.get() <= 2);
+            Assertions.assertTrue(wallMillis < sequentialMillis, wallMillis + " ms, sequential " + sequentialMillis);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPollsTakeTheRequestSlotsOfThePipeline() throws Exception {
+        Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (LocalHostingServer server = new LocalHostingServer()) {
+            Retrofit retrofit = retrofit(server, polls, active, peak);
+            PollingPolicy policy = new PollingPolicy.Builder().phaseDelay("building", 1).multiplier(1)
+                    .jitter(false).build();
+            List<CompletableFuture<AppDeployment>> deployments = new ArrayList<>();
+            try (DeploymentPipeline pipeline = new DeploymentPipeline.Builder().maxInFlightRequests(1)
+                    .pollingPolicy(policy).poller(new DeploymentPoller(scheduler)).build()) {
+                for (int i = 0; i < 4; i++) {
+                    Path bundle = Files.write(dir.resolve("limited" + i + ".zip"), HostingTransferTest.bytes(1000 + i));
+                    deployments.add(pipeline.submit(new Hosting(retrofit, "org", "limited" + i), bundle,
+                            new JSONObject()));
+                }
+                for (CompletableFuture<AppDeployment> deployment : deployments) {
+                    Assertions.assertEquals("live", deployment.get(10, TimeUnit.SECONDS).getStatus());
+                }
+                Assertions.assertEquals(1, pipeline.availableRequests());
+            }
+            Assertions.assertEquals(1, peak.get());
+            Assertions.assertEquals(4 * POLLS_UNTIL_LIVE, polls.values().stream().mapToInt(AtomicInteger::get).sum());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static Retrofit retrofit(LocalHostingServer server, Map<String, AtomicInteger> polls) {
+        return retrofit(server, polls, new AtomicInteger(), new AtomicInteger());
+    }
+
+    private static Retrofit retrofit(LocalHostingServer server, Map<String, AtomicInteger> polls,
+                                     AtomicInteger active, AtomicInteger peak) {
+        OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            if (!"api.contentstack.io".equals(request.url().host())) {
+                return chain.proceed(request);
+            }
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+                return answer(request, server, polls);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            } finally {
+                active.decrementAndGet();
+            }
+        }).build();
+        return Client.newInstance("api.contentstack.io", httpClient);
+    }
+
+    private static Response answer(Request request, LocalHostingServer server,
+                                   Map<String, AtomicInteger> polls) {
+        List<String> segments = request.url().pathSegments();
+        String app = segments.get(1);
+        if (segments.get(segments.size() - 1).equals("signedUploadUrl")) {
+            return StubTransport.json(request, 200, "{\"data\":{\"upload_uid\":\"upload-" + app
+                    + "\",\"upload_url\":\"" + server.url("/bundles/" + app) + "\"}}");
+        }
+        if ("POST".equals(request.method())) {
+            return StubTransport.json(request, 201, "{\"data\":{\"uid\":\"deployment-" + app + "\"}}");
+        }
+        int poll = polls.computeIfAbsent(app, key -> new AtomicInteger()).incrementAndGet();
+        String status = poll < POLLS_UNTIL_LIVE ? "building" : "live";
+        return StubTransport.json(request, 200, "{\"data\":{\"uid\":\"deployment-" + app
+                + "\",\"status\":\"" + status + "\"}}");
+    }
+}
@@ -0,0 +1,105 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.scheduler.TimerWheel;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+@Tag("unit")
+class DeploymentPollerTest {
+
+    private static final PollingPolicy FAST = new PollingPolicy.Builder()
+            .phaseDelay("queued", 1).phaseDelay("building", 5).defaultDelay(1)
+            .jitter(false).build();
+
+    @Test
+    void testDelayGrowsWithinPhaseAndResetsOnPhaseChange() {
+        PollingPolicy policy = new PollingPolicy.Builder().multiplier(2).maxDelay(15_000).jitter(false).build();
+        Assertions.assertEquals(5000, policy.nextDelay("building", 1));
+        Assertions.assertEquals(10_000, policy.nextDelay("BUILDING", 2));
+        Assertions.assertEquals(15_000, policy.nextDelay("building", 3));
+        Assertions.assertEquals(2000, policy.nextDelay("deploying", 1));
+        Assertions.assertEquals(3000, policy.nextDelay("unknown", 1));
+        Assertions.assertTrue(policy.isTerminal("Live"));
+        Assertions.assertFalse(policy.isTerminal("building"));
+        long jittered = PollingPolicy.DEFAULT.nextDelay("building", 1);
+        Assertions.assertTrue(jittered >= 4500 && jittered <= 5500, String.valueOf(jittered));
+    }
+
+    @Test
+    void testCompletesManyDeploymentsOnOneSchedulerThread() throws Exception {
+        Map<String, Iterator<String>> statuses = new ConcurrentHashMap<>();
+        StubTransport transport = new StubTransport(request -> {
+            String id = request.url().pathSegments().get(4);
+            String status = statuses.get(id).next();
+            if ("flaky".equals(status)) {
+                return StubTransport.json(request, 503, "{}");
+            }
+            return StubTransport.json(request, 200, "{\"data\":{\"uid\":\"" + id + "\",\"status\":\"" + status + "\"}}");
+        });
+        Hosting hosting = new Hosting(transport.retrofit(), "org", "app1");
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            DeploymentPoller poller = new DeploymentPoller(scheduler);
+            List<CompletableFuture<JSONObject>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                statuses.put("d" + i, Arrays.asList("queued", "flaky", "building", "building",
+                        i % 10 == 0 ? "failed" : "live").iterator());
+                futures.add(poller.await(hosting, "d" + i, FAST));
+            }
+            for (int i = 0; i < 50; i++) {
+                JSONObject deployment = futures.get(i).get(5, TimeUnit.SECONDS);
+                Assertions.assertEquals(i % 10 == 0 ? "failed" : "live", deployment.get("status"));
+            }
+            Assertions.assertEquals(250, transport.requests().size());
+            Assertions.assertEquals(0, poller.pendingCount());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSharedPollerHoldsTheWheelWhileWaiting() throws Exception {
+        Iterator<String> statuses = Arrays.asList("queued", "building", "live").iterator();
+        StubTransport transport = new StubTransport(request -> StubTransport.json(request, 200,
+                "{\"data\":{\"status\":\"" + statuses.next() + "\"}}"));
+        Hosting hosting = new Hosting(transport.retrofit(), "org", "app1");
+        TimerWheel timers = TimerWheel.acquireShared();
+        CompletableFuture<JSONObject> live = DeploymentPoller.shared().await(hosting, "d1", FAST);
+        TimerWheel.releaseShared(timers);
+        Assertions.assertEquals("live", live.get(5, TimeUnit.SECONDS).get("status"));
+        Assertions.assertEquals(3, transport.requests().size());
+    }
+
+    @Test
+    void testClientErrorAndTimeoutCompleteExceptionally() throws Exception {
+        StubTransport transport = new StubTransport(request -> request.url().encodedPath().endsWith("/missing")
+                ? StubTransport.json(request, 404, "{}")
+                : StubTransport.json(request, 200, "{\"data\":{\"status\":\"building\"}}"));
+        Hosting hosting = new Hosting(transport.retrofit(), "org", "app1");
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            DeploymentPoller poller = new DeploymentPoller(scheduler);
+            ExecutionException missing = Assertions.assertThrows(ExecutionException.class,
+                    () -> poller.await(hosting, "missing", FAST).get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(404, ((HttpStatusException) missing.getCause()).getCode());
+            PollingPolicy shortTimeout = new PollingPolicy.Builder().defaultDelay(1).phaseDelay("building", 5)
+                    .timeout(50).jitter(false).build();
+            ExecutionException timeout = Assertions.assertThrows(ExecutionException.class,
+                    () -> poller.await(hosting, "slow", shortTimeout).get(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(timeout.getCause() instanceof TimeoutException);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
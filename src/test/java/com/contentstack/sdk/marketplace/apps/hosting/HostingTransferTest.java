@@ -0,0 +1,267 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import okhttp3.MultipartBody;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import retrofit2.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+@Tag("unit")
+class HostingTransferTest {
+
+    private static LocalHostingServer server;
+    private static Hosting hosting;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void start() throws IOException {
+        server = new LocalHostingServer();
+        hosting = new Hosting(server.retrofit(), "org", "app1").addHeader("authtoken", "secret");
+    }
+
+    @AfterAll
+    static void stop() {
+        server.close();
+    }
+
+    @Test
+    void testUploadFileStreamsPathWithProgress() throws IOException {
+        byte[] bundle = bytes(3 * StreamingBody.BUFFER_SIZE + 123);
+        Path file = Files.write(dir.resolve("bundle.zip"), bundle);
+        List<Long> progress = new ArrayList<>();
+        execute(hosting.uploadFile(server.url("/upload/path"), file, (sent, total) -> {
+            Assertions.assertEquals(bundle.length, total);
+            progress.add(sent);
+        })).close();
+        Assertions.assertArrayEquals(bundle, server.uploads.get("/upload/path"));
+        Assertions.assertEquals(4, progress.size());
+        Assertions.assertEquals(bundle.length, progress.get(3).longValue());
+        Assertions.assertNull(server.uploadHeaders.get("/upload/path").get("authtoken"));
+        Assertions.assertEquals(String.valueOf(bundle.length),
+                server.uploadHeaders.get("/upload/path").get("content-length"));
+    }
+
+    @Test
+    void testUploadFileStreamsChannelFromPositionWithoutMovingIt() throws IOException {
+        byte[] bundle = bytes(100_000);
+        Path file = Files.write(dir.resolve("channel.zip"), bundle);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(1000);
+            execute(hosting.uploadFile(server.url("/upload/channel"), channel, null)).close();
+            Assertions.assertEquals(1000, channel.position());
+        }
+        byte[] expected = new byte[bundle.length - 1000];
+        System.arraycopy(bundle, 1000, expected, 0, expected.length);
+        Assertions.assertArrayEquals(expected, server.uploads.get("/upload/channel"));
+    }
+
+    @Test
+    void testUploadFileStreamsInputStream() throws IOException {
+        byte[] bundle = bytes(200_000);
+        long[] last = new long[1];
+        execute(hosting.uploadFile(server.url("/upload/stream"), new ByteArrayInputStream(bundle), -1,
+                (sent, total) -> last[0] = sent)).close();
+        Assertions.assertArrayEquals(bundle, server.uploads.get("/upload/stream"));
+        Assertions.assertEquals(bundle.length, last[0]);
+        Assertions.assertEquals("chunked", server.uploadHeaders.get("/upload/stream").get("transfer-encoding"));
+    }
+
+    @Test
+    void testInputStreamBodyIsSentOnce() throws IOException {
+        StreamingBody body = StreamingBody.of(new ByteArrayInputStream(bytes(1000)), 1000, null);
+        Assertions.assertTrue(body.isOneShot());
+        Buffer first = new Buffer();
+        body.writeTo(first);
+        Assertions.assertEquals(1000, first.size());
+        Assertions.assertThrows(IOException.class, () -> body.writeTo(new Buffer()));
+    }
+
+    @Test
+    void testSignedUploadSendsItsMethodHeadersAndFields() throws Exception {
+        byte[] bundle = bytes(50_000);
+        Path file = Files.write(dir.resolve("signed.zip"), bundle);
+        SignedUpload put = SignedUpload.of((JSONObject) new JSONParser().parse("{\"data\":{\"upload_url\":\""
+                + server.url("/upload/signed") + "\",\"upload_uid\":\"u1\",\"method\":\"put\","
+                + "\"headers\":[{\"key\":\"x-upload-token\",\"value\":\"t1\"}]}}"));
+        Assertions.assertEquals("u1", put.getUploadUid());
+        execute(hosting.uploadFile(put, file, null)).close();
+        Assertions.assertArrayEquals(bundle, server.uploads.get("/upload/signed"));
+        Assertions.assertEquals("t1", server.uploadHeaders.get("/upload/signed").get("x-upload-token"));
+        Assertions.assertNull(server.uploadHeaders.get("/upload/signed").get("authtoken"));
+
+        SignedUpload post = SignedUpload.of((JSONObject) new JSONParser().parse("{\"upload_url\":\"https://bucket."
+                + "example.com/\",\"fields\":[{\"key\":\"key\",\"value\":\"bundles/u2\"},"
+                + "{\"key\":\"policy\",\"value\":\"p\"}]}"));
+        Assertions.assertEquals("POST", post.getMethod());
+        Request request = hosting.uploadFile(post, file, null).request();
+        Assertions.assertEquals("POST", request.method());
+        MultipartBody form = (MultipartBody) request.body();
+        Assertions.assertNotNull(form);
+        Assertions.assertEquals(3, form.size());
+        Assertions.assertEquals(bundle.length, form.part(2).body().contentLength());
+        JSONObject get = (JSONObject) new JSONParser().parse("{\"upload_url\":\"u\",\"method\":\"GET\"}");
+        Assertions.assertThrows(IOException.class, () -> SignedUpload.of(get));
+    }
+
+    @Test
+    void testDownloadResumesAfterDroppedConnectionAndVerifiesChecksum() throws Exception {
+        byte[] artifact = bytes(5 * StreamingBody.BUFFER_SIZE + 17);
+        server.downloads.put("/download/resume", artifact);
+        server.cutAfter.put("/download/resume", 2 * StreamingBody.BUFFER_SIZE);
+        server.ranges.clear();
+        Path target = dir.resolve("artifact.zip");
+        String sha256 = hosting.download(server.url("/download/resume"), target)
+                .checksum("SHA-256", sha256(artifact))
+                .retry(new RetryPolicy(3, 1, 1))
+                .execute();
+        Assertions.assertEquals(sha256(artifact), sha256);
+        Assertions.assertArrayEquals(artifact, Files.readAllBytes(target));
+        Assertions.assertFalse(Files.exists(dir.resolve("artifact.zip.part")));
+        Assertions.assertEquals(2, server.ranges.size());
+        Assertions.assertEquals("null", server.ranges.get(0));
+        Assertions.assertTrue(server.ranges.get(1).startsWith("bytes="));
+    }
+
+    @Test
+    void testDownloadContinuesPartFileOfPreviousRun() throws Exception {
+        byte[] artifact = bytes(300_000);
+        server.downloads.put("/download/part", artifact);
+        server.ranges.clear();
+        Path target = dir.resolve("previous.zip");
+        Files.write(dir.resolve("previous.zip.part"), Arrays.copyOf(artifact, 120_000));
+        Files.write(dir.resolve("previous.zip.part.validator"), "\"v1\"".getBytes(StandardCharsets.UTF_8));
+        FileDownload download = hosting.download(server.url("/download/part"), target);
+        String sha256 = download.execute();
+        Assertions.assertEquals(sha256(artifact), sha256);
+        Assertions.assertArrayEquals(artifact, Files.readAllBytes(target));
+        Assertions.assertEquals(Collections.singletonList("bytes=120000-"), server.ranges);
+        Assertions.assertFalse(Files.exists(download.getValidatorFile()));
+    }
+
+    @Test
+    void testDownloadRestartsPartFileWithoutValidator() throws Exception {
+        byte[] artifact = bytes(200_000);
+        server.downloads.put("/download/unvalidated", artifact);
+        server.ranges.clear();
+        Path target = dir.resolve("unvalidated.zip");
+        // bytes of another version, which the server cannot be asked about without a validator
+        Files.write(dir.resolve("unvalidated.zip.part"), bytes(80_000));
+        String sha256 = hosting.download(server.url("/download/unvalidated"), target).execute();
+        Assertions.assertEquals(sha256(artifact), sha256);
+        Assertions.assertArrayEquals(artifact, Files.readAllBytes(target));
+        Assertions.assertEquals(Collections.singletonList("null"), server.ranges);
+    }
+
+    @Test
+    void testDownloadKeepsValidatorOfInterruptedRun() throws Exception {
+        byte[] artifact = bytes(4 * StreamingBody.BUFFER_SIZE);
+        server.downloads.put("/download/interrupted", artifact);
+        server.cutAfter.put("/download/interrupted", StreamingBody.BUFFER_SIZE);
+        FileDownload download = hosting.download(server.url("/download/interrupted"), dir.resolve("interrupted.zip"))
+                .retry(RetryPolicy.NONE);
+        Assertions.assertThrows(IOException.class, download::execute);
+        Assertions.assertEquals("\"v1\"",
+                new String(Files.readAllBytes(download.getValidatorFile()), StandardCharsets.UTF_8));
+        Assertions.assertEquals(sha256(artifact), download.execute());
+    }
+
+    @Test
+    void testDownloadRejectsChecksumMismatch() throws Exception {
+        server.downloads.put("/download/corrupt", bytes(1000));
+        Path target = dir.resolve("corrupt.zip");
+        FileDownload download = hosting.download(server.url("/download/corrupt"), target).checksum("SHA-256", "00");
+        Assertions.assertThrows(IOException.class, download::execute);
+        Assertions.assertFalse(Files.exists(target));
+        Assertions.assertFalse(Files.exists(download.getPartFile()));
+    }
+
+    @Test
+    void testChunkedUploadRetriesFailedPartAndCommits() throws IOException {
+        byte[] bundle = bytes(1_000_000);
+        Path file = Files.write(dir.resolve("chunked.zip"), bundle);
+        server.failOnce.add("/upload/chunked@300000");
+        long[] last = new long[1];
+        String committed = hosting.chunkedUpload(server.url("/upload/chunked"), file)
+                .chunkSize(300_000).parallelism(3)
+                .retry(new RetryPolicy(2, 1, 1))
+                .listener((sent, total) -> {
+                    synchronized (last) {
+                        last[0] = sent;
+                    }
+                })
+                .commit(server.url("/upload/chunked/commit"))
+                .execute();
+        Assertions.assertEquals("{\"committed\":true}", committed);
+        Assertions.assertArrayEquals(bundle, server.assembled("/upload/chunked"));
+        Assertions.assertEquals(bundle.length, last[0]);
+        String commit = server.commits.get("/upload/chunked/commit");
+        Assertions.assertTrue(commit.contains("\"size\":1000000"));
+        Assertions.assertTrue(commit.contains("\"etag\":\"\\\"part-900000\\\"\""), commit);
+        Assertions.assertTrue(commit.contains("\"part_number\":4"));
+    }
+
+    @Test
+    void testChunkedAndSingleStreamUploadsSendTheSameBytes() throws IOException {
+        byte[] bundle = bytes(800_000);
+        Path file = Files.write(dir.resolve("same.zip"), bundle);
+        execute(hosting.uploadFile(server.url("/upload/single"), file, null)).close();
+        hosting.chunkedUpload(server.url("/upload/parts"), file)
+                .chunkSize(bundle.length / 8).parallelism(8)
+                .commit(server.url("/upload/parts/commit"))
+                .execute();
+        Assertions.assertArrayEquals(bundle, server.uploads.get("/upload/single"));
+        Assertions.assertArrayEquals(bundle, server.assembled("/upload/parts"));
+    }
+
+    @Test
+    void testChunkedUploadFailsWithoutCommitWhenPartKeepsFailing() throws IOException {
+        Path file = Files.write(dir.resolve("failing.zip"), bytes(10_000));
+        server.failOnce.add("/upload/failing@5000");
+        ChunkedUpload upload = hosting.chunkedUpload(server.url("/upload/failing"), file)
+                .chunkSize(5000).retry(RetryPolicy.NONE).commit(server.url("/upload/failing/commit"));
+        IOException error = Assertions.assertThrows(IOException.class, upload::execute);
+        Assertions.assertTrue(error.getMessage().startsWith("1 of 2 parts"));
+        Assertions.assertFalse(server.commits.containsKey("/upload/failing/commit"));
+    }
+
+    static String sha256(byte[] bytes) throws Exception {
+        return FileDownload.hex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    static ResponseBody execute(retrofit2.Call<ResponseBody> call) throws IOException {
+        Response<ResponseBody> response = call.execute();
+        Assertions.assertTrue(response.isSuccessful(), "status " + response.code());
+        return response.body();
+    }
+
+    static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
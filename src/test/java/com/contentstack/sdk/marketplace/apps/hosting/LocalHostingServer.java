@@ -0,0 +1,180 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.Client;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stand-in for the signed hosting urls: a local HTTP server that stores the bodies it receives by path.
+ */
+public class LocalHostingServer implements AutoCloseable {
+
+    private final HttpServer server;
+    /**
+     * The prefix of the names of the server threads.
+     */
+    public static final String THREAD_NAME = "local-hosting-server";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    final Map<String, byte[]> uploads = new ConcurrentHashMap<>();
+    final Map<String, Map<String, String>> uploadHeaders = new ConcurrentHashMap<>();
+    final Map<String, byte[]> downloads = new ConcurrentHashMap<>();
+    final Map<String, Integer> cutAfter = new ConcurrentHashMap<>();
+    final List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+    final Map<String, NavigableMap<Long, byte[]>> parts = new ConcurrentHashMap<>();
+    final Set<String> failOnce = ConcurrentHashMap.newKeySet();
+    final Map<String, String> commits = new ConcurrentHashMap<>();
+    /**
+     * The throughput of each connection in bytes per second, 0 for unlimited.
+     */
+    volatile long bytesPerSecond;
+    final AtomicInteger activeUploads = new AtomicInteger();
+    final AtomicInteger maxActiveUploads = new AtomicInteger();
+
+    public LocalHostingServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    Retrofit retrofit() {
+        return Client.newInstance("api.contentstack.io", new OkHttpClient.Builder().build());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if ("PUT".equals(exchange.getRequestMethod())) {
+                Map<String, String> headers = new ConcurrentHashMap<>();
+                exchange.getRequestHeaders().forEach((name, values) -> headers.put(name.toLowerCase(), values.get(0)));
+                uploadHeaders.put(path, headers);
+                maxActiveUploads.accumulateAndGet(activeUploads.incrementAndGet(), Math::max);
+                byte[] body;
+                try {
+                    body = readAll(exchange.getRequestBody());
+                } finally {
+                    activeUploads.decrementAndGet();
+                }
+                String contentRange = headers.get("content-range");
+                if (contentRange == null) {
+                    uploads.put(path, body);
+                    exchange.sendResponseHeaders(200, -1);
+                    return;
+                }
+                long start = Long.parseLong(contentRange.substring("bytes ".length(), contentRange.indexOf('-')));
+                if (failOnce.remove(path + "@" + start)) {
+                    exchange.sendResponseHeaders(503, -1);
+                    return;
+                }
+                parts.computeIfAbsent(path, key -> new ConcurrentSkipListMap<>()).put(start, body);
+                exchange.getResponseHeaders().set("ETag", "\"part-" + start + "\"");
+                exchange.sendResponseHeaders(200, -1);
+            } else if ("POST".equals(exchange.getRequestMethod())) {
+                commits.put(path, new String(readAll(exchange.getRequestBody()), StandardCharsets.UTF_8));
+                byte[] response = "{\"committed\":true}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, response.length);
+                exchange.getResponseBody().write(response);
+            } else if ("GET".equals(exchange.getRequestMethod()) && downloads.containsKey(path)) {
+                serve(exchange, downloads.get(path), cutAfter.remove(path));
+            } else {
+                exchange.sendResponseHeaders(405, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void serve(HttpExchange exchange, byte[] file, Integer cut) throws IOException {
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        ranges.add(String.valueOf(range));
+        int start = 0;
+        if (range != null) {
+            start = Integer.parseInt(range.substring("bytes=".length(), range.indexOf('-')));
+            if (start >= file.length) {
+                exchange.getResponseHeaders().set("Content-Range", "bytes */" + file.length);
+                exchange.sendResponseHeaders(416, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Range",
+                    "bytes " + start + "-" + (file.length - 1) + "/" + file.length);
+        }
+        exchange.getResponseHeaders().set("ETag", "\"v1\"");
+        exchange.sendResponseHeaders(range != null ? 206 : 200, file.length - start);
+        OutputStream out = exchange.getResponseBody();
+        // a cut download stops half way, as a dropped connection would
+        int end = cut != null ? start + cut : file.length;
+        out.write(file, start, end - start);
+        out.flush();
+    }
+
+    byte[] assembled(String path) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts.get(path).values()) {
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[16 * 1024];
+        long start = System.nanoTime();
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            long limit = bytesPerSecond;
+            if (limit > 0) {
+                long due = start + out.size() * 1_000_000_000L / limit;
+                sleepUntil(due);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void sleepUntil(long nanos) throws IOException {
+        long wait = nanos - System.nanoTime();
+        if (wait > 0) {
+            try {
+                Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
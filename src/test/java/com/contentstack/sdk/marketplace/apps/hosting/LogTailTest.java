@@ -0,0 +1,70 @@
+package com.contentstack.sdk.marketplace.apps.hosting;
+
+import com.contentstack.sdk.StubTransport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Tag("unit")
+class LogTailTest {
+
+    private final AtomicReference<String> log = new AtomicReference<>();
+    private final LogTail tail = new Hosting(new StubTransport(request -> StubTransport.json(request, 200, log.get()))
+            .retrofit(), "org", "app1").tailDeploymentLogs("deployment1");
+
+    @Test
+    void testEmitsOnlyNewEntriesAcrossPolls() throws IOException {
+        log.set("{\"data\":[" + entry("t1", "clone") + "," + entry("t2", "install") + "]}");
+        Assertions.assertEquals("[t1 clone, t2 install]", poll());
+        Assertions.assertEquals("[]", poll());
+
+        // two entries share the last timestamp seen, only the second one is new
+        log.set("{\"data\":[" + entry("t1", "clone") + "," + entry("t2", "install") + ","
+                + entry("t2", "build") + "," + entry("t3", "deploy") + "]}");
+        Assertions.assertEquals("[t2 build, t3 deploy]", poll());
+        Assertions.assertEquals("t3", tail.getLastTimestamp());
+        Assertions.assertEquals(4, tail.getOffset());
+    }
+
+    @Test
+    void testEntriesAtTheSameInstantWrittenDifferentlyAreNotRepeated() throws IOException {
+        String first = entry("2024-01-01T00:00:01Z", "clone") + "," + entry("2024-01-01T00:00:01.000Z", "install");
+        log.set("{\"data\":[" + first + "]}");
+        Assertions.assertEquals(2, poll().split(",").length);
+        log.set("{\"data\":[" + first + "," + entry("2024-01-01T00:00:01.000Z", "build") + "]}");
+        Assertions.assertEquals("[2024-01-01T00:00:01.000Z build]", poll());
+    }
+
+    @Test
+    void testConsumerStopsReadAndResumesLater() throws IOException {
+        log.set("{\"data\":{\"logs\":[" + entry("1700000000001", "a") + "," + entry("1700000000002", "b") + ","
+                + entry("1700000000003", "c") + "]},\"ignored\":[1,2]}");
+        List<String> taken = new ArrayList<>();
+        int accepted = tail.poll(line -> taken.size() < 2 && taken.add(line.getMessage()));
+        Assertions.assertEquals(2, accepted);
+        Assertions.assertEquals("[1700000000003 c]", poll());
+    }
+
+    @Test
+    void testEntriesWithoutTimestampUseOffset() throws IOException {
+        log.set("[\"one\",\"two\"]");
+        Assertions.assertEquals("[one, two]", poll());
+        log.set("[\"one\",\"two\",\"three\"]");
+        Assertions.assertEquals("[three]", poll());
+    }
+
+    private String poll() throws IOException {
+        List<String> lines = new ArrayList<>();
+        tail.poll(line -> lines.add(line.toString()));
+        return lines.toString();
+    }
+
+    private static String entry(String timestamp, String message) {
+        return "{\"timestamp\":\"" + timestamp + "\",\"level\":\"info\",\"meta\":{\"x\":[1]},\"message\":\"" + message + "\"}";
+    }
+}
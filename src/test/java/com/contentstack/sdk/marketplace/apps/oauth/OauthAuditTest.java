@@ -0,0 +1,162 @@
+package com.contentstack.sdk.marketplace.apps.oauth;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.apps.App;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
+import okhttp3.Request;
+import okio.Buffer;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class OauthAuditTest {
+
+    private static final String REDIRECT = "https://example.com/callback";
+
+    private final Map<String, String> configs = new ConcurrentHashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final StubTransport transport = new StubTransport(this::handle);
+    private final Oauth oauth = new Oauth(transport.retrofit(), "org");
+
+    private final OauthSpec spec = new OauthSpec.Builder().redirectUri(REDIRECT)
+            .userTokenScopes(Arrays.asList("user:read", "cm.stacks.management:read")).build();
+
+    @Test
+    void testDiffsInParallelAndUpdatesOnlyAppsThatDiffer() throws Exception {
+        List<String> appIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String scopes = i % 4 == 0 ? "[\"user:read\"]" : "[\"cm.stacks.management:read\",\"user:read\"]";
+            String redirect = i % 5 == 0 ? "https://old.example.com" : REDIRECT;
+            configs.put("app" + i, "{\"data\":{\"client_id\":\"c" + i + "\",\"redirect_uri\":\"" + redirect
+                    + "\",\"user_token_config\":{\"enabled\":true,\"scopes\":" + scopes + "}}}");
+            appIds.add("app" + i);
+        }
+        appIds.add("app0");
+
+        OauthAudit audit = oauth.audit(spec).parallelism(8).updateParallelism(2).build();
+        BulkReport<String, OauthDiff> diffs = audit.diff(appIds);
+        Assertions.assertTrue(diffs.isSuccess());
+        Assertions.assertEquals(40, diffs.getSucceeded().size());
+        Assertions.assertTrue(peak.get() <= 8);
+
+        List<OauthDiff> pending = OauthAudit.pending(diffs);
+        // every 4th app misses a scope, every 5th has the old redirect, every 20th both
+        Assertions.assertEquals(10 + 8 - 2, pending.size());
+        OauthDiff first = pending.stream().filter(diff -> diff.getAppId().equals("app0")).findFirst().get();
+        Assertions.assertEquals(Arrays.asList(OauthDiff.REDIRECT_URI, "user_token_config.scopes"), first.getChanges());
+
+        peak.set(0);
+        int fetches = transport.requests().size();
+        BulkReport<String, JSONObject> updates = audit.apply(pending);
+        Assertions.assertTrue(updates.isSuccess());
+        Assertions.assertEquals(16, updates.getSucceeded().size());
+        Assertions.assertEquals(fetches + 16, transport.requests().size());
+        Assertions.assertTrue(peak.get() <= 2);
+
+        // the updated apps now match the spec
+        Assertions.assertTrue(OauthAudit.pending(audit.diff(appIds)).isEmpty());
+        for (Request request : transport.requests()) {
+            Assertions.assertEquals("BULK", request.header(Priority.HEADER));
+        }
+        Assertions.assertNull(oauth.headers.get(Priority.HEADER));
+    }
+
+    @Test
+    void testAppIdsOfReadsEveryPage() throws IOException {
+        StubTransport apps = new StubTransport(request -> {
+            int skip = Integer.parseInt(request.url().queryParameter("skip"));
+            StringBuilder data = new StringBuilder();
+            for (int i = skip; i < Math.min(skip + 100, 130); i++) {
+                data.append(data.length() == 0 ? "" : ",");
+                data.append("{\"uid\":\"app").append(i).append("\"}");
+            }
+            return StubTransport.json(request, 200, "{\"data\":[" + data + "]}");
+        });
+        List<String> appIds = OauthAudit.appIdsOf(
+                new App(apps.retrofit(), null, "org").streamApps());
+        Assertions.assertEquals(130, appIds.size());
+        Assertions.assertEquals("app129", appIds.get(129));
+        Assertions.assertEquals(2, apps.requests().size());
+    }
+
+    @Test
+    void testAdditiveSpecKeepsExtraScopes() {
+        JSONObject current = parse("{\"redirect_uri\":\"" + REDIRECT + "\",\"user_token_config\":"
+                + "{\"scopes\":[\"user:read\",\"extra\",\"cm.stacks.management:read\"]}}");
+        Assertions.assertEquals(Collections.singletonList("user_token_config.scopes"),
+                OauthDiff.of("app", current, spec).getChanges());
+        OauthSpec additive = new OauthSpec.Builder().redirectUri(REDIRECT)
+                .userTokenScopes(Arrays.asList("user:read", "cm.stacks.management:read")).additive(true).build();
+        Assertions.assertTrue(OauthDiff.of("app", current, additive).isEmpty());
+
+        OauthSpec missing = new OauthSpec.Builder().userTokenScopes(Collections.singleton("new")).additive(true).build();
+        JSONObject desired = OauthDiff.of("app", current, missing).getDesired();
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("user:read", "extra", "cm.stacks.management:read", "new")),
+                new HashSet<>((List<?>) ((JSONObject) desired.get("user_token_config")).get("scopes")));
+    }
+
+    @Test
+    void testUnknownScopeFailsBeforeAnyCall() {
+        configs.put("catalog", "{\"scopes\":[\"user:read\"]}");
+        ScopeCatalog catalog = new ScopeCatalog(oauth, Executors.newSingleThreadScheduledExecutor(), 60_000);
+        IllegalArgumentException error = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> oauth.audit(spec).scopeCatalog(catalog).build());
+        Assertions.assertTrue(error.getMessage().contains("cm.stacks.management:read"));
+        Assertions.assertEquals(1, transport.requests().size());
+        catalog.close();
+    }
+
+    @Test
+    void testParallelismMustBeAtLeastOne() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> oauth.audit(spec).parallelism(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> oauth.audit(spec).updateParallelism(0));
+        Assertions.assertTrue(transport.requests().isEmpty());
+    }
+
+    private static JSONObject parse(String json) {
+        try {
+            return (JSONObject) new JSONParser().parse(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private okhttp3.Response handle(Request request) throws IOException {
+        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(10);
+            List<String> segments = request.url().pathSegments();
+            if (segments.get(segments.size() - 1).equals("scopes")) {
+                return StubTransport.json(request, 200, configs.get("catalog"));
+            }
+            String appId = segments.get(segments.size() - 2);
+            if (request.method().equals("PUT")) {
+                Buffer body = new Buffer();
+                request.body().writeTo(body);
+                configs.put(appId, "{\"data\":" + body.readUtf8() + "}");
+            }
+            return StubTransport.json(request, 200, configs.get(appId));
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.contentstack.sdk.marketplace.apps.oauth;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import okhttp3.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.Retrofit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Tag("unit")
+class ScopeCatalogTest {
+
+    private static final String CATALOG = "{\"scopes\":{\"cma\":[{\"scope\":\"cm.stacks.management:read\"},"
+            + "{\"scope\":\"cm.stacks.management:write\"}],\"user\":[\"user:read\"]}}";
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<String> etag = new AtomicReference<>("\"v1\"");
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final StubTransport transport = new StubTransport(this::handle);
+    private final Retrofit client = transport.retrofit();
+    private final Oauth oauth = new Oauth(client, "org");
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testLoadsOnceAndAnswersFromMemory() throws Exception {
+        ScopeCatalog catalog = new ScopeCatalog(oauth, scheduler, 60_000);
+        Assertions.assertTrue(catalog.isValid("cm.stacks.management:read"));
+        Assertions.assertTrue(catalog.isValid("user:read"));
+        Assertions.assertFalse(catalog.isValid("cm.stacks.management:delete"));
+        Assertions.assertEquals(Collections.singleton("unknown"),
+                catalog.invalid(Arrays.asList("user:read", "unknown")));
+        Assertions.assertEquals(3, catalog.current().size());
+        Assertions.assertEquals("\"v1\"", catalog.current().getEtag());
+        Assertions.assertEquals(1, calls.get());
+        catalog.close();
+    }
+
+    @Test
+    void testRefreshSendsEntityTagAndKeepsCatalogWhenUnchanged() throws Exception {
+        ScopeCatalog catalog = new ScopeCatalog(oauth, scheduler, 60_000);
+        Scopes first = catalog.current();
+        Scopes refreshed = catalog.refresh();
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals("\"v1\"", transport.requests().get(1).header("If-None-Match"));
+        Assertions.assertNull(transport.requests().get(0).header("If-None-Match"));
+        Assertions.assertEquals(first.names(), refreshed.names());
+
+        etag.set("\"v2\"");
+        Assertions.assertEquals("\"v2\"", catalog.refresh().getEtag());
+        catalog.close();
+    }
+
+    @Test
+    void testFailedRefreshKeepsPreviousCatalog() throws Exception {
+        ScopeCatalog catalog = new ScopeCatalog(oauth, scheduler, 60_000);
+        Scopes loaded = catalog.current();
+        failuresLeft.set(1);
+        Assertions.assertThrows(HttpStatusException.class, catalog::refresh);
+        Assertions.assertSame(loaded, catalog.current());
+        Assertions.assertTrue(catalog.getLastError() instanceof HttpStatusException);
+        catalog.close();
+    }
+
+    @Test
+    void testRefreshesInTheBackground() throws Exception {
+        ScopeCatalog catalog = new ScopeCatalog(oauth, scheduler, 20);
+        catalog.current();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls.get() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(calls.get() >= 3);
+        catalog.close();
+        Thread.sleep(60);
+        int afterClose = calls.get();
+        Thread.sleep(100);
+        Assertions.assertEquals(afterClose, calls.get());
+    }
+
+    @Test
+    void testSharedCatalogPerClientAndOrganization() {
+        ScopeCatalog shared = oauth.scopeCatalog();
+        Assertions.assertSame(shared, new Oauth(client, "org").scopeCatalog());
+        ScopeCatalog other = new Oauth(client, "other").scopeCatalog();
+        Assertions.assertNotSame(shared, other);
+        ScopeCatalog otherClient = new Oauth(transport.retrofit(), "org").scopeCatalog();
+        Assertions.assertNotSame(shared, otherClient);
+        shared.close();
+        Assertions.assertNotSame(shared, oauth.scopeCatalog());
+        oauth.scopeCatalog().close();
+        other.close();
+        otherClient.close();
+    }
+
+    private okhttp3.Response handle(Request request) {
+        calls.incrementAndGet();
+        if (failuresLeft.getAndDecrement() > 0) {
+            return StubTransport.json(request, 503, "{\"error\":\"unavailable\"}");
+        }
+        String current = etag.get();
+        if (current.equals(request.header("If-None-Match"))) {
+            return StubTransport.json(request, 304, "").newBuilder().header("ETag", current).build();
+        }
+        return StubTransport.json(request, 200, CATALOG).newBuilder().header("ETag", current).build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class BulkExecutorTest {
+
+    @Test
+    void testParallelismIsBounded() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            keys.add(i);
+        }
+        BulkExecutor executor = new BulkExecutor.Builder().parallelism(4).build();
+        int count = 0;
+        try (BulkStream<Integer, Integer> results = executor.stream(keys, key -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(2);
+            running.decrementAndGet();
+            return key * 2;
+        })) {
+            while (results.hasNext()) {
+                BulkResult<Integer, Integer> result = results.next();
+                Assertions.assertEquals(result.getKey() * 2, result.getValue().intValue());
+                count++;
+            }
+        }
+        Assertions.assertEquals(50, count);
+        Assertions.assertTrue(peak.get() <= 4);
+    }
+
+    @Test
+    void testSlowItemDoesNotHoldUpTheRest() {
+        CountDownLatch slow = new CountDownLatch(1);
+        BulkExecutor executor = new BulkExecutor.Builder().parallelism(2).build();
+        List<String> order = new ArrayList<>();
+        try (BulkStream<String, String> results = executor.stream(Arrays.asList("slow", "a", "b", "c"), key -> {
+            if ("slow".equals(key)) {
+                slow.await(5, TimeUnit.SECONDS);
+            }
+            return key;
+        })) {
+            for (int i = 0; i < 3; i++) {
+                order.add(results.next().getKey());
+            }
+            slow.countDown();
+            order.add(results.next().getKey());
+            Assertions.assertFalse(results.hasNext());
+        }
+        Assertions.assertEquals("slow", order.get(3));
+    }
+
+    @Test
+    void testItemErrorsAreReported() {
+        BulkExecutor executor = new BulkExecutor.Builder().build();
+        try (BulkStream<String, String> results = executor.stream(Arrays.asList("ok", "bad"), key -> {
+            if ("bad".equals(key)) {
+                throw new HttpStatusException(404, "not found");
+            }
+            return key;
+        })) {
+            int failures = 0;
+            while (results.hasNext()) {
+                BulkResult<String, String> result = results.next();
+                if (!result.isSuccess()) {
+                    failures++;
+                    Assertions.assertEquals("bad", result.getKey());
+                    Assertions.assertEquals(404, ((HttpStatusException) result.getError()).getCode());
+                }
+            }
+            Assertions.assertEquals(1, failures);
+        }
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BulkExecutor.Builder().parallelism(0));
+    }
+
+    @Test
+    void testRetriesRetryableErrors() throws IOException {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        BulkExecutor executor = new BulkExecutor.Builder().retry(new RetryPolicy(3, 1, 4)).build();
+        BulkReport<String, String> report = executor.run(Arrays.asList("flaky", "broken", "rejected"), key -> {
+            int call = calls.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            if ("flaky".equals(key) && call < 2) {
+                throw new HttpStatusException(503, null);
+            }
+            if ("broken".equals(key)) {
+                throw new ConnectException("connection refused");
+            }
+            if ("rejected".equals(key)) {
+                throw new HttpStatusException(422, "invalid");
+            }
+            return key;
+        }, null, null);
+        Assertions.assertEquals(1, report.getSucceeded().size());
+        Assertions.assertEquals(2, report.getSucceeded().get(0).getAttempts());
+        Assertions.assertEquals(2, report.getFailed().size());
+        Assertions.assertEquals(3, calls.get("broken").get());
+        Assertions.assertEquals(1, calls.get("rejected").get());
+    }
+
+    @Test
+    void testRetriesOtherIoErrorsOnlyWhenOptedIn() {
+        RetryPolicy policy = new RetryPolicy(3, 1, 4);
+        Assertions.assertTrue(policy.isRetryable(new ConnectException("connection refused")));
+        Assertions.assertTrue(policy.isRetryable(new UnknownHostException("api.contentstack.io")));
+        Assertions.assertFalse(policy.isRetryable(new IOException("connection reset")));
+        Assertions.assertFalse(policy.isRetryingIoErrors());
+        RetryPolicy idempotent = policy.retryingIoErrors();
+        Assertions.assertTrue(idempotent.isRetryable(new IOException("connection reset")));
+        Assertions.assertFalse(idempotent.isRetryable(new InterruptedIOException()));
+        Assertions.assertEquals(policy.getMaxAttempts(), idempotent.getMaxAttempts());
+        Assertions.assertSame(idempotent, idempotent.retryingIoErrors());
+    }
+
+    @Test
+    void testRetryPolicyDelays() {
+        RetryPolicy policy = new RetryPolicy(5, 100, 300);
+        Assertions.assertEquals(100, policy.delayBefore(2));
+        Assertions.assertEquals(200, policy.delayBefore(3));
+        Assertions.assertEquals(300, policy.delayBefore(4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(0, 0, 0));
+    }
+
+    @Test
+    void testCheckpointResumesAfterFailure(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("bulk.checkpoint");
+        List<String> keys = Arrays.asList("a", "b", "c", "d");
+        List<String> progress = new ArrayList<>();
+        BulkExecutor executor = new BulkExecutor.Builder().parallelism(2).build();
+        try (FileCheckpoint checkpoint = new FileCheckpoint(file)) {
+            BulkReport<String, String> first = executor.run(keys, key -> {
+                if ("c".equals(key)) {
+                    throw new IOException("crash");
+                }
+                return key;
+            }, checkpoint, (result, completed, total) -> progress.add(completed + "/" + total));
+            Assertions.assertEquals(3, first.getSucceeded().size());
+            Assertions.assertEquals(Arrays.asList("1/4", "2/4", "3/4", "4/4"), progress);
+        }
+        List<String> rerun = new ArrayList<>();
+        try (FileCheckpoint checkpoint = new FileCheckpoint(file)) {
+            Assertions.assertEquals(3, checkpoint.size());
+            BulkReport<String, String> second = executor.run(keys, key -> {
+                rerun.add(key);
+                return key;
+            }, checkpoint, (result, completed, total) -> progress.add(completed + "/" + total));
+            Assertions.assertEquals(3, second.getSkipped());
+            Assertions.assertTrue(second.isSuccess());
+        }
+        Assertions.assertEquals(Arrays.asList("c"), rerun);
+        Assertions.assertEquals("1/1", progress.get(progress.size() - 1));
+    }
+
+    @Test
+    void testRateLimitPacesAttemptsAcrossSlots() {
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 21; i++) {
+            keys.add(i);
+        }
+        BulkExecutor executor = new BulkExecutor.Builder().parallelism(8)
+                .rateLimit(new RateLimiter(100, 1)).build();
+        long start = System.nanoTime();
+        try (BulkStream<Integer, Integer> results = executor.stream(keys, key -> key)) {
+            results.forEachRemaining(result -> Assertions.assertTrue(result.isSuccess()));
+        }
+        // the first call uses the burst, the other 20 wait 10 ms each
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 190);
+    }
+}
@@ -0,0 +1,30 @@
+package com.contentstack.sdk.marketplace.bulk;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class TimestampsTest {
+
+    @Test
+    void testComparesEpochNumbersNumerically() {
+        Assertions.assertTrue(Timestamps.compare("1000", "999") > 0);
+        Assertions.assertTrue(Timestamps.compare("1700000000001", "1700000000000") > 0);
+        Assertions.assertEquals(0, Timestamps.compare("42", "42"));
+    }
+
+    @Test
+    void testComparesInstantsBeforeText() {
+        Assertions.assertTrue(Timestamps.compare("2026-01-01T10:00:00.5Z", "2026-01-01T10:00:00Z") > 0);
+        Assertions.assertTrue(Timestamps.compare("2026-01-01T09:00:00Z", "2026-01-01T10:00:00Z") < 0);
+        Assertions.assertTrue(Timestamps.compare("b", "a") > 0);
+    }
+
+    @Test
+    void testMissingTimestampIsOldest() {
+        Assertions.assertTrue(Timestamps.compare(null, "a") < 0);
+        Assertions.assertTrue(Timestamps.compare("1", null) > 0);
+        Assertions.assertEquals(0, Timestamps.compare(null, null));
+    }
+}
@@ -0,0 +1,196 @@
+package com.contentstack.sdk.marketplace.installations;
+
+import com.contentstack.sdk.StubTransport;
+import okhttp3.Request;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.Retrofit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+class InstallationInformerTest {
+
+    private final Map<String, JSONObject> installed = new ConcurrentSkipListMap<>();
+    private final List<String> events = new ArrayList<>();
+    private final StubTransport transport = new StubTransport(this::handle);
+    private final Retrofit client = transport.retrofit();
+    private volatile Runnable beforeSecondPage;
+    private final Installation installation = new Installation(client, null, "org");
+
+    InstallationInformerTest() {
+        for (int i = 0; i < 6; i++) {
+            install(i, "app" + i % 2, 10 + i);
+        }
+    }
+
+    @Test
+    void testDeltaSyncReadsOnlyChangedInstallations() throws IOException {
+        try (InstallationInformer informer = new InstallationInformer.Builder(installation).pageSize(4)
+                .syncMillis(TimeUnit.HOURS.toMillis(1)).build()) {
+            informer.start();
+            informer.addHandler(recorder());
+            Assertions.assertTrue(informer.hasSynced());
+            Assertions.assertEquals(6, informer.size());
+            Assertions.assertEquals(6, events.size());
+            Assertions.assertEquals(3, informer.byApp("app1").size());
+            events.clear();
+
+            install(2, "app1", 40);
+            install(9, "app0", 41);
+            int calls = transport.requests().size();
+            informer.syncNow();
+
+            List<Request> delta = transport.requests().subList(calls, transport.requests().size());
+            Assertions.assertEquals(1, delta.size());
+            Assertions.assertEquals("updated_at", delta.get(0).url().queryParameter("sort"));
+            Assertions.assertEquals(2, events.size());
+            Assertions.assertTrue(events.contains("update install2"));
+            Assertions.assertTrue(events.contains("add install9"));
+            Assertions.assertEquals(4, informer.byApp("app1").size());
+            Assertions.assertEquals(3, informer.byApp("app0").size());
+            Assertions.assertEquals("app1", OrgSnapshot.appOf(informer.get("install2")));
+        }
+    }
+
+    @Test
+    void testFullSyncFindsDeletedInstallations() throws IOException {
+        try (InstallationInformer informer = new InstallationInformer.Builder(installation).pageSize(4)
+                .fullSyncEvery(2).syncMillis(TimeUnit.HOURS.toMillis(1)).build()) {
+            informer.start();
+            informer.addHandler(recorder());
+            events.clear();
+            installed.remove("install3");
+
+            informer.syncNow();
+            Assertions.assertTrue(events.isEmpty());
+            informer.syncNow();
+            Assertions.assertTrue(events.isEmpty());
+            Assertions.assertNotNull(informer.get("install3"));
+            informer.syncNow();
+            informer.syncNow();
+            Assertions.assertEquals(1, events.size());
+            Assertions.assertEquals("delete install3", events.get(0));
+            Assertions.assertNull(informer.get("install3"));
+            Assertions.assertEquals(5, informer.size());
+            Assertions.assertEquals(2, informer.byApp("app1").size());
+        }
+    }
+
+    @Test
+    void testDeletionDuringAFullListDropsNoLiveInstallation() throws IOException {
+        try (InstallationInformer informer = new InstallationInformer.Builder(installation).pageSize(4)
+                .fullSyncEvery(1).syncMillis(TimeUnit.HOURS.toMillis(1)).build()) {
+            informer.start();
+            informer.addHandler(recorder());
+            events.clear();
+            // install1 goes between the two pages, which shifts install4 onto the first page
+            beforeSecondPage = () -> installed.remove("install1");
+
+            informer.syncNow();
+            Assertions.assertTrue(events.isEmpty());
+            Assertions.assertNotNull(informer.get("install4"));
+            // the first list read install1 before it went, so two more lists miss it
+            informer.syncNow();
+            Assertions.assertTrue(events.isEmpty());
+            informer.syncNow();
+            Assertions.assertEquals(1, events.size());
+            Assertions.assertEquals("delete install1", events.get(0));
+            Assertions.assertEquals(5, informer.size());
+        }
+    }
+
+    @Test
+    void testSyncsInTheBackgroundAndSharesOneInformer() throws Exception {
+        InstallationInformer shared = installation.informer();
+        try {
+            Assertions.assertSame(shared, new Installation(client, null, "org").informer());
+            Assertions.assertNotSame(shared, new Installation(client, null, "other").informer());
+            InstallationInformer otherClient = new Installation(transport.retrofit(), null, "org").informer();
+            Assertions.assertNotSame(shared, otherClient);
+            otherClient.close();
+        } finally {
+            shared.close();
+            new Installation(client, null, "other").informer().close();
+        }
+        Assertions.assertNotSame(shared, installation.informer());
+        installation.informer().close();
+
+        CountDownLatch added = new CountDownLatch(1);
+        try (InstallationInformer informer = new InstallationInformer.Builder(installation).syncMillis(10)
+                .build()) {
+            informer.start();
+            informer.addHandler(new InstallationInformer.Handler() {
+                @Override
+                public void onAdd(JSONObject item) {
+                    if ("install7".equals(item.get("uid"))) {
+                        added.countDown();
+                    }
+                }
+            });
+            install(7, "app0", 50);
+            Assertions.assertTrue(added.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private InstallationInformer.Handler recorder() {
+        return new InstallationInformer.Handler() {
+            @Override
+            public void onAdd(JSONObject installation) {
+                events.add("add " + installation.get("uid"));
+            }
+
+            @Override
+            public void onUpdate(JSONObject previous, JSONObject current) {
+                events.add("update " + current.get("uid"));
+            }
+
+            @Override
+            public void onDelete(JSONObject installation) {
+                events.add("delete " + installation.get("uid"));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private void install(int i, String app, int second) {
+        JSONObject item = new JSONObject();
+        item.put("uid", "install" + i);
+        JSONObject manifest = new JSONObject();
+        manifest.put("uid", app);
+        item.put("manifest", manifest);
+        item.put("updated_at", String.format("2026-01-01T10:00:%02dZ", second));
+        installed.put("install" + i, item);
+    }
+
+    @SuppressWarnings("unchecked")
+    private okhttp3.Response handle(Request request) {
+        List<JSONObject> items = new ArrayList<>(installed.values());
+        if ("updated_at".equals(request.url().queryParameter("sort"))) {
+            items.sort(Comparator.comparing((JSONObject item) -> (String) item.get("updated_at")).reversed());
+        }
+        int skip = Integer.parseInt(request.url().queryParameter("skip"));
+        int limit = Integer.parseInt(request.url().queryParameter("limit"));
+        Runnable hook = beforeSecondPage;
+        if (skip > 0 && hook != null) {
+            beforeSecondPage = null;
+            hook.run();
+            items = new ArrayList<>(installed.values());
+        }
+        JSONArray data = new JSONArray();
+        data.addAll(items.subList(Math.min(skip, items.size()), Math.min(items.size(), skip + limit)));
+        JSONObject response = new JSONObject();
+        response.put("data", data);
+        return StubTransport.json(request, 200, response.toJSONString());
+    }
+}
@@ -1,6 +1,14 @@
 package com.contentstack.sdk.marketplace.installations;
 
+import com.contentstack.sdk.StubTransport;
 import com.contentstack.sdk.TestClient;
+import com.contentstack.sdk.marketplace.bulk.BulkExecutor;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.BulkResult;
+import com.contentstack.sdk.marketplace.bulk.BulkStream;
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
 import okhttp3.Request;
 import org.json.simple.JSONObject;
 import org.junit.jupiter.api.Assertions;
@@ -8,7 +16,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
@@ -514,5 +525,62 @@ class InstallationUnitTests {
         Assertions.assertEquals("organization uid is required", exception.getMessage());
     }
 
+    @Test
+    void testFetchAllTagsResultsWithInstallationId() {
+        StubTransport transport = new StubTransport(request -> {
+            String id = request.url().pathSegments().get(1);
+            if ("missing".equals(id)) {
+                return StubTransport.json(request, 404, "{\"error_message\":\"not found\"}");
+            }
+            return StubTransport.json(request, 200, "{\"path\":\"" + request.url().encodedPath() + "\"}");
+        });
+        Installation bulk = new Installation(transport.retrofit(), AUTHTOKEN, "org123");
+        Map<String, BulkResult<String, Map<InstallationAspect, String>>> results = new HashMap<>();
+        try (BulkStream<String, Map<InstallationAspect, String>> stream = bulk.fetchAll(
+                Arrays.asList("one", "two", "missing"),
+                EnumSet.of(InstallationAspect.INSTALLATION, InstallationAspect.SERVER_CONFIGURATION),
+                new BulkExecutor.Builder().parallelism(2).build())) {
+            stream.forEachRemaining(result -> results.put(result.getKey(), result));
+        }
+        Assertions.assertEquals(3, results.size());
+        Assertions.assertEquals("{\"path\":\"/installations/one/server-configuration\"}",
+                results.get("one").getValue().get(InstallationAspect.SERVER_CONFIGURATION));
+        Assertions.assertEquals("{\"path\":\"/installations/two\"}",
+                results.get("two").getValue().get(InstallationAspect.INSTALLATION));
+        Assertions.assertFalse(results.get("missing").isSuccess());
+        Assertions.assertEquals(404, ((HttpStatusException) results.get("missing").getError()).getCode());
+        for (Request request : transport.requests()) {
+            Assertions.assertEquals("BULK", request.header(Priority.HEADER));
+            Assertions.assertEquals(AUTHTOKEN, request.header("authtoken"));
+        }
+    }
+
+    @Test
+    void testApplyAllRetriesAndReportsFailures() throws Exception {
+        Map<String, Integer> attempts = new HashMap<>();
+        StubTransport transport = new StubTransport(request -> {
+            String id = request.url().pathSegments().get(1);
+            int attempt;
+            synchronized (attempts) {
+                attempt = attempts.merge(id, 1, Integer::sum);
+            }
+            if ("flaky".equals(id) && attempt == 1) {
+                return StubTransport.json(request, 502, "{}");
+            }
+            if ("gone".equals(id)) {
+                return StubTransport.json(request, 404, "{}");
+            }
+            return StubTransport.json(request, 200, "{\"notice\":\"" + request.method() + "\"}");
+        });
+        Installation bulk = new Installation(transport.retrofit(), AUTHTOKEN, "org123");
+        BulkExecutor executor = new BulkExecutor.Builder().parallelism(2).retry(new RetryPolicy(3, 1, 1)).build();
+        BulkReport<String, String> report = bulk.applyAll(Arrays.asList("ok", "flaky", "gone"),
+                InstallationOperation.uninstall(), executor);
+        Assertions.assertEquals(2, report.getSucceeded().size());
+        Assertions.assertEquals(1, report.getFailed().size());
+        Assertions.assertEquals("gone", report.getFailed().get(0).getKey());
+        Assertions.assertEquals(2, attempts.get("flaky").intValue());
+        Assertions.assertEquals("DELETE", transport.requests().get(0).method());
+    }
 
 }
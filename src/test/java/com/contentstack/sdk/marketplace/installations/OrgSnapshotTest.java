@@ -0,0 +1,127 @@
+package com.contentstack.sdk.marketplace.installations;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.scheduler.Priority;
+import okhttp3.Request;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class OrgSnapshotTest {
+
+    private static final long LATENCY_MILLIS = 40;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final StubTransport transport = new StubTransport(this::handle);
+
+    @Test
+    void testLoadsViewsInParallelAndJoinsThem() throws IOException {
+        long start = System.nanoTime();
+        OrgSnapshot snapshot = OrgSnapshot.load(new Installation(transport.retrofit(), null, "org"), 50);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertEquals(120, snapshot.installationCount());
+        Assertions.assertEquals(4, peak.get());
+        // three pages of installations, one of each other view, the views overlapping
+        Assertions.assertTrue(elapsed < 6 * LATENCY_MILLIS, elapsed + " ms");
+
+        Assertions.assertEquals(40, snapshot.installationsOfApp("app0").size());
+        Assertions.assertEquals(40, snapshot.stacksWithApp("app0").size());
+        Assertions.assertEquals(Arrays.asList("app0", "app1", "app2"), snapshot.appsOnStack("stack7"));
+        Assertions.assertEquals(3, snapshot.installationsOnStack("stack7").size());
+        Assertions.assertEquals(24, snapshot.installationsOfUser("user1").size());
+        Assertions.assertEquals("install5", snapshot.installation("install5").get("uid"));
+        Assertions.assertEquals("App 2", snapshot.app("app2").get("name"));
+        Assertions.assertEquals("Stack 7", snapshot.stack("stack7").get("name"));
+        Assertions.assertEquals("user1@example.com", snapshot.user("user1").get("email"));
+
+        Assertions.assertTrue(snapshot.stacksWithApp("unknown").isEmpty());
+        Assertions.assertTrue(snapshot.appsOnStack(null).isEmpty());
+        Assertions.assertNull(snapshot.installation("app0"));
+        for (Request request : transport.requests()) {
+            Assertions.assertEquals("BULK", request.header(Priority.HEADER));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSkipsNonStackTargetsAndRepeatedInstallations() {
+        JSONObject installation = installation(0);
+        JSONObject organisationTarget = installation(1);
+        ((JSONObject) organisationTarget.get("target")).put("type", "organization");
+        List<JSONObject> installations = Arrays.asList(installation, installation, organisationTarget);
+        OrgSnapshot snapshot = OrgSnapshot.of(Collections.singletonMap(OrgSnapshot.View.INSTALLATIONS,
+                installations), 0);
+        Assertions.assertEquals(2, snapshot.installationCount());
+        Assertions.assertEquals(new HashSet<>(Collections.singletonList("stack0")),
+                new HashSet<>(snapshot.stacksWithApp("app0")));
+        Assertions.assertTrue(snapshot.appsOnStack("stack1").isEmpty());
+        Assertions.assertEquals(1, snapshot.installationsOfApp("app1").size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject installation(int i) {
+        JSONObject installation = new JSONObject();
+        installation.put("uid", "install" + i);
+        JSONObject manifest = new JSONObject();
+        manifest.put("uid", "app" + i % 3);
+        installation.put("manifest", manifest);
+        JSONObject target = new JSONObject();
+        target.put("type", "stack");
+        target.put("uid", "stack" + i / 3);
+        installation.put("target", target);
+        installation.put("installed_by", "user" + i % 5);
+        return installation;
+    }
+
+    @SuppressWarnings("unchecked")
+    private okhttp3.Response handle(Request request) throws IOException {
+        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        } finally {
+            running.decrementAndGet();
+        }
+        List<String> segments = request.url().pathSegments();
+        String view = segments.get(segments.size() - 1);
+        List<JSONObject> items = new ArrayList<>();
+        if (view.equals("installations")) {
+            for (int i = 0; i < 120; i++) {
+                items.add(installation(i));
+            }
+        } else {
+            int count = view.equals("apps") ? 3 : view.equals("stacks") ? 40 : 5;
+            String prefix = view.equals("apps") ? "app" : view.equals("stacks") ? "stack" : "user";
+            for (int i = 0; i < count; i++) {
+                JSONObject item = new JSONObject();
+                item.put(view.equals("stacks") ? "api_key" : "uid", prefix + i);
+                item.put("name", (prefix.substring(0, 1).toUpperCase() + prefix.substring(1)) + " " + i);
+                item.put("email", prefix + i + "@example.com");
+                items.add(item);
+            }
+        }
+        int skip = Integer.parseInt(request.url().queryParameter("skip"));
+        int limit = Integer.parseInt(request.url().queryParameter("limit"));
+        JSONArray data = new JSONArray();
+        data.addAll(items.subList(Math.min(skip, items.size()), Math.min(items.size(), skip + limit)));
+        JSONObject response = new JSONObject();
+        response.put("data", data);
+        return StubTransport.json(request, 200, response.toJSONString());
+    }
+}
@@ -0,0 +1,145 @@
+package com.contentstack.sdk.marketplace.installations.location;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import okhttp3.Request;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.Retrofit;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Tag("unit")
+class LocationCacheTest {
+
+    private static final long LATENCY_MILLIS = 50;
+
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final Retrofit retrofit = new StubTransport(this::handle).retrofit();
+
+    private LocationCache cache(int parallelism) {
+        return new LocationCache(id -> new Location(retrofit, "org", id), parallelism, 60_000, now::get);
+    }
+
+    @Test
+    void testFetchAllRunsInParallelAndCaches() {
+        LocationCache cache = cache(16);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add("installation" + i);
+        }
+        ids.add("installation0");
+
+        long start = System.nanoTime();
+        BulkReport<String, JSONObject> report = cache.fetchAll(ids);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assertions.assertTrue(report.isSuccess());
+        Assertions.assertEquals(100, report.getSucceeded().size());
+        Assertions.assertEquals(100, calls.size());
+        Assertions.assertTrue(peak.get() <= 16);
+        Assertions.assertTrue(elapsed < 100 * LATENCY_MILLIS / 4, elapsed + " ms");
+        Assertions.assertEquals("installation7", ((JSONObject) cache.fetchAll(ids).getSucceeded().stream()
+                .filter(result -> result.getKey().equals("installation7")).findFirst().get()
+                .getValue().get("data")).get("installation_uid"));
+
+        report = cache.fetchAll(ids);
+        Assertions.assertEquals(100, report.getSucceeded().size());
+        Assertions.assertEquals(100, totalCalls());
+    }
+
+    @Test
+    void testConcurrentFetchesOfOneInstallationShareOneCall() throws Exception {
+        LocationCache cache = cache(4);
+        List<CompletableFuture<JSONObject>> fetches = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            fetches.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return cache.fetch("shared");
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        for (CompletableFuture<JSONObject> fetch : fetches) {
+            Assertions.assertNotNull(fetch.get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1, calls.get("shared").get());
+    }
+
+    @Test
+    void testExpiredAndFailedEntriesAreFetchedAgain() throws IOException {
+        LocationCache cache = cache(4);
+        failuresLeft.set(1);
+        HttpStatusException error = Assertions.assertThrows(HttpStatusException.class, () -> cache.fetch("flaky"));
+        Assertions.assertEquals(503, error.getCode());
+        Assertions.assertEquals(0, cache.size());
+
+        cache.fetch("flaky");
+        cache.fetch("flaky");
+        Assertions.assertEquals(2, calls.get("flaky").get());
+
+        now.addAndGet(60_000);
+        cache.fetch("flaky");
+        Assertions.assertEquals(3, calls.get("flaky").get());
+
+        cache.invalidate("flaky");
+        cache.fetch("flaky");
+        Assertions.assertEquals(4, calls.get("flaky").get());
+    }
+
+    @Test
+    void testExpiredEntriesAreSweptOnTheNextFetch() throws IOException {
+        LocationCache cache = cache(4);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add("stale" + i);
+        }
+        Assertions.assertTrue(cache.fetchAll(ids).isSuccess());
+        Assertions.assertEquals(20, cache.size());
+
+        now.addAndGet(30_000);
+        cache.fetch("fresh");
+        Assertions.assertEquals(21, cache.size());
+
+        now.addAndGet(30_000);
+        cache.fetch("fresh");
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    private int totalCalls() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    private okhttp3.Response handle(Request request) throws IOException {
+        String id = request.url().pathSegments().get(1);
+        calls.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        } finally {
+            running.decrementAndGet();
+        }
+        if (failuresLeft.getAndDecrement() > 0) {
+            return StubTransport.json(request, 503, "{\"error\":\"unavailable\"}");
+        }
+        return StubTransport.json(request, 200, "{\"data\":{\"installation_uid\":\"" + id + "\",\"type\":\"cs.cm.stack.config\"}}");
+    }
+}
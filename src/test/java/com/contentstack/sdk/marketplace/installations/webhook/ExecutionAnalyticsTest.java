@@ -0,0 +1,117 @@
+package com.contentstack.sdk.marketplace.installations.webhook;
+
+import com.contentstack.sdk.StubTransport;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Tag("unit")
+class ExecutionAnalyticsTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long START = Instant.parse("2024-01-01T12:00:00Z").toEpochMilli();
+
+    private final AtomicLong now = new AtomicLong(START);
+    private final ExecutionAnalytics analytics = new ExecutionAnalytics.Builder().clock(now::get).build();
+
+    @Test
+    void testFailureRateOverTheLastHourPerInstallation() {
+        for (int i = 0; i < 100; i++) {
+            long at = START - i * 30_000L;
+            analytics.record("install1", "hookA", at, i % 4 == 0 ? 500 : 200, 40);
+            analytics.record("install1", "hookB", at, 200, 40);
+            analytics.record("install2", "hookA", at, i % 2 == 0 ? 0 : 204, -1);
+        }
+        // two hours ago: outside the ring
+        Assertions.assertFalse(analytics.record("install1", "hookA", START - 2 * HOUR, 500, 10));
+
+        Map<String, ExecutionStats> lastHour = analytics.byInstallation(HOUR);
+        Assertions.assertEquals(200, lastHour.get("install1").getTotal());
+        Assertions.assertEquals(25, lastHour.get("install1").getFailed());
+        Assertions.assertEquals(0.125, analytics.failureRate("install1", HOUR), 1e-9);
+        Assertions.assertEquals(0.5, analytics.failureRate("install2", HOUR), 1e-9);
+        Assertions.assertEquals(50, lastHour.get("install2").getStatusClassCount(ExecutionStats.NO_RESPONSE));
+
+        // ten buckets: the current minute, which has started, and the nine before it, two executions each
+        Assertions.assertEquals(19, analytics.stats("install1", "hookA", 10 * MINUTE).getTotal());
+
+        now.addAndGet(HOUR);
+        Assertions.assertTrue(analytics.byInstallation(HOUR).isEmpty());
+        Assertions.assertEquals(0, analytics.failureRate("install1", HOUR), 1e-9);
+    }
+
+    @Test
+    void testRingReusesBucketsAsTimeMovesOn() {
+        for (int minute = 0; minute < 180; minute++) {
+            now.set(START + minute * MINUTE);
+            for (int i = 0; i < 10; i++) {
+                analytics.record("install1", "hookA", now.get(), minute < 120 ? 500 : 200, 10);
+            }
+        }
+        ExecutionStats lastHour = analytics.stats("install1", "hookA", HOUR);
+        Assertions.assertEquals(600, lastHour.getTotal());
+        Assertions.assertEquals(0, lastHour.getFailed());
+        Assertions.assertEquals(1, analytics.webhookCount());
+    }
+
+    @Test
+    void testExecutionsAfterTheCurrentBucketAreRejected() {
+        for (int minute = 0; minute < 60; minute++) {
+            Assertions.assertTrue(analytics.record("install1", "hookA", START - minute * MINUTE, 200, 10));
+        }
+        Assertions.assertFalse(analytics.record("install1", "hookA", START + MINUTE, 500, 10));
+        ExecutionStats lastHour = analytics.stats("install1", "hookA", HOUR);
+        Assertions.assertEquals(60, lastHour.getTotal());
+        Assertions.assertEquals(0, lastHour.getFailed());
+    }
+
+    @Test
+    void testLatencyHistogram() {
+        long[] latencies = {5, 20, 30, 80, 90, 95, 200, 700, 3000, 60_000};
+        for (long latency : latencies) {
+            analytics.record("install1", "hookA", START, 200, latency);
+        }
+        ExecutionStats stats = analytics.stats("install1", "hookA", HOUR);
+        Assertions.assertEquals(10, stats.getLatencyCount());
+        Assertions.assertEquals(100, stats.getLatencyPercentile(50));
+        Assertions.assertEquals(5000, stats.getLatencyPercentile(90));
+        Assertions.assertEquals(Long.MAX_VALUE, stats.getLatencyPercentile(100));
+        Assertions.assertEquals(10, stats.getLatencyPercentile(0));
+        Assertions.assertEquals(-1, ExecutionStats.empty().getLatencyPercentile(50));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testConsumesListedExecutions() {
+        List<JSONObject> executions = new ArrayList<>();
+        String[] statuses = {"200", "failed", "success", "503"};
+        for (int i = 0; i < statuses.length; i++) {
+            JSONObject execution = new JSONObject();
+            execution.put("uid", "e" + i);
+            execution.put("created_at", Instant.ofEpochMilli(START - i * MINUTE).toString());
+            execution.put("status", statuses[i]);
+            execution.put("response_time", 120L);
+            executions.add(execution);
+        }
+        JSONObject undated = new JSONObject();
+        undated.put("status", 200);
+        executions.add(undated);
+        Webhook webhook = new Webhook(new StubTransport(request -> null).retrofit(), "org", "hookA", "install1");
+
+        Assertions.assertEquals(4, analytics.consume(webhook, executions.iterator()));
+        ExecutionStats stats = analytics.stats("install1", "hookA", HOUR);
+        Assertions.assertEquals(2, stats.getFailed());
+        Assertions.assertEquals(2, stats.getStatusClassCount(2));
+        Assertions.assertEquals(1, stats.getStatusClassCount(5));
+        Assertions.assertEquals(250, stats.getLatencyPercentile(50));
+    }
+}
@@ -0,0 +1,156 @@
+package com.contentstack.sdk.marketplace.installations.webhook;
+
+import com.contentstack.sdk.StubTransport;
+import okhttp3.Request;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Tag("unit")
+class ExecutionLogIteratorTest {
+
+    private final List<JSONObject> history = Collections.synchronizedList(new ArrayList<>());
+    private final StubTransport transport = new StubTransport(this::page);
+    private final Webhook webhook = new Webhook(transport.retrofit(), "org", "webhook1", "installation1");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testIncrementalRunFetchesOnlyNewExecutions() throws IOException {
+        record(0, 250);
+        ExecutionLogIterator first = webhook.streamExecutionLogs(ExecutionCheckpoint.NONE, 100);
+        List<String> uids = drain(first);
+        Assertions.assertEquals(250, uids.size());
+        Assertions.assertEquals("e249", uids.get(0));
+        Assertions.assertEquals(3, first.getPagesFetched());
+        Path file = dir.resolve("executions.checkpoint");
+        first.getCheckpoint().save(file);
+
+        record(250, 30);
+        transport.requests().clear();
+        ExecutionLogIterator second = webhook.streamExecutionLogs(ExecutionCheckpoint.load(file), 100);
+        uids = drain(second);
+        Assertions.assertEquals(30, uids.size());
+        Assertions.assertEquals("e279", uids.get(0));
+        Assertions.assertEquals("e250", uids.get(29));
+        Assertions.assertEquals(1, second.getPagesFetched());
+        Assertions.assertEquals("created_at", transport.requests().get(0).url().queryParameter("sort"));
+        Assertions.assertEquals("desc", transport.requests().get(0).url().queryParameter("order"));
+        Assertions.assertEquals(timestamp(279), second.getCheckpoint().getCreatedAt());
+
+        ExecutionLogIterator third = webhook.streamExecutionLogs(second.getCheckpoint(), 100);
+        Assertions.assertFalse(third.hasNext());
+        Assertions.assertEquals(second.getCheckpoint(), third.getCheckpoint());
+    }
+
+    @Test
+    void testPartialRunKeepsItsStartingCheckpoint() {
+        record(0, 50);
+        ExecutionLogIterator executions = webhook.streamExecutionLogs(ExecutionCheckpoint.NONE, 10);
+        executions.next();
+        executions.next();
+        Assertions.assertEquals(ExecutionCheckpoint.NONE, executions.getCheckpoint());
+        drain(executions);
+        Assertions.assertEquals(timestamp(49), executions.getCheckpoint().getCreatedAt());
+    }
+
+    @Test
+    void testExecutionsSharingTheCheckpointTimestampAreNotRepeated() {
+        record(0, 5);
+        history.add(execution("same1", timestamp(4)));
+        ExecutionLogIterator first = webhook.streamExecutionLogs(ExecutionCheckpoint.NONE, 2);
+        Assertions.assertEquals(6, drain(first).size());
+        Assertions.assertEquals(2, first.getCheckpoint().getUids().size());
+
+        history.add(execution("same2", timestamp(4)));
+        ExecutionLogIterator second = webhook.streamExecutionLogs(first.getCheckpoint(), 2);
+        Assertions.assertEquals(Collections.singletonList("same2"), drain(second));
+        Assertions.assertEquals(3, second.getCheckpoint().getUids().size());
+    }
+
+    @Test
+    void testCheckpointKeepsItsUidsWhenTheTimestampIsWrittenDifferently() {
+        record(0, 5);
+        history.add(execution("same1", timestamp(4)));
+        // the same instant as timestamp(4), without the milliseconds
+        ExecutionCheckpoint since = new ExecutionCheckpoint("2024-01-01T00:00:04Z", Collections.singleton("e4"));
+        ExecutionLogIterator executions = webhook.streamExecutionLogs(since, 2);
+        Assertions.assertEquals(Collections.singletonList("same1"), drain(executions));
+        Assertions.assertEquals(2, executions.getCheckpoint().getUids().size());
+    }
+
+    @Test
+    void testExecutionsShiftedByNewArrivalsAreReturnedOnce() {
+        record(0, 20);
+        ExecutionLogIterator executions = webhook.streamExecutionLogs(ExecutionCheckpoint.NONE, 10);
+        List<String> uids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            uids.add(executions.next().get("uid").toString());
+        }
+        // three new executions push the next page back over three that were already returned
+        record(20, 3);
+        drain(executions).forEach(uids::add);
+        Assertions.assertEquals(20, uids.size());
+        Assertions.assertEquals(20, uids.stream().distinct().count());
+    }
+
+    @Test
+    void testCheckpointRoundTrips() throws IOException {
+        Assertions.assertEquals(ExecutionCheckpoint.NONE, ExecutionCheckpoint.load(dir.resolve("missing")));
+        ExecutionCheckpoint checkpoint = new ExecutionCheckpoint(timestamp(3), Collections.singleton("e3"));
+        Assertions.assertEquals(checkpoint, ExecutionCheckpoint.parse(checkpoint.toJson()));
+        Assertions.assertThrows(IOException.class, () -> ExecutionCheckpoint.parse("[]"));
+    }
+
+    private List<String> drain(ExecutionLogIterator executions) {
+        List<String> uids = new ArrayList<>();
+        executions.forEachRemaining(execution -> uids.add(execution.get("uid").toString()));
+        return uids;
+    }
+
+    private void record(int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            history.add(execution("e" + i, timestamp(i)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject execution(String uid, String createdAt) {
+        JSONObject execution = new JSONObject();
+        execution.put("uid", uid);
+        execution.put("created_at", createdAt);
+        return execution;
+    }
+
+    private static String timestamp(int second) {
+        return String.format("2024-01-01T%02d:%02d:%02d.000Z", second / 3600, second / 60 % 60, second % 60);
+    }
+
+    @SuppressWarnings("unchecked")
+    private okhttp3.Response page(Request request) {
+        List<JSONObject> newestFirst;
+        synchronized (history) {
+            newestFirst = new ArrayList<>(history);
+        }
+        // stable sort keeps executions with the same timestamp in insertion order
+        newestFirst.sort((a, b) -> b.get("created_at").toString().compareTo(a.get("created_at").toString()));
+        int skip = Integer.parseInt(request.url().queryParameter("skip"));
+        int limit = Integer.parseInt(request.url().queryParameter("limit"));
+        JSONArray data = new JSONArray();
+        data.addAll(newestFirst.subList(Math.min(skip, newestFirst.size()), Math.min(skip + limit, newestFirst.size())));
+        JSONObject body = new JSONObject();
+        body.put("data", data);
+        body.put("count", newestFirst.size());
+        return StubTransport.json(request, 200, body.toJSONString());
+    }
+}
@@ -0,0 +1,106 @@
+package com.contentstack.sdk.marketplace.installations.webhook;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import com.contentstack.sdk.marketplace.bulk.BulkResult;
+import com.contentstack.sdk.marketplace.bulk.HttpStatusException;
+import com.contentstack.sdk.marketplace.bulk.RetryPolicy;
+import okhttp3.Request;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.Retrofit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class ExecutionRetryTest {
+
+    private final Map<String, AtomicInteger> retries = new ConcurrentHashMap<>();
+    private final List<Long> callTimes = Collections.synchronizedList(new ArrayList<>());
+    private final StubTransport transport = new StubTransport(this::handle);
+    private final Retrofit retrofit = transport.retrofit();
+
+    @Test
+    void testRetriesEachFailedExecutionOnceAtAPace() throws IOException {
+        Webhook first = new Webhook(retrofit, "org", "hook", "install1");
+        Webhook second = new Webhook(retrofit, "org", "hook", "install2");
+        ExecutionRetry retry = new ExecutionRetry.Builder().parallelism(4).requestsPerSecond(50)
+                .retry(new RetryPolicy(2, 10, 10)).build();
+
+        long start = System.nanoTime();
+        BulkReport<FailedExecution, String> report = retry.retryFailed(Arrays.asList(first, second, first));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // each installation lists failed e1, e2 (flaky), e3 (gone) and ok e4; "first" is given twice
+        Assertions.assertEquals(6, report.getSucceeded().size() + report.getFailed().size());
+        Assertions.assertEquals(4, report.getSucceeded().size());
+        Assertions.assertEquals(2, report.getFailed().size());
+        for (BulkResult<FailedExecution, String> failed : report.getFailed()) {
+            Assertions.assertEquals("e3", failed.getKey().getExecutionId());
+            Assertions.assertEquals(404, ((HttpStatusException) failed.getError()).getCode());
+        }
+        Assertions.assertEquals(1, retries.get("install1/e1").get());
+        Assertions.assertEquals(2, retries.get("install1/e2").get());
+        Assertions.assertNull(retries.get("install1/e4"));
+        // 2 listing pages and 8 retry attempts at 50 per second
+        Assertions.assertEquals(10, callTimes.size());
+        Assertions.assertTrue(elapsed >= 9 * 20 - 10, elapsed + " ms");
+    }
+
+    @Test
+    void testFailedExecutionsAreDeduplicated() {
+        Webhook webhook = new Webhook(retrofit, "org", "hook", "install1");
+        FailedExecution execution = FailedExecution.of(webhook, "e1");
+        Assertions.assertEquals(execution, FailedExecution.of(new Webhook(retrofit, "org", "hook", "install1"), "e1"));
+        Assertions.assertNotEquals(execution, FailedExecution.of(new Webhook(retrofit, "org", "hook", "install2"), "e1"));
+        Assertions.assertEquals("install1/hook/e1", execution.toString());
+    }
+
+    @Test
+    void testDefaultFailureFilter() {
+        Assertions.assertTrue(ExecutionRetry.isFailed(execution("e", 500)));
+        Assertions.assertTrue(ExecutionRetry.isFailed(execution("e", "failed")));
+        Assertions.assertFalse(ExecutionRetry.isFailed(execution("e", 200)));
+        Assertions.assertFalse(ExecutionRetry.isFailed(execution("e", "success")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static org.json.simple.JSONObject execution(String uid, Object status) {
+        org.json.simple.JSONObject execution = new org.json.simple.JSONObject();
+        execution.put("uid", uid);
+        execution.put("status", status);
+        return execution;
+    }
+
+    private okhttp3.Response handle(Request request) {
+        callTimes.add(System.nanoTime());
+        List<String> segments = request.url().pathSegments();
+        String installation = segments.get(1);
+        if ("GET".equals(request.method())) {
+            return StubTransport.json(request, 200, "{\"data\":["
+                    + "{\"uid\":\"e4\",\"status\":200,\"created_at\":\"2024-01-01T00:00:04Z\"},"
+                    + "{\"uid\":\"e3\",\"status\":502,\"created_at\":\"2024-01-01T00:00:03Z\"},"
+                    + "{\"uid\":\"e2\",\"status\":\"failed\",\"created_at\":\"2024-01-01T00:00:02Z\"},"
+                    + "{\"uid\":\"e1\",\"status_code\":500,\"created_at\":\"2024-01-01T00:00:01Z\"}]}");
+        }
+        String execution = segments.get(5);
+        int attempt = retries.computeIfAbsent(installation + "/" + execution, key -> new AtomicInteger())
+                .incrementAndGet();
+        if ("e3".equals(execution)) {
+            return StubTransport.json(request, 404, "{\"error\":\"not found\"}");
+        }
+        if ("e2".equals(execution) && attempt == 1) {
+            return StubTransport.json(request, 503, "{\"error\":\"unavailable\"}");
+        }
+        return StubTransport.json(request, 200, "{\"data\":{\"uid\":\"" + execution + "\"}}");
+    }
+}
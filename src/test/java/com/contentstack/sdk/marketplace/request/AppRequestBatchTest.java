@@ -0,0 +1,175 @@
+package com.contentstack.sdk.marketplace.request;
+
+import com.contentstack.sdk.StubTransport;
+import com.contentstack.sdk.marketplace.bulk.BulkReport;
+import okhttp3.Request;
+import okio.Buffer;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class AppRequestBatchTest {
+
+    private final Map<String, RequestTarget> open = new ConcurrentSkipListMap<>();
+    private final AtomicInteger nextUid = new AtomicInteger();
+    private final AtomicInteger creates = new AtomicInteger();
+    private final AtomicInteger deletes = new AtomicInteger();
+    private volatile boolean withoutUid;
+    private final StubTransport transport = new StubTransport(this::handle);
+    private final AppRequest appRequest = new AppRequest(transport.retrofit(), null, "org");
+
+    AppRequestBatchTest() {
+        for (int i = 0; i < 5; i++) {
+            open.put(uid(), RequestTarget.of("app1", "stack" + i));
+        }
+    }
+
+    @Test
+    void testCreatesOnlyMissingTargetsOnce() throws Exception {
+        AppRequestBatch batch = appRequest.batch().parallelism(8).pageSize(2).build();
+        List<RequestTarget> targets = targets(50);
+        targets.addAll(targets(10));
+
+        BulkReport<RequestTarget, String> report = batch.create(targets);
+        Assertions.assertTrue(report.isSuccess());
+        Assertions.assertEquals(50, report.getSucceeded().size());
+        Assertions.assertEquals(45, creates.get());
+        Assertions.assertEquals(50, open.size());
+        Assertions.assertEquals("request0", batch.find(RequestTarget.of("app1", "stack0")));
+
+        int calls = transport.requests().size();
+        Assertions.assertTrue(batch.create(targets(50)).isSuccess());
+        Assertions.assertEquals(calls, transport.requests().size());
+    }
+
+    @Test
+    void testConcurrentSubmissionsShareOneCreate() throws Exception {
+        AppRequestBatch batch = appRequest.batch().parallelism(4).build();
+        List<CompletableFuture<BulkReport<RequestTarget, String>>> submissions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            submissions.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return batch.create(targets(20));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        for (CompletableFuture<BulkReport<RequestTarget, String>> submission : submissions) {
+            Assertions.assertTrue(submission.get(5, TimeUnit.SECONDS).isSuccess());
+        }
+        Assertions.assertEquals(15, creates.get());
+        Assertions.assertEquals(20, open.size());
+    }
+
+    @Test
+    void testDeletesKnownRequestsOnly() throws Exception {
+        AppRequestBatch batch = appRequest.batch().build();
+        BulkReport<RequestTarget, String> report = batch.delete(targets(8));
+        Assertions.assertTrue(report.isSuccess());
+        Assertions.assertEquals(5, deletes.get());
+        Assertions.assertTrue(open.isEmpty());
+        Assertions.assertEquals(0, batch.size());
+        Assertions.assertTrue(transport.requests().stream()
+                .anyMatch(request -> request.url().encodedPath().endsWith("/requests/request3")));
+
+        batch.delete(targets(8));
+        Assertions.assertEquals(5, deletes.get());
+    }
+
+    @Test
+    void testCreateWithoutUidFailsAndIsNotIndexed() throws Exception {
+        AppRequestBatch batch = appRequest.batch().build();
+        withoutUid = true;
+        RequestTarget target = RequestTarget.of("app1", "stack7");
+        BulkReport<RequestTarget, String> report = batch.create(Collections.singletonList(target));
+        Assertions.assertFalse(report.isSuccess());
+        Assertions.assertNull(batch.find(target));
+
+        batch.delete(Collections.singletonList(target));
+        Assertions.assertEquals(0, deletes.get());
+    }
+
+    private static List<RequestTarget> targets(int count) {
+        List<RequestTarget> targets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            targets.add(RequestTarget.of("app1", "stack" + i));
+        }
+        return targets;
+    }
+
+    private String uid() {
+        return "request" + nextUid.getAndIncrement();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized okhttp3.Response handle(Request request) throws IOException {
+        List<String> segments = request.url().pathSegments();
+        if (request.method().equals("DELETE")) {
+            deletes.incrementAndGet();
+            boolean existed = open.remove(segments.get(segments.size() - 1)) != null;
+            return StubTransport.json(request, existed ? 200 : 404, "{}");
+        }
+        if (request.method().equals("POST")) {
+            creates.incrementAndGet();
+            pause();
+            Buffer body = new Buffer();
+            request.body().writeTo(body);
+            JSONObject payload = parse(body.readUtf8());
+            String uid = uid();
+            open.put(uid, RequestTarget.of((String) payload.get("app_uid"), (String) payload.get("target_uid")));
+            if (withoutUid) {
+                return StubTransport.json(request, 201, "{\"data\":{}}");
+            }
+            return StubTransport.json(request, 201, "{\"data\":{\"uid\":\"" + uid + "\"}}");
+        }
+        int skip = Integer.parseInt(request.url().queryParameter("skip"));
+        int limit = Integer.parseInt(request.url().queryParameter("limit"));
+        JSONArray data = new JSONArray();
+        List<Map.Entry<String, RequestTarget>> entries = new ArrayList<>(open.entrySet());
+        for (int i = skip; i < Math.min(entries.size(), skip + limit); i++) {
+            JSONObject item = new JSONObject();
+            item.put("uid", entries.get(i).getKey());
+            JSONObject manifest = new JSONObject();
+            manifest.put("uid", entries.get(i).getValue().getAppUid());
+            item.put("manifest", manifest);
+            item.put("target_uid", entries.get(i).getValue().getTargetUid());
+            data.add(item);
+        }
+        JSONObject response = new JSONObject();
+        response.put("data", data);
+        return StubTransport.json(request, 200, response.toJSONString());
+    }
+
+    private static void pause() throws InterruptedIOException {
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+    }
+
+    private static JSONObject parse(String json) throws IOException {
+        try {
+            return (JSONObject) new JSONParser().parse(json);
+        } catch (ParseException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.contentstack.sdk.marketplace.scheduler;
+
+import com.contentstack.sdk.Client;
+import com.contentstack.sdk.TestClient;
+import com.contentstack.sdk.marketplace.apps.App;
+import okhttp3.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.Retrofit;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+@Tag("unit")
+class PrioritySchedulerTest {
+
+    private static final String APP_UID = "APP_ID_8998";
+
+    @Test
+    void testTagAddsPriorityHeader() {
+        App app = Priority.BULK.tag(TestClient.getMarketplace().app(APP_UID));
+        Request request = app.fetchApp().request();
+        Assertions.assertEquals("BULK", request.header(Priority.HEADER));
+    }
+
+    @Test
+    void testPriorityOf() {
+        Assertions.assertEquals(Priority.BULK, Priority.of("bulk"));
+        Assertions.assertEquals(Priority.INTERACTIVE, Priority.of(null));
+        Assertions.assertEquals(Priority.INTERACTIVE, Priority.of("unknown"));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PriorityScheduler(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PriorityScheduler(1, 0));
+    }
+
+    @Test
+    void testInteractiveSkipsAheadOfBulkWithoutStarvingIt() throws Exception {
+        PriorityScheduler scheduler = new PriorityScheduler(1, 2);
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        List<String> leakedHeaders = Collections.synchronizedList(new ArrayList<>());
+        OkHttpClient httpClient = scheduler.install(new OkHttpClient.Builder())
+                .addInterceptor(chain -> {
+                    Request request = chain.request();
+                    if (request.header(Priority.HEADER) != null) {
+                        leakedHeaders.add(request.header(Priority.HEADER));
+                    }
+                    String name = request.url().pathSegments().get(1);
+                    if ("blocker".equals(name)) {
+                        try {
+                            blocker.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            throw new InterruptedIOException();
+                        }
+                    } else {
+                        order.add(name);
+                    }
+                    return new Response.Builder()
+                            .request(request)
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(200).message("OK")
+                            .body(ResponseBody.create("{}", MediaType.get("application/json")))
+                            .build();
+                }).build();
+        Retrofit retrofit = Client.newInstance("api.contentstack.io", httpClient);
+
+        List<Thread> threads = new ArrayList<>();
+        threads.add(start(new App(retrofit, null, "org", "blocker")));
+        waitFor(() -> scheduler.runningCallsCount() == 1);
+        for (int i = 0; i < 3; i++) {
+            threads.add(start(Priority.BULK.tag(new App(retrofit, null, "org", "B"))));
+        }
+        waitFor(() -> scheduler.queuedCallsCount(Priority.BULK) == 3);
+        for (int i = 0; i < 3; i++) {
+            threads.add(start(Priority.INTERACTIVE.tag(new App(retrofit, null, "org", "I"))));
+        }
+        waitFor(() -> scheduler.queuedCallsCount(Priority.INTERACTIVE) == 3);
+        blocker.countDown();
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+
+        Assertions.assertEquals(Arrays.asList("I", "B", "I", "I", "B", "B"), order);
+        Assertions.assertTrue(leakedHeaders.isEmpty());
+        Assertions.assertEquals(0, scheduler.runningCallsCount());
+    }
+
+    @Test
+    void testEnqueuedCallsDoNotTakeAThreadEach() throws Exception {
+        PriorityScheduler scheduler = new PriorityScheduler(2);
+        CountDownLatch release = new CountDownLatch(1);
+        OkHttpClient httpClient = scheduler.install(new OkHttpClient.Builder())
+                .addInterceptor(chain -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    }
+                    return new Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(200).message("OK")
+                            .body(ResponseBody.create("{}", MediaType.get("application/json")))
+                            .build();
+                }).build();
+        Retrofit retrofit = Client.newInstance("api.contentstack.io", httpClient);
+        CountDownLatch done = new CountDownLatch(200);
+        for (int i = 0; i < 200; i++) {
+            Priority.BULK.tag(new App(retrofit, null, "org", "B" + i)).fetchApp()
+                    .enqueue(new retrofit2.Callback<ResponseBody>() {
+                        @Override
+                        public void onResponse(retrofit2.Call<ResponseBody> call,
+                                               retrofit2.Response<ResponseBody> response) {
+                            done.countDown();
+                        }
+
+                        @Override
+                        public void onFailure(retrofit2.Call<ResponseBody> call, Throwable error) {
+                            done.countDown();
+                        }
+                    });
+        }
+        waitFor(() -> scheduler.runningCallsCount() == 2);
+        Assertions.assertTrue(httpClient.dispatcher().runningCallsCount() <= 10);
+        Assertions.assertTrue(httpClient.dispatcher().queuedCallsCount() >= 190);
+        release.countDown();
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        httpClient.dispatcher().executorService().shutdown();
+    }
+
+    private static Thread start(App app) {
+        retrofit2.Call<ResponseBody> call = app.fetchApp();
+        Thread thread = new Thread(() -> {
+            try {
+                call.execute().body().close();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Assertions.assertTrue(condition.getAsBoolean());
+    }
+}
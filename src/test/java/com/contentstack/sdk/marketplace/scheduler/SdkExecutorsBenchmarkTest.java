@@ -0,0 +1,100 @@
+package com.contentstack.sdk.marketplace.scheduler;
+
+import com.contentstack.sdk.Client;
+import com.contentstack.sdk.marketplace.apps.App;
+import okhttp3.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import retrofit2.Retrofit;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Fans out blocking calls, one task per installation, on the SDK per-task executor and on a fixed
+ * platform thread pool. The transport is a stand-in interceptor that holds each call for a fixed latency.
+ * The timings are published to the test report. Run with {@code mvn package -Pbenchmark}, which runs it
+ * against the packaged jar: the virtual-thread executor is a versioned class of the multi-release jar, and
+ * the JDK only picks versioned classes from a jar.
+ */
+@Tag("benchmark")
+class SdkExecutorsBenchmarkTest {
+
+    private static final int INSTALLATIONS = 2000;
+    private static final int POOL_SIZE = 64;
+    private static final long LATENCY_MILLIS = 20;
+
+    @Test
+    void benchmarkPerTaskExecutorAgainstPlatformPool(TestReporter reporter) throws Exception {
+        String source = String.valueOf(SdkExecutors.class.getProtectionDomain().getCodeSource().getLocation());
+        if (javaVersion() >= 21) {
+            Assertions.assertTrue(SdkExecutors.isVirtual(), "SdkExecutors was loaded from " + source
+                    + " without its Java 21 version, run the benchmark with mvn package -Pbenchmark on JDK 21");
+        }
+        Retrofit retrofit = retrofit();
+        ExecutorService perTask = SdkExecutors.newPerTaskExecutor();
+        ExecutorService platform = Executors.newFixedThreadPool(POOL_SIZE);
+        try {
+            // warm up both executors and the client before measuring
+            fanOut(perTask, retrofit);
+            fanOut(platform, retrofit);
+            long perTaskMillis = fanOut(perTask, retrofit);
+            long platformMillis = fanOut(platform, retrofit);
+            reporter.publishEntry("sdkExecutors", source);
+            reporter.publishEntry("virtualThreads", String.valueOf(SdkExecutors.isVirtual()));
+            reporter.publishEntry("perTaskMillis", String.valueOf(perTaskMillis));
+            reporter.publishEntry("fixedPoolMillis", String.valueOf(platformMillis));
+        } finally {
+            perTask.shutdownNow();
+            platform.shutdownNow();
+        }
+    }
+
+    private static long fanOut(ExecutorService executor, Retrofit retrofit) throws Exception {
+        long start = System.nanoTime();
+        List<Future<Integer>> futures = new ArrayList<>(INSTALLATIONS);
+        for (int i = 0; i < INSTALLATIONS; i++) {
+            App app = app(retrofit, "installation" + i);
+            futures.add(executor.submit(() -> {
+                retrofit2.Response<ResponseBody> response = app.fetchApp().execute();
+                response.body().close();
+                return response.code();
+            }));
+        }
+        for (Future<Integer> future : futures) {
+            Assertions.assertEquals(200, future.get(30, TimeUnit.SECONDS));
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static int javaVersion() {
+        String version = System.getProperty("java.specification.version");
+        // 1.8 and older, then 9, 10, ...
+        return version.startsWith("1.") ? Integer.parseInt(version.substring(2)) : Integer.parseInt(version);
+    }
+
+    static App app(Retrofit retrofit, String uid) {
+        return new App(retrofit, null, "org", uid);
+    }
+
+    static Retrofit retrofit() {
+        OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+            try {
+                Thread.sleep(LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200).message("OK")
+                    .body(ResponseBody.create("{}", MediaType.get("application/json")))
+                    .build();
+        }).build();
+        return Client.newInstance("api.contentstack.io", httpClient);
+    }
+}
@@ -0,0 +1,20 @@
+package com.contentstack.sdk.marketplace.scheduler;
+
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+class SdkExecutorsTest {
+
+    @Test
+    void testExecuteCompletesFuture() throws Exception {
+        retrofit2.Response<ResponseBody> response = SdkExecutors.execute(SdkExecutorsBenchmarkTest.app(
+                SdkExecutorsBenchmarkTest.retrofit(), "single").fetchApp()).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(200, response.code());
+        response.body().close();
+    }
+}
@@ -0,0 +1,116 @@
+package com.contentstack.sdk.marketplace.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class TimerWheelTest {
+
+    private final TimerWheel timers = new TimerWheel("test-timers", 1, 2);
+
+    @AfterEach
+    void tearDown() {
+        timers.shutdownNow();
+    }
+
+    @Test
+    void testFiresNotBeforeTheDeadline() throws Exception {
+        int count = 50;
+        CountDownLatch fired = new CountDownLatch(count);
+        AtomicInteger early = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            long delay = i * 7L;
+            long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            timers.schedule(() -> {
+                if (System.nanoTime() < due) {
+                    early.incrementAndGet();
+                }
+                fired.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+        Assertions.assertTrue(fired.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, early.get());
+        Assertions.assertEquals(0, timers.pendingCount());
+    }
+
+    @Test
+    void testCascadesTimersFromTheHigherLevels() throws Exception {
+        // with one millisecond ticks the lowest level spans 256 ms
+        long start = System.nanoTime();
+        ScheduledFuture<Long> late = timers.schedule(() -> System.nanoTime() - start, 700, TimeUnit.MILLISECONDS);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(late.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(elapsed >= 700 && elapsed < 1500, elapsed + " ms");
+    }
+
+    @Test
+    void testCancelRemovesTheTimer() throws Exception {
+        List<ScheduledFuture<?>> futures = new ArrayList<>();
+        AtomicInteger runs = new AtomicInteger();
+        for (int i = 0; i < 100_000; i++) {
+            futures.add(timers.schedule(runs::incrementAndGet, 1000 + i % 5000, TimeUnit.MILLISECONDS));
+        }
+        Assertions.assertEquals(100_000, timers.pendingCount());
+        for (ScheduledFuture<?> future : futures) {
+            future.cancel(false);
+        }
+        Assertions.assertEquals(0, timers.pendingCount());
+        Thread.sleep(50);
+        Assertions.assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testRepeatsWithFixedDelayUntilCancelled() throws Exception {
+        CountDownLatch runs = new CountDownLatch(5);
+        ScheduledFuture<?> repeating = timers.scheduleWithFixedDelay(runs::countDown, 0, 5, TimeUnit.MILLISECONDS);
+        Assertions.assertTrue(runs.await(5, TimeUnit.SECONDS));
+        repeating.cancel(false);
+        Thread.sleep(20);
+        Assertions.assertEquals(0, timers.pendingCount());
+        Assertions.assertTrue(repeating.isCancelled());
+    }
+
+    @Test
+    void testShutdownDropsPendingTimersAndStopsTheThreads() throws Exception {
+        ScheduledFuture<?> pending = timers.schedule(() -> { }, 1, TimeUnit.HOURS);
+        Assertions.assertEquals(1, timers.pendingCount());
+        timers.close();
+        Assertions.assertTrue(pending.isCancelled());
+        Assertions.assertTrue(timers.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(timers.isTerminated());
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> timers.schedule(() -> { }, 1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testLastReleaseShutsTheWheelDown() {
+        ScheduledFuture<?> pending = timers.retain().retain().schedule(() -> { }, 1, TimeUnit.HOURS);
+        timers.release();
+        Assertions.assertFalse(timers.isShutdown());
+        timers.release();
+        Assertions.assertTrue(timers.isShutdown());
+        Assertions.assertTrue(pending.isCancelled());
+        timers.release();
+    }
+
+    @Test
+    void testSharedWheelAndInvalidArguments() {
+        TimerWheel shared = TimerWheel.shared();
+        Assertions.assertSame(shared, TimerWheel.shared());
+        Assertions.assertThrows(UnsupportedOperationException.class, shared::shutdown);
+        Assertions.assertThrows(UnsupportedOperationException.class, shared::shutdownNow);
+        Assertions.assertThrows(UnsupportedOperationException.class, shared::close);
+        Assertions.assertFalse(shared.isShutdown());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TimerWheel("timers", 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TimerWheel("timers", 1, 0));
+    }
+}